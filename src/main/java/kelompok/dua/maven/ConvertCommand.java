@@ -0,0 +1,102 @@
+package kelompok.dua.maven;
+
+import kelompok.dua.maven.model.XtumlModel;
+import kelompok.dua.maven.parser.ModelFormat;
+import kelompok.dua.maven.parser.ModelInputs;
+import kelompok.dua.maven.parser.XtumlModelParser;
+import kelompok.dua.maven.parser.XtumlParseException;
+import kelompok.dua.maven.util.TerminalUtils;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Subcommand untuk mengkonversi file model xTUML antar format (JSON, Smile, CBOR)
+ */
+@Command(name = "convert", description = "Konversi model xTUML ke format lain (default: Smile biner)", mixinStandardHelpOptions = true)
+public class ConvertCommand implements Callable<Integer> {
+
+    @Parameters(index = "0", description = "Path ke file model input (.json, .smile, .cbor, boleh diakhiri .gz)")
+    private String inputFile;
+
+    @Option(names = { "-o",
+            "--output" }, description = "File output (default: nama input dengan ekstensi format tujuan)")
+    private String outputFile;
+
+    @Option(names = { "-t", "--to" }, description = "Format tujuan: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})", defaultValue = "SMILE")
+    private ModelFormat targetFormat;
+
+    @Option(names = { "--format" }, description = "Paksa format input: ${COMPLETION-CANDIDATES} (default: dari ekstensi file)")
+    private ModelFormat inputFormat;
+
+    @Option(names = { "--no-color" }, description = "Disable colored output")
+    private boolean noColor;
+
+    @Override
+    public Integer call() {
+        if (!noColor) {
+            TerminalUtils.enableColors();
+        }
+
+        try {
+            Path inputPath = Paths.get(inputFile);
+            Path outputPath = outputFile != null ? Paths.get(outputFile) : defaultOutputPath(inputPath);
+            if (outputPath.toAbsolutePath().equals(inputPath.toAbsolutePath())) {
+                TerminalUtils.printError("File output tidak boleh sama dengan file input: " + outputPath);
+                return 1;
+            }
+
+            TerminalUtils.printInfo("Converting " + inputPath + " -> " + outputPath + " (" + targetFormat + ")");
+            XtumlModel model = new XtumlModelParser(inputFormat).parseFromFile(inputPath);
+            write(model, outputPath);
+
+            TerminalUtils.printSuccess("Model converted: " + Files.size(inputPath) + " bytes -> "
+                    + Files.size(outputPath) + " bytes");
+            return 0;
+
+        } catch (XtumlParseException e) {
+            TerminalUtils.printError("❌ Parse Error: " + e.getMessage());
+            return 2;
+
+        } catch (IOException e) {
+            TerminalUtils.printError("❌ I/O Error: " + e.getMessage());
+            return 3;
+        }
+    }
+
+    /**
+     * Tulis model ke file sementara lalu pindahkan, agar file tujuan tidak
+     * pernah setengah jadi. Output .gz dikompresi gzip.
+     */
+    private void write(XtumlModel model, Path outputPath) throws IOException {
+        Path parent = outputPath.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempPath = Files.createTempFile(parent, outputPath.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = ModelInputs.isCompressed(outputPath)
+                    ? new GZIPOutputStream(Files.newOutputStream(tempPath))
+                    : Files.newOutputStream(tempPath)) {
+                targetFormat.newMapper().writeValue(out, model);
+            }
+            Files.move(tempPath, outputPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private Path defaultOutputPath(Path inputPath) {
+        String fileName = ModelInputs.uncompressedName(inputPath);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return inputPath.resolveSibling(baseName + targetFormat.getExtension());
+    }
+}
@@ -0,0 +1,105 @@
+package kelompok.dua.maven;
+
+import kelompok.dua.maven.daemon.CompilerDaemon;
+import kelompok.dua.maven.daemon.DaemonClient;
+import kelompok.dua.maven.daemon.DaemonRequest;
+import kelompok.dua.maven.util.TerminalUtils;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Subcommand untuk menjalankan kompiler sebagai daemon. Invocation berikutnya
+ * dengan environment XTUML_DAEMON berisi alamat daemon diteruskan ke sini
+ * sehingga tidak perlu membayar startup JVM dan class loading setiap kali.
+ */
+@Command(name = "daemon", description = "Jalankan kompiler sebagai daemon yang melayani request lewat socket lokal", mixinStandardHelpOptions = true)
+public class DaemonCommand implements Callable<Integer> {
+
+    @Option(names = { "--socket" }, paramLabel = "<path>", description = "Path Unix domain socket (default: di direktori temporary, satu per user)")
+    private String socket;
+
+    @Option(names = { "--port" }, paramLabel = "<n>", description = "Dengarkan di port TCP localhost alih-alih Unix domain socket (dapat diakses semua user lokal)")
+    private Integer port;
+
+    @Option(names = { "--max-requests" }, paramLabel = "<n>", description = "Jumlah request yang dilayani bersamaan (default: jumlah core)")
+    private int maxRequests = Runtime.getRuntime().availableProcessors();
+
+    @Option(names = { "--no-color" }, description = "Disable colored output")
+    private boolean noColor;
+
+    @Override
+    public Integer call() {
+        if (!noColor) {
+            TerminalUtils.enableColors();
+        }
+        if (maxRequests < 1) {
+            TerminalUtils.printError("--max-requests harus bernilai minimal 1: " + maxRequests);
+            return 1;
+        }
+        String address = port != null ? String.valueOf(port) : socket != null ? socket : DaemonClient.defaultSocket();
+
+        try {
+            // Bukan try-with-resources: shutdown hook juga menutup daemon yang sama
+            CompilerDaemon daemon = CompilerDaemon.bind(address, maxRequests, DaemonCommand::compile);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    daemon.close();
+                } catch (IOException e) {
+                    // JVM sedang berhenti; file socket dibersihkan saat daemon berikutnya start
+                }
+            }));
+            try {
+                TerminalUtils.printSuccess("Daemon listening on " + daemon.getAddress() + " (" + maxRequests
+                        + " concurrent requests)");
+                TerminalUtils.printInfo("Use it with: export " + DaemonClient.ENVIRONMENT_VARIABLE + "=" + address);
+                daemon.serve();
+                return 0;
+            } finally {
+                daemon.close();
+            }
+        } catch (IOException e) {
+            TerminalUtils.printError("❌ Daemon Error: " + e.getMessage());
+            return 3;
+        }
+    }
+
+    /**
+     * Jalankan satu request dengan instance CLI baru; hanya cache yang aman
+     * dibagi (statis, thread-safe) yang dipakai bersama antar request
+     */
+    private static int compile(DaemonRequest request, PrintStream out, PrintStream err) {
+        long start = System.nanoTime();
+        int exitCode;
+        if (!DaemonClient.isForwardable(request.arguments().toArray(String[]::new))) {
+            err.println("Argumen ini harus dijalankan tanpa daemon: " + String.join(" ", request.arguments()));
+            exitCode = 1;
+        } else {
+            TerminalUtils.setOutput(out);
+            try {
+                XtumlCompilerCli cli = new XtumlCompilerCli(Paths.get(request.workingDirectory()),
+                        request.environment()::get);
+                exitCode = XtumlCompilerCli.newCommandLine(cli)
+                        .setOut(new PrintWriter(out, true, StandardCharsets.UTF_8))
+                        .setErr(new PrintWriter(err, true, StandardCharsets.UTF_8))
+                        .setColorScheme(CommandLine.Help.defaultColorScheme(request.terminal()
+                                ? CommandLine.Help.Ansi.ON
+                                : CommandLine.Help.Ansi.OFF))
+                        .execute(request.arguments().toArray(String[]::new));
+            } finally {
+                TerminalUtils.resetOutput();
+            }
+        }
+        TerminalUtils.printInfo(String.format(Locale.ROOT, "%s -> exit %d (%d ms)",
+                String.join(" ", request.arguments()), exitCode, (System.nanoTime() - start) / 1_000_000));
+        return exitCode;
+    }
+}
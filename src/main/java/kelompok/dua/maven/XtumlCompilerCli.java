@@ -1,40 +1,68 @@
 package kelompok.dua.maven;
 
+import kelompok.dua.maven.generator.ArchiveOutputSink;
+import kelompok.dua.maven.generator.FileWriterPipeline;
+import kelompok.dua.maven.generator.GenerationResult;
 import kelompok.dua.maven.generator.TypeScriptGenerator;
 import kelompok.dua.maven.model.XtumlModel;
+import kelompok.dua.maven.parser.ModelCompactor;
+import kelompok.dua.maven.parser.ModelDiagnostic;
+import kelompok.dua.maven.parser.ModelFormat;
+import kelompok.dua.maven.parser.ModelInputs;
 import kelompok.dua.maven.parser.XtumlModelParser;
 import kelompok.dua.maven.parser.XtumlParseException;
+import kelompok.dua.maven.parser.XtumlValidationException;
+import kelompok.dua.maven.snapshot.ModelSnapshotReader;
+import kelompok.dua.maven.snapshot.ModelSnapshotWriter;
+import kelompok.dua.maven.util.FileWatcher;
+import kelompok.dua.maven.util.HeaderGenerator;
 import kelompok.dua.maven.util.TerminalUtils;
+import kelompok.dua.maven.util.TypeScriptUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ch.qos.logback.classic.Level;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Parameters;
+import picocli.CommandLine.Spec;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * CLI Application untuk mengkompilasi model xTUML dari JSON ke TypeScript
  */
-@Command(name = "xtuml-ts-compiler", description = "Kompiler untuk mengkonversi model xTUML dari JSON ke TypeScript", version = "1.1.0", mixinStandardHelpOptions = true)
+@Command(name = "xtuml-ts-compiler", description = "Kompiler untuk mengkonversi model xTUML dari JSON ke TypeScript", version = "1.1.0", mixinStandardHelpOptions = true, subcommands = { ConvertCommand.class, DaemonCommand.class })
 public class XtumlCompilerCli implements Callable<Integer> {
     private static final Logger logger = LoggerFactory.getLogger(XtumlCompilerCli.class);
 
-    @Parameters(index = "0", description = "Path ke file JSON input yang berisi model xTUML")
+    @Spec
+    private CommandSpec spec;
+
+    @Parameters(index = "0", arity = "0..1", description = "Path ke file model (.json, .smile, .cbor, boleh diakhiri .gz), direktori/glob berisi file domain, atau '-' untuk stdin")
     private String inputFile;
 
     @Option(names = { "-o",
             "--output" }, description = "Direktori output untuk file TypeScript yang dihasilkan (default: ./output)", defaultValue = "./output")
     private String outputDir;
 
+    @Option(names = { "--output-archive" }, paramLabel = "<file>", description = "Tulis seluruh output ke satu arsip (.zip, .tar, .tar.gz/.tgz) alih-alih direktori; entry terurut dan deterministik")
+    private String outputArchive;
+
     @Option(names = { "-d", "--debug" }, description = "Enable debug logging")
     private boolean debug;
 
@@ -47,18 +75,139 @@ public class XtumlCompilerCli implements Callable<Integer> {
     @Option(names = { "--no-color" }, description = "Disable colored output")
     private boolean noColor;
 
+    @Option(names = { "--snapshot" }, description = "Simpan dan gunakan ulang snapshot biner (.xtmc) di samping file input")
+    private boolean snapshot;
+
+    @Option(names = { "--domain" }, paramLabel = "<name>", description = "Generate hanya domain ini (dapat diulang); domain lain dilewati saat parsing")
+    private List<String> domainFilter;
+
+    @Option(names = { "--format" }, description = "Paksa format input: ${COMPLETION-CANDIDATES} (default: dari ekstensi file atau header stdin)")
+    private ModelFormat inputFormat;
+
+    @Option(names = { "--threads" }, paramLabel = "<n>", description = "Jumlah thread untuk generate class (default: jumlah core, 1 = serial)")
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    @Option(names = { "--writers" }, paramLabel = "<n>", description = "Jumlah thread penulis file yang berjalan paralel dengan generate (default: 2)")
+    private int writers = 2;
+
+    @Option(names = { "--skip-unchanged" }, description = "Jangan tulis ulang file yang isinya tidak berubah (mtime tetap); file lama dihapus setelah generate, bukan sebelumnya")
+    private boolean skipUnchanged;
+
+    @Option(names = { "--reproducible" }, description = "Output identik byte per byte untuk input yang sama: tanpa timestamp di header (atau timestamp dari SOURCE_DATE_EPOCH)")
+    private boolean reproducible;
+
+    @Option(names = { "--incremental" }, description = "Simpan manifest build di direktori output dan hanya generate ulang class yang berubah (beserta turunannya)")
+    private boolean incremental;
+
+    @Option(names = { "--watch" }, description = "Pantau file input dan kompilasi ulang setiap kali berubah (mengaktifkan --incremental)")
+    private boolean watch;
+
+    @Option(names = { "--debounce" }, paramLabel = "<ms>", description = "Jeda tanpa perubahan sebelum --watch mengkompilasi ulang (default: 100)")
+    private long debounceMillis = 100;
+
+    private String snapshotStatus;
+    private XtumlModelParser parser;
+    private boolean fromSnapshot;
+
+    // Diisi untuk request dari client daemon: path relatif dan environment milik client
+    private final Path workingDirectory;
+    private final Function<String, String> environment;
+
+    public XtumlCompilerCli() {
+        this(null, System::getenv);
+    }
+
+    /**
+     * @param workingDirectory direktori untuk me-resolve path relatif, atau null untuk direktori kerja proses
+     * @param environment      sumber environment variable (mis. SOURCE_DATE_EPOCH)
+     */
+    public XtumlCompilerCli(Path workingDirectory, Function<String, String> environment) {
+        this.workingDirectory = workingDirectory;
+        this.environment = environment;
+    }
+
     public static void main(String[] args) {
         // Set root logger to OFF by default
         ch.qos.logback.classic.Logger rootLogger = (ch.qos.logback.classic.Logger) LoggerFactory
                 .getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
         rootLogger.setLevel(Level.OFF);
 
-        int exitCode = new CommandLine(new XtumlCompilerCli()).execute(args);
+        int exitCode = newCommandLine(new XtumlCompilerCli()).execute(args);
         System.exit(exitCode);
     }
 
+    /**
+     * CommandLine dengan konfigurasi standar CLI ini
+     */
+    static CommandLine newCommandLine(XtumlCompilerCli cli) {
+        return new CommandLine(cli).setCaseInsensitiveEnumValuesAllowed(true);
+    }
+
     @Override
     public Integer call() throws Exception {
+        // Input bersifat opsional hanya agar subcommand dapat dipanggil tanpanya
+        if (inputFile == null) {
+            throw new ParameterException(spec.commandLine(), "Missing required parameter: '<inputFile>'");
+        }
+        if (threads < 1) {
+            throw new ParameterException(spec.commandLine(), "--threads harus bernilai minimal 1: " + threads);
+        }
+        if (writers < 1) {
+            throw new ParameterException(spec.commandLine(), "--writers harus bernilai minimal 1: " + writers);
+        }
+        if (workingDirectory != null) {
+            if (ModelInputs.isStdin(inputFile) || watch) {
+                throw new ParameterException(spec.commandLine(), "stdin dan --watch tidak didukung melalui daemon");
+            }
+            inputFile = resolveAgainstWorkingDirectory(inputFile);
+            outputDir = resolveAgainstWorkingDirectory(outputDir);
+            if (outputArchive != null) {
+                outputArchive = resolveAgainstWorkingDirectory(outputArchive);
+            }
+        }
+        if (outputArchive != null) {
+            if (ArchiveOutputSink.Format.fromPath(Paths.get(outputArchive)) == null) {
+                throw new ParameterException(spec.commandLine(),
+                        "--output-archive harus berakhiran .zip, .tar, .tar.gz, atau .tgz: " + outputArchive);
+            }
+            if (watch || incremental || skipUnchanged || (domainFilter != null && !domainFilter.isEmpty())) {
+                throw new ParameterException(spec.commandLine(),
+                        "--output-archive tidak dapat digunakan bersama --watch, --incremental, --skip-unchanged, atau --domain");
+            }
+        }
+        Long sourceDateEpoch;
+        try {
+            sourceDateEpoch = HeaderGenerator.parseSourceDateEpoch(environment.apply("SOURCE_DATE_EPOCH"));
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException(spec.commandLine(), e.getMessage());
+        }
+        if (watch) {
+            if (ModelInputs.isStdin(inputFile)) {
+                throw new ParameterException(spec.commandLine(), "--watch tidak dapat digunakan dengan input dari stdin");
+            }
+            if (debounceMillis < 0) {
+                throw new ParameterException(spec.commandLine(), "--debounce tidak boleh negatif: " + debounceMillis);
+            }
+            // Rebuild tidak membersihkan output; hanya file yang terdampak yang ditulis ulang
+            if (domainFilter != null && !domainFilter.isEmpty()) {
+                skipUnchanged = true;
+            } else {
+                incremental = true;
+            }
+        }
+
+        int exitCode = compile(sourceDateEpoch);
+        if (watch && (exitCode == 0 || exitCode == 2)) {
+            // Model yang belum valid tetap dipantau agar perbaikannya langsung dikompilasi
+            return watch(sourceDateEpoch);
+        }
+        return exitCode;
+    }
+
+    /**
+     * Satu kali kompilasi lengkap: validasi input, siapkan output, parse, dan generate
+     */
+    private int compile(Long sourceDateEpoch) {
         Instant startTime = Instant.now();
 
         try {
@@ -71,57 +220,115 @@ public class XtumlCompilerCli implements Callable<Integer> {
             TerminalUtils.printBanner("xTUML TypeScript Compiler", "v1.1.0");
 
             // Setup logging level
-            if (debug) {
+            if (debug && workingDirectory == null) {
                 ch.qos.logback.classic.Logger rootLogger = (ch.qos.logback.classic.Logger) LoggerFactory
                         .getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
                 rootLogger.setLevel(Level.DEBUG);
                 TerminalUtils.printInfo("Debug mode enabled");
+            } else if (debug) {
+                // Level log bersifat global di JVM daemon; jangan ubah untuk satu request
+                TerminalUtils.printInfo("Debug mode enabled (log level follows the daemon)");
             }
 
             TerminalUtils.printInfo("Input: " + inputFile);
-            TerminalUtils.printInfo("Output: " + outputDir);
+            TerminalUtils.printInfo("Output: " + (outputArchive != null ? outputArchive : outputDir));
             TerminalUtils.printSeparator();
 
             // Validasi input file
             TerminalUtils.printInfo("Validating input file...");
-            Path inputPath = Paths.get(inputFile);
-            if (!Files.exists(inputPath)) {
-                TerminalUtils.printError("File input tidak ditemukan: " + inputFile);
+            boolean stdin = ModelInputs.isStdin(inputFile);
+            boolean multiFile = !stdin && ModelInputs.isMultiFile(inputFile);
+            if (!multiFile && !stdin) {
+                Path inputPath = Paths.get(inputFile);
+                if (!Files.exists(inputPath)) {
+                    TerminalUtils.printError("File input tidak ditemukan: " + inputFile);
+                    return 1;
+                }
+
+                if (!Files.isRegularFile(inputPath)) {
+                    TerminalUtils.printError("Path input bukan file: " + inputFile);
+                    return 1;
+                }
+            }
+
+            List<Path> inputPaths = stdin ? List.of() : ModelInputs.resolve(inputFile);
+            if (!stdin && inputPaths.isEmpty()) {
+                TerminalUtils.printError("Tidak ada file model yang cocok dengan input: " + inputFile);
                 return 1;
             }
+            if (stdin) {
+                TerminalUtils.printSuccess("Reading model from standard input");
+            } else {
+                TerminalUtils.printSuccess(multiFile
+                        ? "Input validated: " + inputPaths.size() + " model files"
+                        : "Input file validated");
+            }
 
-            if (!Files.isRegularFile(inputPath)) {
-                TerminalUtils.printError("Path input bukan file: " + inputFile);
+            boolean selective = domainFilter != null && !domainFilter.isEmpty();
+            if (selective && (multiFile || stdin)) {
+                TerminalUtils.printError("--domain hanya didukung untuk input satu file JSON");
                 return 1;
             }
-            TerminalUtils.printSuccess("Input file validated");
 
-            // Setup output directory
-            TerminalUtils.printInfo("Setting up output directory...");
             Path outputPath = Paths.get(outputDir);
-            if (Files.exists(outputPath)) {
-                if (!Files.isDirectory(outputPath)) {
-                    TerminalUtils.printError("Path output bukan direktori: " + outputDir);
-                    return 1;
-                }
+            if (outputArchive == null) {
+                // Setup output directory
+                TerminalUtils.printInfo("Setting up output directory...");
+                if (Files.exists(outputPath)) {
+                    if (!Files.isDirectory(outputPath)) {
+                        TerminalUtils.printError("Path output bukan direktori: " + outputDir);
+                        return 1;
+                    }
 
-                if (hasFiles(outputPath)) {
-                    TerminalUtils.printWarning("Cleaning output directory...");
-                    deleteDirectoryContents(outputPath);
-                    TerminalUtils.printSuccess("Output directory cleaned");
+                    if (incremental && !selective) {
+                        // File yatim dihapus generator berdasarkan manifest
+                        TerminalUtils.printInfo("Keeping existing output for incremental build");
+                    } else if (skipUnchanged) {
+                        // File lama dihapus oleh generator setelah generate
+                        TerminalUtils.printInfo("Keeping existing output, unchanged files will be skipped");
+                    } else if (selective) {
+                        // Hanya bersihkan direktori domain yang akan di-generate ulang
+                        for (String domainName : domainFilter) {
+                            Path domainDir = outputPath.resolve(TypeScriptUtils.toKebabCase(domainName));
+                            if (Files.isDirectory(domainDir) && hasFiles(domainDir)) {
+                                deleteDirectoryContents(domainDir);
+                            }
+                        }
+                    } else if (hasFiles(outputPath)) {
+                        TerminalUtils.printWarning("Cleaning output directory...");
+                        deleteDirectoryContents(outputPath);
+                        TerminalUtils.printSuccess("Output directory cleaned");
+                    }
                 }
+                TerminalUtils.printSuccess("Output directory ready");
+            }
+
+            if (incremental && selective) {
+                TerminalUtils.printWarning("--incremental tidak digunakan bersama --domain, diabaikan");
+                incremental = false;
+            }
+            if ((multiFile || stdin) && snapshot) {
+                TerminalUtils.printWarning("--snapshot hanya berlaku untuk input satu file, diabaikan");
+            } else if (selective && snapshot) {
+                TerminalUtils.printWarning("--snapshot tidak digunakan bersama --domain, diabaikan");
             }
-            TerminalUtils.printSuccess("Output directory ready");
 
             // Parse model
             TerminalUtils.printInfo("Parsing xTUML model...");
             TerminalUtils.showProgress("Parsing", 0);
 
-            XtumlModelParser parser = new XtumlModelParser();
-            XtumlModel model = parser.parseFromFile(inputPath);
+            parser = new XtumlModelParser(inputFormat);
+            parser.setReuseUnchangedFiles(watch);
+            XtumlModel model = parseModel(inputPaths, stdin, multiFile, selective);
 
             TerminalUtils.showProgress("Parsing", 100);
             TerminalUtils.printSuccess("Model successfully parsed");
+            if (snapshotStatus != null) {
+                TerminalUtils.printInfo(snapshotStatus);
+            }
+            for (ModelDiagnostic diagnostic : parser.getDiagnostics()) {
+                printDiagnostic("", diagnostic);
+            }
             TerminalUtils.printInfo("  System: " + model.getSystemName() + " v" + model.getVersion());
             TerminalUtils.printInfo("  Domains: " + model.getDomains().size());
 
@@ -129,40 +336,263 @@ public class XtumlCompilerCli implements Callable<Integer> {
             TerminalUtils.printSeparator();
             TerminalUtils.printInfo("Generating TypeScript files...");
 
-            TypeScriptGenerator generator = new TypeScriptGenerator(model, outputPath);
-            generator.generateAll();
+            TypeScriptGenerator generator = newGenerator(model, outputPath, sourceDateEpoch);
+            GenerationResult result;
+            ArchiveOutputSink archiveSink = null;
+            if (outputArchive != null) {
+                archiveSink = new ArchiveOutputSink(Paths.get(outputArchive),
+                        ArchiveOutputSink.Format.fromPath(Paths.get(outputArchive)),
+                        sourceDateEpoch != null ? sourceDateEpoch : ArchiveOutputSink.DEFAULT_TIMESTAMP);
+                try {
+                    result = generator.generate(archiveSink);
+                    archiveSink.close();
+                } catch (Exception e) {
+                    // Generate yang gagal tidak boleh meninggalkan arsip setengah jadi
+                    archiveSink.discard();
+                    throw e;
+                }
+            } else {
+                result = selective ? generator.generateDomains(domainFilter) : generator.generateAll();
+            }
 
             TerminalUtils.printSuccess("TypeScript generation completed!");
+            if (archiveSink != null) {
+                TerminalUtils.printInfo("Archive: " + result.getFileCount() + " files, "
+                        + archiveSink.getArchiveBytes() + " bytes (" + archiveSink.getFormat() + ")");
+            }
+            if (incremental) {
+                TerminalUtils.printInfo("Incremental: " + describeFiles(generator));
+            } else if (skipUnchanged) {
+                TerminalUtils.printInfo("Files: " + describeFiles(generator));
+            }
+            if (debug) {
+                TerminalUtils.printInfo("Generator: " + result);
+                if (archiveSink == null) {
+                    TerminalUtils.printInfo("Writer: " + generator.getWriterMetrics());
+                } else {
+                    TerminalUtils.printInfo("Archive buffer: max " + archiveSink.getMaxPendingEntries()
+                            + " entries waiting (" + archiveSink.getMaxPendingBytes() + " bytes)");
+                }
+            }
+            for (ModelDiagnostic diagnostic : generator.getDiagnostics()) {
+                printDiagnostic("", diagnostic);
+            }
 
             // Calculate execution time
             Duration duration = Duration.between(startTime, Instant.now());
 
             // Print beautiful summary
-            printBeautifulSummary(model, outputPath, duration);
+            printBeautifulSummary(model, result, outputArchive != null ? Paths.get(outputArchive) : outputPath,
+                    duration);
 
             return 0;
 
-        } catch (XtumlParseException e) {
+        } catch (Exception e) {
+            return reportFailure(e);
+        }
+    }
+
+    /**
+     * Tampilkan satu diagnostic sesuai tingkat keparahannya
+     */
+    private static void printDiagnostic(String indent, ModelDiagnostic diagnostic) {
+        switch (diagnostic.getSeverity()) {
+            case ERROR -> TerminalUtils.printError(indent + diagnostic);
+            case WARNING -> TerminalUtils.printWarning(indent + diagnostic);
+            default -> TerminalUtils.printInfo(indent + diagnostic);
+        }
+    }
+
+    /**
+     * Tampilkan error kompilasi dan kembalikan exit code yang sesuai
+     */
+    private int reportFailure(Exception exception) {
+        if (exception instanceof XtumlValidationException e) {
+            TerminalUtils.printError("❌ Validation Error: " + e.getErrorCount() + " error(s) in model");
+            for (ModelDiagnostic diagnostic : e.getDiagnostics()) {
+                printDiagnostic("  ", diagnostic);
+            }
+            return 2;
+        }
+        if (exception instanceof XtumlParseException e) {
             TerminalUtils.printError("❌ Parse Error: " + e.getMessage());
             if (debug && e.getCause() != null) {
                 TerminalUtils.printError("Cause: " + e.getCause().getMessage());
             }
             return 2;
-
-        } catch (IOException e) {
-            TerminalUtils.printError("❌ I/O Error: " + e.getMessage());
+        }
+        if (exception instanceof IOException) {
+            TerminalUtils.printError("❌ I/O Error: " + exception.getMessage());
             if (debug) {
-                TerminalUtils.printError("Details: " + e.toString());
+                TerminalUtils.printError("Details: " + exception);
             }
             return 3;
+        }
+        TerminalUtils.printError("❌ Unexpected Error: " + exception.getMessage());
+        if (debug) {
+            TerminalUtils.printError("Details: " + exception);
+        }
+        return 4;
+    }
+
+    /**
+     * Pantau file input dan kompilasi ulang setiap kali berubah. Parser (beserta
+     * cache fragmen per file) dan JVM yang sudah panas dipakai ulang sehingga satu
+     * siklus hanya membayar parse file yang berubah dan generate class yang terdampak.
+     * Berjalan sampai proses dihentikan.
+     */
+    private int watch(Long sourceDateEpoch) {
+        boolean multiFile = ModelInputs.isMultiFile(inputFile);
+        boolean selective = domainFilter != null && !domainFilter.isEmpty();
+        Path outputPath = Paths.get(outputDir).toAbsolutePath().normalize();
+        Path inputPath = multiFile ? null : Paths.get(inputFile).toAbsolutePath().normalize();
+        // Output (termasuk manifest .json) tidak boleh memicu rebuild walaupun berada di bawah direktori input
+        Predicate<Path> relevant = path -> !path.startsWith(outputPath)
+                && (inputPath == null ? ModelInputs.isModelFile(path) : path.equals(inputPath));
+        Path baseDirectory = ModelInputs.baseDirectory(inputFile);
+
+        try (FileWatcher watcher = new FileWatcher(List.of(baseDirectory), ModelInputs.isGlob(inputFile), relevant,
+                Duration.ofMillis(debounceMillis))) {
+            TerminalUtils.printSeparator();
+            TerminalUtils.printInfo("Watching " + baseDirectory + " for changes (Ctrl+C to stop)");
+            while (true) {
+                Set<Path> changed = watcher.awaitChanges();
+                rebuild(changed, outputPath, multiFile, selective, sourceDateEpoch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (IOException e) {
+            return reportFailure(e);
+        }
+    }
+
+    /**
+     * Satu siklus --watch; error dilaporkan tanpa menghentikan pemantauan
+     */
+    private void rebuild(Set<Path> changed, Path outputPath, boolean multiFile, boolean selective,
+            Long sourceDateEpoch) {
+        TerminalUtils.printSeparator();
+        Path first = changed.iterator().next();
+        TerminalUtils.printInfo("Changed: " + first.getFileName()
+                + (changed.size() > 1 ? " (+" + (changed.size() - 1) + " more)" : ""));
+        long start = System.nanoTime();
+        try {
+            List<Path> inputPaths = ModelInputs.resolve(inputFile);
+            if (inputPaths.isEmpty()) {
+                TerminalUtils.printError("Tidak ada file model yang cocok dengan input: " + inputFile);
+                return;
+            }
+            fromSnapshot = false;
+            snapshotStatus = null;
+            XtumlModel model = parseModel(inputPaths, false, multiFile, selective);
+            long parsed = System.nanoTime();
+            for (ModelDiagnostic diagnostic : parser.getDiagnostics()) {
+                printDiagnostic("", diagnostic);
+            }
 
+            TypeScriptGenerator generator = newGenerator(model, outputPath, sourceDateEpoch);
+            GenerationResult result = selective ? generator.generateDomains(domainFilter) : generator.generateAll();
+            long generated = System.nanoTime();
+            for (ModelDiagnostic diagnostic : result.getDiagnostics()) {
+                printDiagnostic("", diagnostic);
+            }
+            TerminalUtils.printSuccess(String.format(Locale.ROOT, "Rebuilt in %d ms (parse %d ms, generate %d ms): %s",
+                    (generated - start) / 1_000_000, (parsed - start) / 1_000_000,
+                    (generated - parsed) / 1_000_000, describeFiles(generator)));
         } catch (Exception e) {
-            TerminalUtils.printError("❌ Unexpected Error: " + e.getMessage());
-            if (debug) {
-                TerminalUtils.printError("Details: " + e.toString());
+            reportFailure(e);
+            TerminalUtils.printWarning("Rebuild failed after " + (System.nanoTime() - start) / 1_000_000
+                    + " ms, waiting for changes...");
+        }
+    }
+
+    /**
+     * Parse model sesuai jenis input. Dalam mode --watch model tidak dikompak
+     * karena hanya dipakai satu siklus dan dapat berbagi fragmen dengan cache parser.
+     */
+    private XtumlModel parseModel(List<Path> inputPaths, boolean stdin, boolean multiFile, boolean selective)
+            throws XtumlParseException {
+        XtumlModel model;
+        if (stdin) {
+            model = parser.parseFromStream(System.in);
+        } else if (multiFile) {
+            model = parser.parseFromFiles(inputPaths);
+        } else if (selective) {
+            model = parser.parseDomains(inputPaths.get(0), domainFilter);
+        } else {
+            model = loadModel(inputPaths.get(0));
+        }
+        if (!fromSnapshot && !watch) {
+            // Model dari snapshot sudah berbagi string lewat string table dan dimuat lazy
+            new ModelCompactor().compact(model);
+        }
+        return model;
+    }
+
+    private TypeScriptGenerator newGenerator(XtumlModel model, Path outputPath, Long sourceDateEpoch) {
+        TypeScriptGenerator generator = new TypeScriptGenerator(model, outputPath);
+        generator.setThreads(threads);
+        generator.setWriterThreads(writers);
+        generator.setSkipUnchanged(skipUnchanged);
+        generator.setReproducible(reproducible);
+        generator.setSourceDateEpoch(sourceDateEpoch);
+        generator.setIncremental(incremental);
+        return generator;
+    }
+
+    /**
+     * Ringkasan file hasil generate untuk mode --incremental atau --skip-unchanged
+     */
+    private String describeFiles(TypeScriptGenerator generator) {
+        FileWriterPipeline.Metrics metrics = generator.getWriterMetrics();
+        if (incremental) {
+            return (metrics.getFiles() + metrics.getSkipped()) + " regenerated, " + generator.getReusedFiles()
+                    + " reused, " + generator.getDeletedFiles() + " deleted";
+        }
+        return metrics.getFiles() + " written, " + metrics.getSkipped() + " unchanged, "
+                + generator.getDeletedFiles() + " deleted";
+    }
+
+    /**
+     * Muat model dari snapshot jika masih segar, atau parse ulang lalu perbarui snapshot
+     */
+    private XtumlModel loadModel(Path inputPath) throws XtumlParseException {
+        if (!snapshot) {
+            return parser.parseFromFile(inputPath);
+        }
+
+        Path snapshotPath = ModelSnapshotWriter.snapshotPathFor(inputPath);
+        if (ModelSnapshotReader.isFresh(snapshotPath, inputPath)) {
+            try {
+                XtumlModel model = ModelSnapshotReader.load(snapshotPath);
+                snapshotStatus = "Loaded snapshot: " + snapshotPath;
+                fromSnapshot = true;
+                return model;
+            } catch (IOException e) {
+                TerminalUtils.printWarning("Snapshot tidak dapat dimuat, parsing ulang: " + e.getMessage());
             }
-            return 4;
         }
+
+        XtumlModel model = parser.parseFromFile(inputPath);
+        try {
+            ModelSnapshotWriter.write(model, inputPath, snapshotPath);
+            snapshotStatus = "Snapshot updated: " + snapshotPath;
+        } catch (IOException e) {
+            TerminalUtils.printWarning("Gagal menulis snapshot: " + e.getMessage());
+        }
+        return model;
+    }
+
+    /**
+     * Resolve path (atau glob) relatif terhadap direktori kerja client daemon.
+     * Memakai File agar karakter glob tidak divalidasi sebagai Path.
+     */
+    private String resolveAgainstWorkingDirectory(String path) {
+        if (new File(path).isAbsolute()) {
+            return path;
+        }
+        return workingDirectory + File.separator + path;
     }
 
     /**
@@ -191,7 +621,7 @@ public class XtumlCompilerCli implements Callable<Integer> {
     /**
      * Print beautiful summary hasil kompilasi
      */
-    private void printBeautifulSummary(XtumlModel model, Path outputPath, Duration duration) throws IOException {
+    private void printBeautifulSummary(XtumlModel model, GenerationResult result, Path outputPath, Duration duration) {
         TerminalUtils.printSeparator();
         TerminalUtils.printHeader("COMPILATION SUMMARY");
 
@@ -219,12 +649,6 @@ public class XtumlCompilerCli implements Callable<Integer> {
                     smCount + " state machines");
         }
 
-        // Count generated files
-        long fileCount = Files.walk(outputPath)
-                .filter(Files::isRegularFile)
-                .filter(path -> path.toString().endsWith(".ts"))
-                .count();
-
         TerminalUtils.printSeparator();
         TerminalUtils.printSuccess("GENERATION COMPLETE");
         TerminalUtils.printInfo("Total Statistics:");
@@ -232,7 +656,7 @@ public class XtumlCompilerCli implements Callable<Integer> {
         TerminalUtils.printInfo("   - Classes: " + totalClasses);
         TerminalUtils.printInfo("   - Relationships: " + totalRelationships);
         TerminalUtils.printInfo("   - State Machines: " + totalStateMachines);
-        TerminalUtils.printInfo("   - Generated Files: " + fileCount);
+        TerminalUtils.printInfo("   - Generated Files: " + result.getFileCount());
         TerminalUtils.printInfo("Execution Time: " + formatDuration(duration));
         TerminalUtils.printInfo("Output Location: " + outputPath.toAbsolutePath());
 
@@ -0,0 +1,25 @@
+package kelompok.dua.maven;
+
+import kelompok.dua.maven.daemon.DaemonClient;
+
+/**
+ * Entry point jar. Jika XTUML_DAEMON diset dan daemon dapat dihubungi, argumen
+ * diteruskan ke daemon tanpa memuat picocli, logback, atau Jackson di proses ini;
+ * jika tidak, kompilasi dijalankan di proses sendiri seperti biasa.
+ */
+public final class XtumlCompilerLauncher {
+
+    private XtumlCompilerLauncher() {
+    }
+
+    public static void main(String[] args) {
+        String daemon = System.getenv(DaemonClient.ENVIRONMENT_VARIABLE);
+        if (daemon != null && !daemon.isBlank() && DaemonClient.isForwardable(args)) {
+            int exitCode = DaemonClient.forward(daemon, args);
+            if (exitCode != DaemonClient.NOT_HANDLED) {
+                System.exit(exitCode);
+            }
+        }
+        XtumlCompilerCli.main(args);
+    }
+}
@@ -0,0 +1,53 @@
+package kelompok.dua.maven.daemon;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Membuang escape sequence ANSI (ESC [ ... huruf) dari output, seperti yang
+ * dilakukan AnsiConsole ketika output tidak menuju terminal. Dipakai untuk
+ * client daemon yang output-nya di-redirect ke file atau pipe.
+ */
+final class AnsiStripOutputStream extends FilterOutputStream {
+    private static final int TEXT = 0;
+    private static final int ESCAPE = 1;
+    private static final int SEQUENCE = 2;
+
+    private int state = TEXT;
+
+    AnsiStripOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        byte[] result = new byte[len];
+        int size = 0;
+        for (int i = off; i < off + len; i++) {
+            int value = b[i] & 0xff;
+            switch (state) {
+                case TEXT -> {
+                    if (value == 0x1b) {
+                        state = ESCAPE;
+                    } else {
+                        result[size++] = b[i];
+                    }
+                }
+                case ESCAPE -> state = value == '[' ? SEQUENCE : TEXT;
+                default -> {
+                    // Parameter dan intermediate byte dilewati sampai final byte (0x40-0x7e)
+                    if (value >= 0x40 && value <= 0x7e) {
+                        state = TEXT;
+                    }
+                }
+            }
+        }
+        out.write(result, 0, size);
+    }
+}
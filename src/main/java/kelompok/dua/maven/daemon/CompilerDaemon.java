@@ -0,0 +1,191 @@
+package kelompok.dua.maven.daemon;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server kompilasi berumur panjang. Menerima request lewat Unix domain socket
+ * (atau port TCP di localhost) dan menjalankannya secara konkuren di JVM yang
+ * sama, sehingga biaya startup JVM, class loading, dan JIT hanya dibayar sekali
+ * dan cache bersama (ObjectMapper, NameCache) tetap panas antar request.
+ */
+public final class CompilerDaemon implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(CompilerDaemon.class);
+
+    /**
+     * Menjalankan satu request; output harus ditulis ke out/err, bukan System.out
+     */
+    @FunctionalInterface
+    public interface Handler {
+        int handle(DaemonRequest request, PrintStream out, PrintStream err) throws Exception;
+    }
+
+    private final ServerSocketChannel server;
+    private final SocketAddress address;
+    private final Handler handler;
+    private final ExecutorService workers;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile boolean closed;
+
+    private CompilerDaemon(ServerSocketChannel server, SocketAddress address, Handler handler, int maxConcurrent) {
+        this.server = server;
+        this.address = address;
+        this.handler = handler;
+        AtomicInteger ids = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(maxConcurrent, runnable -> {
+            Thread thread = new Thread(runnable, "xtuml-daemon-" + ids.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Buka socket daemon. Socket Unix yang tertinggal dari daemon yang sudah mati
+     * dihapus; jika masih ada daemon yang melayani, bind gagal.
+     *
+     * @param spec          path Unix domain socket, atau nomor port untuk TCP di localhost
+     * @param maxConcurrent jumlah request yang dilayani bersamaan (minimal 1)
+     */
+    public static CompilerDaemon bind(String spec, int maxConcurrent, Handler handler) throws IOException {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Jumlah request konkuren minimal 1: " + maxConcurrent);
+        }
+        SocketAddress address = DaemonProtocol.address(spec);
+        if (address instanceof UnixDomainSocketAddress unix && Files.exists(unix.getPath())) {
+            if (DaemonClient.isRunning(spec)) {
+                throw new IOException("Daemon lain sudah berjalan di " + spec);
+            }
+            Files.delete(unix.getPath());
+        }
+
+        ServerSocketChannel server = ServerSocketChannel.open(DaemonProtocol.family(address));
+        try {
+            server.bind(address);
+            if (address instanceof UnixDomainSocketAddress unix) {
+                restrictToOwner(unix.getPath());
+            }
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        logger.info("Daemon mendengarkan di {}", address);
+        return new CompilerDaemon(server, server.getLocalAddress(), handler, maxConcurrent);
+    }
+
+    /**
+     * Socket hanya boleh diakses pemiliknya karena daemon menulis file atas nama user ini
+     */
+    private static void restrictToOwner(Path socket) throws IOException {
+        try {
+            Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            logger.debug("Permission POSIX tidak didukung untuk {}", socket);
+        }
+    }
+
+    public SocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Jumlah request yang sudah diterima
+     */
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Terima koneksi sampai daemon ditutup
+     */
+    public void serve() throws IOException {
+        while (!closed) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            }
+            requests.incrementAndGet();
+            workers.execute(() -> handle(channel));
+        }
+    }
+
+    private void handle(SocketChannel channel) {
+        try (channel) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DaemonRequest request = DaemonProtocol.readRequest(in);
+            if (request == null) {
+                logger.warn("Request dengan protokol tidak dikenal ditolak");
+                DaemonProtocol.writeExit(out, DaemonProtocol.NOT_HANDLED);
+                return;
+            }
+
+            PrintStream stdout = printStream(new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.STDOUT), request);
+            PrintStream stderr = printStream(new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.STDERR), request);
+            int exitCode;
+            try {
+                exitCode = handler.handle(request, stdout, stderr);
+            } catch (Exception e) {
+                logger.error("Request gagal: {}", e.getMessage(), e);
+                stderr.println("Daemon error: " + e);
+                exitCode = 4;
+            }
+            stdout.flush();
+            stderr.flush();
+            DaemonProtocol.writeExit(out, exitCode);
+        } catch (IOException e) {
+            // Client terputus di tengah request; tidak ada yang bisa dilaporkan
+            logger.debug("Koneksi client terputus: {}", e.getMessage());
+        }
+    }
+
+    private static PrintStream printStream(OutputStream frames, DaemonRequest request) {
+        OutputStream target = request.terminal() ? frames : new AnsiStripOutputStream(frames);
+        return new PrintStream(target, true, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Berhenti menerima koneksi, tunggu request yang berjalan, dan hapus file socket
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        server.close();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (address instanceof UnixDomainSocketAddress unix) {
+            Files.deleteIfExists(unix.getPath());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package kelompok.dua.maven.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.SocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Client tipis yang meneruskan argumen CLI ke daemon yang sedang berjalan.
+ *
+ * Sengaja hanya memakai JDK (tanpa logging, picocli, atau Jackson) agar proses
+ * client tetap murah dijalankan ratusan kali. Jika daemon tidak dapat dihubungi,
+ * forward() mengembalikan NOT_HANDLED dan pemanggil mengkompilasi sendiri.
+ */
+public final class DaemonClient {
+    /**
+     * Environment variable berisi path socket (atau port) daemon yang dipakai client
+     */
+    public static final String ENVIRONMENT_VARIABLE = "XTUML_DAEMON";
+
+    public static final int NOT_HANDLED = DaemonProtocol.NOT_HANDLED;
+
+    // Argumen yang harus dijalankan di proses client: stdin, mode berumur panjang, dan subcommand
+    private static final Set<String> LOCAL_ONLY = Set.of("-", "--watch", "convert", "daemon");
+
+    private DaemonClient() {
+    }
+
+    /**
+     * Path socket default yang dipakai daemon jika --socket tidak diberikan
+     */
+    public static String defaultSocket() {
+        return DaemonProtocol.defaultSocket().toString();
+    }
+
+    /**
+     * True jika argumen dapat dijalankan oleh daemon
+     */
+    public static boolean isForwardable(String[] args) {
+        for (String arg : args) {
+            if (LOCAL_ONLY.contains(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * True jika ada daemon yang menerima koneksi di alamat ini
+     */
+    public static boolean isRunning(String spec) {
+        try {
+            connect(spec).close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Jalankan argumen di daemon dan salin output-nya ke System.out/System.err.
+     *
+     * @return exit code dari daemon, atau NOT_HANDLED jika daemon tidak tersedia
+     *         atau menolak request sebelum ada output
+     */
+    public static int forward(String spec, String[] args) {
+        SocketChannel channel;
+        try {
+            channel = connect(spec);
+        } catch (IOException | RuntimeException e) {
+            return NOT_HANDLED;
+        }
+
+        boolean receivedOutput = false;
+        try (channel) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            DaemonProtocol.writeRequest(out, new DaemonRequest(Paths.get("").toAbsolutePath().toString(),
+                    System.console() != null, environment(), List.of(args)));
+
+            byte[] buffer = new byte[8192];
+            while (true) {
+                byte type = in.readByte();
+                if (type == DaemonProtocol.EXIT) {
+                    System.out.flush();
+                    System.err.flush();
+                    return in.readInt();
+                }
+                PrintStream target = type == DaemonProtocol.STDERR ? System.err : System.out;
+                int remaining = in.readInt();
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new IOException("Koneksi daemon terputus");
+                    }
+                    target.write(buffer, 0, read);
+                    remaining -= read;
+                }
+                target.flush();
+                receivedOutput = true;
+            }
+        } catch (IOException e) {
+            if (!receivedOutput) {
+                return NOT_HANDLED;
+            }
+            System.err.println("Koneksi ke daemon terputus: " + e.getMessage());
+            return 4;
+        }
+    }
+
+    private static SocketChannel connect(String spec) throws IOException {
+        SocketAddress address = DaemonProtocol.address(spec);
+        SocketChannel channel = SocketChannel.open(DaemonProtocol.family(address));
+        try {
+            channel.connect(address);
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static Map<String, String> environment() {
+        Map<String, String> environment = new LinkedHashMap<>();
+        for (String name : DaemonProtocol.FORWARDED_ENVIRONMENT) {
+            String value = System.getenv(name);
+            if (value != null) {
+                environment.put(name, value);
+            }
+        }
+        return environment;
+    }
+}
@@ -0,0 +1,150 @@
+package kelompok.dua.maven.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protokol biner sederhana antara client dan daemon.
+ *
+ * Request: magic, versi, direktori kerja, flag terminal, environment, argumen.
+ * Response: rangkaian frame [tipe][panjang][byte] untuk stdout/stderr, diakhiri
+ * frame EXIT berisi exit code. Exit code NOT_HANDLED berarti daemon menolak
+ * request (mis. versi berbeda) dan client harus mengkompilasi sendiri.
+ */
+final class DaemonProtocol {
+    static final int MAGIC = 0x58544d4c; // "XTML"
+    static final int VERSION = 1;
+
+    static final byte STDOUT = 1;
+    static final byte STDERR = 2;
+    static final byte EXIT = 3;
+
+    static final int NOT_HANDLED = -1;
+
+    /**
+     * Environment variable yang dibaca CLI dan karena itu diteruskan ke daemon
+     */
+    static final List<String> FORWARDED_ENVIRONMENT = List.of("SOURCE_DATE_EPOCH");
+
+    private DaemonProtocol() {
+    }
+
+    /**
+     * Alamat dari spesifikasi: angka berarti port TCP di localhost, selain itu path Unix domain socket
+     */
+    static SocketAddress address(String spec) {
+        if (spec.chars().allMatch(Character::isDigit) && !spec.isEmpty()) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(spec));
+        }
+        return UnixDomainSocketAddress.of(spec);
+    }
+
+    static StandardProtocolFamily family(SocketAddress address) {
+        return address instanceof UnixDomainSocketAddress ? StandardProtocolFamily.UNIX : StandardProtocolFamily.INET;
+    }
+
+    /**
+     * Path socket default: satu per user di direktori temporary
+     */
+    static Path defaultSocket() {
+        String user = System.getProperty("user.name", "user").replaceAll("[^A-Za-z0-9._-]", "_");
+        return Paths.get(System.getProperty("java.io.tmpdir"), "xtuml-compiler-" + user + ".sock");
+    }
+
+    static void writeRequest(DataOutputStream out, DaemonRequest request) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(request.workingDirectory());
+        out.writeBoolean(request.terminal());
+        out.writeInt(request.environment().size());
+        for (Map.Entry<String, String> entry : request.environment().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+        out.writeInt(request.arguments().size());
+        for (String argument : request.arguments()) {
+            out.writeUTF(argument);
+        }
+        out.flush();
+    }
+
+    /**
+     * Baca request, atau null jika magic/versi tidak dikenali
+     */
+    static DaemonRequest readRequest(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return null;
+        }
+        String workingDirectory = in.readUTF();
+        boolean terminal = in.readBoolean();
+        int environmentSize = in.readInt();
+        Map<String, String> environment = new LinkedHashMap<>();
+        for (int i = 0; i < environmentSize; i++) {
+            environment.put(in.readUTF(), in.readUTF());
+        }
+        int argumentCount = in.readInt();
+        List<String> arguments = new ArrayList<>(argumentCount);
+        for (int i = 0; i < argumentCount; i++) {
+            arguments.add(in.readUTF());
+        }
+        return new DaemonRequest(workingDirectory, terminal, environment, arguments);
+    }
+
+    static void writeExit(DataOutputStream out, int exitCode) throws IOException {
+        synchronized (out) {
+            out.writeByte(EXIT);
+            out.writeInt(exitCode);
+            out.flush();
+        }
+    }
+
+    /**
+     * OutputStream yang membungkus setiap write menjadi satu frame stdout/stderr
+     */
+    static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+
+        FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package kelompok.dua.maven.daemon;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Satu permintaan kompilasi dari client daemon
+ *
+ * @param workingDirectory direktori kerja client; path relatif di argumen di-resolve terhadapnya
+ * @param terminal         true jika output client adalah terminal (kode warna ANSI dipertahankan)
+ * @param environment      environment variable client yang relevan (mis. SOURCE_DATE_EPOCH)
+ * @param arguments        argumen CLI apa adanya
+ */
+public record DaemonRequest(String workingDirectory, boolean terminal, Map<String, String> environment,
+        List<String> arguments) {
+}
@@ -0,0 +1,268 @@
+package kelompok.dua.maven.generator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Sink yang men-stream seluruh output ke satu arsip zip, tar, atau tar.gz
+ * tanpa file perantara di disk.
+ *
+ * Entry ditulis sesuai urutan dari plan() dengan timestamp tetap, sehingga
+ * model dan timestamp yang sama selalu menghasilkan arsip yang identik byte
+ * per byte, berapa pun jumlah thread generator. File yang selesai sebelum
+ * gilirannya ditahan di buffer kecil lalu langsung ditulis begitu entry
+ * sebelumnya lengkap; karena generator menjadwalkan class sesuai urutan yang
+ * sama, buffer ini umumnya sebanding dengan jumlah thread, bukan ukuran output.
+ *
+ * Arsip ditulis ke file sementara lalu dipindahkan saat close(). Generate yang
+ * gagal harus diakhiri dengan discard() agar tidak ada arsip setengah jadi.
+ */
+public final class ArchiveOutputSink implements OutputSink {
+
+    /**
+     * Format arsip yang didukung, dikenali dari ekstensi file
+     */
+    public enum Format {
+        ZIP, TAR, TAR_GZ;
+
+        /**
+         * Format untuk nama file arsip, atau null jika ekstensinya tidak dikenal
+         */
+        public static Format fromPath(Path archive) {
+            String name = archive.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".zip")) {
+                return ZIP;
+            }
+            if (name.endsWith(".tar")) {
+                return TAR;
+            }
+            if (name.endsWith(".tar.gz") || name.endsWith(".tgz")) {
+                return TAR_GZ;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Timestamp entry default (1980-01-01T00:00:00Z), batas bawah waktu DOS di zip
+     */
+    public static final long DEFAULT_TIMESTAMP = 315532800L;
+
+    // Penanda entry direktori di buffer
+    private static final byte[] DIRECTORY = new byte[0];
+
+    private final Path archive;
+    private final Path temp;
+    private final Format format;
+    private final OutputStream out;
+    private final ZipOutputStream zip;
+    private final TarArchiveWriter tar;
+    private final LocalDateTime zipTime;
+
+    // Seluruh state di bawah ini dijaga oleh monitor sink
+    private List<String> order;
+    private int next;
+    private final Map<String, byte[]> pending = new HashMap<>();
+    private long pendingBytes;
+    private int maxPendingEntries;
+    private long maxPendingBytes;
+    private int entries;
+    private long archiveBytes;
+    private boolean closed;
+
+    /**
+     * Buka file sementara di samping arsip tujuan
+     *
+     * @param archive   file arsip tujuan
+     * @param format    format arsip
+     * @param timestamp waktu modifikasi setiap entry (detik sejak epoch)
+     */
+    public ArchiveOutputSink(Path archive, Format format, long timestamp) throws IOException {
+        Path absolute = archive.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        this.archive = archive;
+        this.temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        this.format = format;
+        this.out = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024);
+        // Waktu DOS tidak menyimpan zona waktu, pakai UTC agar hasil tidak bergantung TZ mesin
+        this.zipTime = LocalDateTime.ofEpochSecond(Math.max(timestamp, DEFAULT_TIMESTAMP), 0, ZoneOffset.UTC);
+        if (format == Format.ZIP) {
+            this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+            this.tar = null;
+        } else {
+            this.zip = null;
+            this.tar = new TarArchiveWriter(format == Format.TAR_GZ ? new GZIPOutputStream(out, 64 * 1024) : out,
+                    Math.max(timestamp, 0));
+        }
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return true;
+    }
+
+    @Override
+    public synchronized void plan(List<String> paths) throws IOException {
+        order = List.copyOf(paths);
+        next = 0;
+        drain();
+    }
+
+    @Override
+    public void write(String path, String content) throws IOException {
+        // Encode di thread generator agar tidak menahan monitor
+        buffer(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void createDirectory(String path) throws IOException {
+        buffer(path + "/", DIRECTORY);
+    }
+
+    private synchronized void buffer(String path, byte[] data) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Arsip sudah ditutup");
+        }
+        pending.put(path, data);
+        pendingBytes += data.length;
+        drain();
+        maxPendingEntries = Math.max(maxPendingEntries, pending.size());
+        maxPendingBytes = Math.max(maxPendingBytes, pendingBytes);
+    }
+
+    /**
+     * Tulis entry yang sudah tiba gilirannya
+     */
+    private void drain() throws IOException {
+        if (order == null) {
+            return;
+        }
+        while (next < order.size()) {
+            byte[] data = pending.remove(order.get(next));
+            if (data == null) {
+                return;
+            }
+            writeEntry(order.get(next), data);
+            next++;
+        }
+    }
+
+    private void writeEntry(String path, byte[] data) throws IOException {
+        pendingBytes -= data.length;
+        entries++;
+        if (zip != null) {
+            ZipEntry entry = new ZipEntry(path);
+            entry.setTimeLocal(zipTime);
+            zip.putNextEntry(entry);
+            zip.write(data);
+            zip.closeEntry();
+        } else if (data == DIRECTORY) {
+            tar.writeDirectory(path);
+        } else {
+            tar.writeFile(path, data);
+        }
+    }
+
+    /**
+     * Selesaikan arsip lalu pindahkan ke tujuan. Entry di luar plan (atau semua
+     * entry jika plan() tidak pernah dipanggil) ditulis terakhir, terurut berdasarkan path.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (order != null) {
+                // Entry yang direncanakan tetapi tidak pernah ditulis dilewati
+                for (; next < order.size(); next++) {
+                    byte[] data = pending.remove(order.get(next));
+                    if (data != null) {
+                        writeEntry(order.get(next), data);
+                    }
+                }
+            }
+            for (Map.Entry<String, byte[]> entry : new TreeMap<>(pending).entrySet()) {
+                writeEntry(entry.getKey(), entry.getValue());
+            }
+            pending.clear();
+            if (zip != null) {
+                zip.close();
+            } else {
+                tar.close();
+            }
+            archiveBytes = Files.size(temp);
+            Files.move(temp, archive.toAbsolutePath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            out.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Batalkan arsip setelah generate gagal: hapus file sementara tanpa menyentuh
+     * arsip tujuan. Tidak berpengaruh jika close() sudah berhasil.
+     */
+    public synchronized void discard() throws IOException {
+        closed = true;
+        pending.clear();
+        try {
+            out.close();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Path getArchive() {
+        return archive;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Ukuran arsip di disk; 0 sebelum close()
+     */
+    public synchronized long getArchiveBytes() {
+        return archiveBytes;
+    }
+
+    /**
+     * Jumlah entry (file dan direktori) yang sudah ditulis ke arsip
+     */
+    public synchronized int getEntryCount() {
+        return entries;
+    }
+
+    /**
+     * Jumlah entry terbanyak yang pernah menunggu giliran di buffer
+     */
+    public synchronized int getMaxPendingEntries() {
+        return maxPendingEntries;
+    }
+
+    /**
+     * Byte terbanyak yang pernah menunggu giliran di buffer
+     */
+    public synchronized long getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+}
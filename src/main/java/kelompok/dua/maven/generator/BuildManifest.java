@@ -0,0 +1,353 @@
+package kelompok.dua.maven.generator;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kelompok.dua.maven.parser.ModelDiagnostic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Manifest build incremental yang disimpan di direktori output (.xtuml-manifest.json).
+ *
+ * Untuk setiap file yang di-generate dicatat hash fragmen model asalnya, hash
+ * efektif (fragmen + seluruh dependensi + pengaturan generator), edge dependensi
+ * (parent inherits_from, relationship association class, anggota index.ts),
+ * dan diagnostic yang muncul saat generate agar dapat ditampilkan ulang ketika
+ * file tersebut tidak di-generate ulang. Path memakai '/' relatif terhadap
+ * direktori output dan disimpan terurut sehingga manifest sendiri deterministik.
+ */
+public class BuildManifest {
+    private static final Logger logger = LoggerFactory.getLogger(BuildManifest.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    public static final String FILE_NAME = ".xtuml-manifest.json";
+    public static final int FORMAT_VERSION = 1;
+
+    @JsonProperty("format_version")
+    private int formatVersion = FORMAT_VERSION;
+
+    /**
+     * Hash pengaturan generator; manifest dengan pengaturan berbeda tidak dipakai
+     */
+    private String settings;
+
+    private Map<String, Entry> files = new TreeMap<>();
+
+    /**
+     * Catatan untuk satu file output
+     */
+    public static class Entry {
+        private String kind;
+        private String source;
+        private String fragment;
+        private String hash;
+        private List<String> dependencies = new ArrayList<>();
+        private List<Diagnostic> diagnostics = new ArrayList<>();
+
+        public Entry() {
+        }
+
+        public Entry(String kind, String source, String fragment, String hash, List<String> dependencies) {
+            this.kind = kind;
+            this.source = source;
+            this.fragment = fragment;
+            this.hash = hash;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Jenis file: class, domain-index, atau index
+         */
+        public String getKind() {
+            return kind;
+        }
+
+        public void setKind(String kind) {
+            this.kind = kind;
+        }
+
+        /**
+         * Elemen model asal, mis. "Akademik/Mahasiswa" atau "Akademik" untuk index domain
+         */
+        public String getSource() {
+            return source;
+        }
+
+        public void setSource(String source) {
+            this.source = source;
+        }
+
+        /**
+         * Hash fragmen model milik file ini saja
+         */
+        public String getFragment() {
+            return fragment;
+        }
+
+        public void setFragment(String fragment) {
+            this.fragment = fragment;
+        }
+
+        /**
+         * Hash efektif; file di-generate ulang jika nilai ini berubah
+         */
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+
+        public List<String> getDependencies() {
+            return dependencies;
+        }
+
+        public void setDependencies(List<String> dependencies) {
+            this.dependencies = dependencies;
+        }
+
+        public List<Diagnostic> getDiagnostics() {
+            return diagnostics;
+        }
+
+        public void setDiagnostics(List<Diagnostic> diagnostics) {
+            this.diagnostics = diagnostics;
+        }
+    }
+
+    /**
+     * ModelDiagnostic dalam bentuk yang dapat diserialisasi
+     */
+    public static class Diagnostic {
+        private ModelDiagnostic.Severity severity;
+        private String domain;
+        private String location;
+        private String message;
+
+        public Diagnostic() {
+        }
+
+        public static Diagnostic of(ModelDiagnostic diagnostic) {
+            Diagnostic result = new Diagnostic();
+            result.severity = diagnostic.getSeverity();
+            result.domain = diagnostic.getDomain();
+            result.location = diagnostic.getLocation();
+            result.message = diagnostic.getMessage();
+            return result;
+        }
+
+        public ModelDiagnostic toModelDiagnostic() {
+            return new ModelDiagnostic(severity, domain, location, message);
+        }
+
+        public ModelDiagnostic.Severity getSeverity() {
+            return severity;
+        }
+
+        public void setSeverity(ModelDiagnostic.Severity severity) {
+            this.severity = severity;
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public void setDomain(String domain) {
+            this.domain = domain;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+
+    public BuildManifest() {
+    }
+
+    public BuildManifest(String settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Baca manifest dari direktori output. Mengembalikan null jika tidak ada, tidak
+     * dapat dibaca, atau dibuat dengan format/pengaturan lain (build penuh).
+     */
+    public static BuildManifest load(Path outputDirectory, String settings) {
+        try {
+            BuildManifest manifest = read(outputDirectory);
+            if (manifest == null) {
+                return null;
+            }
+            if (manifest.formatVersion != FORMAT_VERSION || !settings.equals(manifest.settings)) {
+                logger.info("Manifest build dibuat dengan pengaturan berbeda, generate penuh");
+                return null;
+            }
+            return manifest;
+        } catch (IOException e) {
+            logger.warn("Manifest build tidak dapat dibaca, generate penuh: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Baca manifest apa adanya, atau null jika belum ada
+     */
+    public static BuildManifest read(Path outputDirectory) throws IOException {
+        Path manifestPath = outputDirectory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(manifestPath)) {
+            return null;
+        }
+        return MAPPER.readValue(manifestPath.toFile(), BuildManifest.class);
+    }
+
+    /**
+     * Hapus manifest sehingga run berikutnya melakukan build penuh
+     */
+    public static void delete(Path outputDirectory) throws IOException {
+        Files.deleteIfExists(outputDirectory.resolve(FILE_NAME));
+    }
+
+    /**
+     * Tulis manifest secara atomik (file sementara lalu rename)
+     */
+    public void write(Path outputDirectory) throws IOException {
+        Path manifestPath = outputDirectory.resolve(FILE_NAME);
+        Path tempPath = outputDirectory.resolve(FILE_NAME + ".tmp");
+        MAPPER.writeValue(tempPath.toFile(), this);
+        Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Hash dari beberapa bagian; setiap bagian diberi pemisah agar ("ab", "c")
+     * dan ("a", "bc") menghasilkan hash berbeda
+     */
+    public static String hash(Object... parts) {
+        Hasher hasher = new Hasher();
+        for (Object part : parts) {
+            byte[] bytes = part instanceof byte[] raw ? raw : String.valueOf(part).getBytes(StandardCharsets.UTF_8);
+            hasher.write(bytes, 0, bytes.length);
+            hasher.write(0);
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Hash dari representasi JSON suatu elemen model. JSON langsung dialirkan ke
+     * hasher tanpa dibentuk sebagai byte[] terlebih dahulu.
+     */
+    public static String fragmentHash(Object fragment) {
+        Hasher hasher = new Hasher();
+        try {
+            MAPPER.writeValue(hasher, fragment);
+        } catch (IOException e) {
+            throw new IllegalStateException("Fragmen model tidak dapat diserialisasi: " + e.getMessage(), e);
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Hash 128-bit non-kriptografis: dua jalur FNV-1a 64-bit dengan pengali berbeda,
+     * difinalisasi dengan mix murmur3. Cukup untuk mendeteksi perubahan (bukan untuk
+     * keamanan) dan jauh lebih murah daripada SHA-256 pada JVM yang belum panas,
+     * yang dominan untuk CLI berumur pendek.
+     */
+    private static final class Hasher extends OutputStream {
+        private long h1 = 0xcbf29ce484222325L;
+        private long h2 = 0x6a09e667f3bcc909L;
+        private long length;
+
+        @Override
+        public void write(int b) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 ^ (b & 0xff)) * 0x9e3779b97f4a7c15L;
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            long a = h1;
+            long c = h2;
+            for (int i = off; i < off + len; i++) {
+                int value = b[i] & 0xff;
+                a = (a ^ value) * 0x100000001b3L;
+                c = (c ^ value) * 0x9e3779b97f4a7c15L;
+            }
+            h1 = a;
+            h2 = c;
+            length += len;
+        }
+
+        String finish() {
+            return HexFormat.of().toHexDigits(mix(h1 ^ length)) + HexFormat.of().toHexDigits(mix(h2 + length));
+        }
+
+        private static long mix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+
+    public Entry getEntry(String file) {
+        return files.get(file);
+    }
+
+    public void putEntry(String file, Entry entry) {
+        files.put(file, entry);
+    }
+
+    // Getters and Setters
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public void setFormatVersion(int formatVersion) {
+        this.formatVersion = formatVersion;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Map<String, Entry> getFiles() {
+        return files;
+    }
+
+    public void setFiles(Map<String, Entry> files) {
+        this.files = new TreeMap<>(files);
+    }
+}
@@ -0,0 +1,52 @@
+package kelompok.dua.maven.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sink yang menulis ke direktori di disk lewat FileWriterPipeline, sehingga
+ * penulisan file berjalan paralel dengan generate
+ */
+public final class DirectoryOutputSink implements OutputSink {
+    private final Path root;
+    private final FileWriterPipeline pipeline;
+
+    /**
+     * @param root          direktori output (dibuat jika belum ada)
+     * @param writerThreads jumlah writer thread
+     * @param capacity      kapasitas antrean writer
+     * @param skipUnchanged jangan tulis ulang file yang isinya sudah sama
+     */
+    public DirectoryOutputSink(Path root, int writerThreads, int capacity, boolean skipUnchanged) throws IOException {
+        Files.createDirectories(root);
+        this.root = root;
+        this.pipeline = new FileWriterPipeline(writerThreads, capacity, skipUnchanged);
+    }
+
+    @Override
+    public void write(String path, String content) throws IOException {
+        pipeline.submit(root.resolve(path), content);
+    }
+
+    @Override
+    public void createDirectory(String path) throws IOException {
+        Files.createDirectories(root.resolve(path));
+    }
+
+    /**
+     * Tunggu seluruh file tertulis
+     */
+    @Override
+    public void close() throws IOException {
+        pipeline.close();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public FileWriterPipeline.Metrics getMetrics() {
+        return pipeline.getMetrics();
+    }
+}
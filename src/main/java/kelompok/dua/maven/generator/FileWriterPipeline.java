@@ -0,0 +1,316 @@
+package kelompok.dua.maven.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tahap penulisan file yang berjalan di thread terpisah dari generator.
+ *
+ * Generator menyerahkan isi file ke antrean berkapasitas tetap lalu langsung
+ * melanjutkan class berikutnya; writer thread mengosongkan antrean ke disk.
+ * Jika antrean penuh, submit() menunggu (back-pressure) sehingga memori tetap
+ * terbatas walaupun disk lambat. Setiap path hanya boleh di-submit sekali per
+ * pipeline karena urutan tulis antar writer tidak dijamin.
+ *
+ * Dalam mode skipUnchanged, file yang isinya sudah sama tidak ditulis ulang
+ * sehingga mtime-nya tetap dan watcher downstream (tsc --incremental, webpack)
+ * tidak membangun ulang file tersebut.
+ */
+public final class FileWriterPipeline implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FileWriterPipeline.class);
+    private static final AtomicInteger PIPELINE_IDS = new AtomicInteger();
+    private static final WriteJob POISON = new WriteJob(null, null);
+
+    private final BlockingQueue<WriteJob> queue;
+    private final int capacity;
+    private final boolean skipUnchanged;
+    private final List<Thread> writers;
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private final long startNanos = System.nanoTime();
+    private boolean closed;
+
+    // Metrik
+    private final LongAdder files = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+    private final LongAdder depthSamples = new LongAdder();
+    private final LongAdder depthTotal = new LongAdder();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private long elapsedNanos = -1;
+
+    private static final class WriteJob {
+        private final Path path;
+        private final String content;
+
+        WriteJob(Path path, String content) {
+            this.path = path;
+            this.content = content;
+        }
+    }
+
+    /**
+     * @param writerThreads jumlah writer thread (minimal 1)
+     * @param capacity      kapasitas antrean (minimal 1)
+     */
+    public FileWriterPipeline(int writerThreads, int capacity) {
+        this(writerThreads, capacity, false);
+    }
+
+    /**
+     * @param skipUnchanged lewati penulisan jika file yang ada sudah berisi konten yang sama
+     */
+    public FileWriterPipeline(int writerThreads, int capacity, boolean skipUnchanged) {
+        if (writerThreads < 1) {
+            throw new IllegalArgumentException("Jumlah writer minimal 1: " + writerThreads);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Kapasitas antrean minimal 1: " + capacity);
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.skipUnchanged = skipUnchanged;
+        this.writers = new ArrayList<>(writerThreads);
+        int id = PIPELINE_IDS.incrementAndGet();
+        for (int i = 0; i < writerThreads; i++) {
+            Thread writer = new Thread(this::drain, "xtuml-writer-" + id + "-" + (i + 1));
+            writer.setDaemon(true);
+            writers.add(writer);
+            writer.start();
+        }
+    }
+
+    /**
+     * Antrekan file untuk ditulis; menunggu jika antrean penuh. Kegagalan tulis
+     * sebelumnya dilempar di sini agar generator berhenti lebih awal.
+     */
+    public void submit(Path path, String content) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Pipeline writer sudah ditutup");
+        }
+        throwIfFailed();
+        WriteJob job = new WriteJob(path, content);
+        if (!queue.offer(job)) {
+            long waitStart = System.nanoTime();
+            put(job);
+            blockedNanos.add(System.nanoTime() - waitStart);
+        }
+        int depth = queue.size();
+        depthSamples.increment();
+        depthTotal.add(depth);
+        maxDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    /**
+     * Tunggu sampai seluruh antrean tertulis dan hentikan writer thread.
+     * Melempar kegagalan tulis pertama jika ada.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            for (int i = 0; i < writers.size(); i++) {
+                put(POISON);
+            }
+            for (Thread writer : writers) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Menunggu writer thread terinterupsi", e);
+                }
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+            logger.debug("Pipeline writer: {}", getMetrics());
+        }
+        throwIfFailed();
+    }
+
+    private void put(WriteJob job) throws IOException {
+        try {
+            queue.put(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Antrean writer terinterupsi", e);
+        }
+    }
+
+    private void throwIfFailed() throws IOException {
+        IOException error = failure.get();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            WriteJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (job == POISON) {
+                return;
+            }
+            if (failure.get() != null) {
+                continue; // Tetap kosongkan antrean agar producer tidak tertahan
+            }
+            long start = System.nanoTime();
+            try {
+                byte[] data = job.content.getBytes(StandardCharsets.UTF_8);
+                if (skipUnchanged && hasContent(job.path, data)) {
+                    skipped.increment();
+                } else {
+                    Files.write(job.path, data, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+                    files.increment();
+                    bytes.add(data.length);
+                }
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                busyNanos.add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * True jika file sudah ada dengan isi yang identik. Ukuran dibandingkan lebih
+     * dulu sehingga file yang berubah panjang tidak perlu dibaca sama sekali.
+     */
+    private static boolean hasContent(Path path, byte[] data) throws IOException {
+        try {
+            if (Files.size(path) != data.length) {
+                return false;
+            }
+            return Arrays.equals(Files.readAllBytes(path), data);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    public Metrics getMetrics() {
+        long elapsed = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+        long samples = depthSamples.sum();
+        return new Metrics(files.sum(), skipped.sum(), bytes.sum(), capacity,
+                maxDepth.get(), samples == 0 ? 0 : (double) depthTotal.sum() / samples,
+                writers.size(), busyNanos.sum(), blockedNanos.sum(), elapsed);
+    }
+
+    /**
+     * Ringkasan kinerja pipeline writer
+     */
+    public static final class Metrics {
+        private final long files;
+        private final long skipped;
+        private final long bytes;
+        private final int capacity;
+        private final int maxQueueDepth;
+        private final double averageQueueDepth;
+        private final int writerThreads;
+        private final long writerBusyNanos;
+        private final long producerBlockedNanos;
+        private final long elapsedNanos;
+
+        Metrics(long files, long skipped, long bytes, int capacity, int maxQueueDepth, double averageQueueDepth,
+                int writerThreads, long writerBusyNanos, long producerBlockedNanos, long elapsedNanos) {
+            this.files = files;
+            this.skipped = skipped;
+            this.bytes = bytes;
+            this.capacity = capacity;
+            this.maxQueueDepth = maxQueueDepth;
+            this.averageQueueDepth = averageQueueDepth;
+            this.writerThreads = writerThreads;
+            this.writerBusyNanos = writerBusyNanos;
+            this.producerBlockedNanos = producerBlockedNanos;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Jumlah file yang benar-benar ditulis
+         */
+        public long getFiles() {
+            return files;
+        }
+
+        /**
+         * Jumlah file yang dilewati karena isinya tidak berubah
+         */
+        public long getSkipped() {
+            return skipped;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Kedalaman antrean tertinggi yang teramati setelah submit
+         */
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        public double getAverageQueueDepth() {
+            return averageQueueDepth;
+        }
+
+        public int getWriterThreads() {
+            return writerThreads;
+        }
+
+        public long getWriterBusyNanos() {
+            return writerBusyNanos;
+        }
+
+        /**
+         * Total waktu generator menunggu karena antrean penuh
+         */
+        public long getProducerBlockedNanos() {
+            return producerBlockedNanos;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Fraksi waktu writer thread sibuk menulis (0..1)
+         */
+        public double getWriterUtilization() {
+            if (elapsedNanos <= 0) {
+                return 0;
+            }
+            return Math.min(1.0, (double) writerBusyNanos / ((double) elapsedNanos * writerThreads));
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%d file ditulis, %d tidak berubah, %d byte, antrean maks %d/%d (rata-rata %.1f), utilisasi writer %d%% (%d thread), back-pressure %d ms",
+                    files, skipped, bytes, maxQueueDepth, capacity, averageQueueDepth,
+                    Math.round(getWriterUtilization() * 100), writerThreads, producerBlockedNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kelompok.dua.maven.generator;
+
+import kelompok.dua.maven.generator.action.TemplateInterpolator;
+import kelompok.dua.maven.model.ClassDefinition;
+import kelompok.dua.maven.model.Domain;
+import kelompok.dua.maven.parser.ModelDiagnostic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * State generate untuk satu class. Setiap task memiliki context sendiri
+ * sehingga class dapat di-generate paralel tanpa berbagi state yang dapat berubah.
+ */
+final class GenerationContext {
+    private final ClassDefinition classDefinition;
+    private final Domain domain;
+    private final List<ModelDiagnostic> diagnostics = new ArrayList<>();
+    private TemplateInterpolator templates; // Dibuat saat pertama dipakai
+
+    GenerationContext(ClassDefinition classDefinition, Domain domain) {
+        this.classDefinition = classDefinition;
+        this.domain = domain;
+    }
+
+    ClassDefinition getClassDefinition() {
+        return classDefinition;
+    }
+
+    /**
+     * Domain pemilik class (atau domain pertama sebagai fallback)
+     */
+    Domain getDomain() {
+        return domain;
+    }
+
+    TemplateInterpolator getTemplates() {
+        return templates;
+    }
+
+    void setTemplates(TemplateInterpolator templates) {
+        this.templates = templates;
+    }
+
+    void addDiagnostic(ModelDiagnostic diagnostic) {
+        diagnostics.add(diagnostic);
+    }
+
+    List<ModelDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+}
@@ -0,0 +1,106 @@
+package kelompok.dua.maven.generator;
+
+import kelompok.dua.maven.parser.ModelDiagnostic;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.StringJoiner;
+
+/**
+ * Hasil satu kali generate: statistik, waktu per fase, diagnostic, dan (untuk
+ * generate in-memory) isi setiap file dengan path relatif '/' sebagai key.
+ */
+public final class GenerationResult {
+    private final SortedMap<String, String> files;
+    private final int fileCount;
+    private final long bytes;
+    private final int classCount;
+    private final int stateMachineCount;
+    private final int reusedFiles;
+    private final Map<String, Duration> phaseTimings;
+    private final Duration totalTime;
+    private final List<ModelDiagnostic> diagnostics;
+
+    GenerationResult(SortedMap<String, String> files, int fileCount, long bytes, int classCount,
+            int stateMachineCount, int reusedFiles, Map<String, Duration> phaseTimings, Duration totalTime,
+            List<ModelDiagnostic> diagnostics) {
+        this.files = files;
+        this.fileCount = fileCount;
+        this.bytes = bytes;
+        this.classCount = classCount;
+        this.stateMachineCount = stateMachineCount;
+        this.reusedFiles = reusedFiles;
+        this.phaseTimings = Collections.unmodifiableMap(phaseTimings);
+        this.totalTime = totalTime;
+        this.diagnostics = Collections.unmodifiableList(diagnostics);
+    }
+
+    /**
+     * Isi file terurut berdasarkan path; kosong kecuali untuk generateInMemory()
+     */
+    public SortedMap<String, String> getFiles() {
+        return files;
+    }
+
+    public String getFile(String path) {
+        return files.get(path);
+    }
+
+    /**
+     * Jumlah file output, termasuk file yang dipakai ulang dari build incremental sebelumnya
+     */
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * Total byte (UTF-8) file yang dihasilkan run ini
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Jumlah file class (termasuk association class)
+     */
+    public int getClassCount() {
+        return classCount;
+    }
+
+    public int getStateMachineCount() {
+        return stateMachineCount;
+    }
+
+    public int getReusedFiles() {
+        return reusedFiles;
+    }
+
+    /**
+     * Durasi setiap fase sesuai urutan eksekusi, mis. classes, indexes, output, cleanup
+     */
+    public Map<String, Duration> getPhaseTimings() {
+        return phaseTimings;
+    }
+
+    public Duration getTotalTime() {
+        return totalTime;
+    }
+
+    public List<ModelDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner phases = new StringJoiner(", ");
+        for (Map.Entry<String, Duration> phase : phaseTimings.entrySet()) {
+            phases.add(phase.getKey() + " " + phase.getValue().toMillis() + " ms");
+        }
+        return String.format(Locale.ROOT, "%d file (%d byte), %d class, %d state machine, total %d ms (%s)",
+                fileCount, bytes, classCount, stateMachineCount, totalTime.toMillis(), phases);
+    }
+}
@@ -0,0 +1,31 @@
+package kelompok.dua.maven.generator;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sink yang menyimpan seluruh file di memori, untuk test dan tool yang
+ * menyematkan kompiler tanpa menyentuh filesystem
+ */
+public final class MemoryOutputSink implements OutputSink {
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+
+    @Override
+    public void write(String path, String content) {
+        files.put(path, content);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * File yang sudah ditulis, terurut berdasarkan path
+     */
+    public SortedMap<String, String> getFiles() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(files));
+    }
+}
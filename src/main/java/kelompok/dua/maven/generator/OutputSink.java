@@ -0,0 +1,49 @@
+package kelompok.dua.maven.generator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Tujuan file hasil generate: direktori di disk, memori, atau arsip.
+ *
+ * Path selalu relatif terhadap akar output dengan pemisah '/'. write() dapat
+ * dipanggil bersamaan dari beberapa thread generator, dan setiap path hanya
+ * ditulis sekali per generate.
+ */
+public interface OutputSink extends Closeable {
+
+    /**
+     * true jika sink menulis entry dalam urutan yang diumumkan lewat plan(), mis.
+     * arsip yang di-stream. Generator lalu menjadwalkan class sesuai urutan itu
+     * (bukan class terbesar lebih dulu) agar entry yang harus menunggu giliran sedikit.
+     */
+    default boolean isOrdered() {
+        return false;
+    }
+
+    /**
+     * Urutan seluruh entry run ini, dipanggil sekali sebelum file pertama ditulis
+     * dan hanya untuk sink yang isOrdered(). Direktori ditandai dengan akhiran '/'.
+     */
+    default void plan(List<String> paths) throws IOException {
+    }
+
+    /**
+     * Simpan satu file
+     */
+    void write(String path, String content) throws IOException;
+
+    /**
+     * Penanda bahwa direktori ini bagian dari output walaupun belum berisi file.
+     * Sink yang tidak mengenal direktori boleh mengabaikannya.
+     */
+    default void createDirectory(String path) throws IOException {
+    }
+
+    /**
+     * Selesaikan penulisan; sink tidak dapat dipakai lagi setelahnya
+     */
+    @Override
+    void close() throws IOException;
+}
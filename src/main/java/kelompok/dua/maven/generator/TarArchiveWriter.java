@@ -0,0 +1,140 @@
+package kelompok.dua.maven.generator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Penulis arsip tar (format ustar) minimal dan deterministik: uid/gid 0 tanpa
+ * nama user, mode tetap, dan mtime yang ditentukan pemanggil. Path yang tidak
+ * muat di field name/prefix ustar ditulis lewat extended header PAX.
+ */
+final class TarArchiveWriter implements Closeable {
+    private static final int BLOCK = 512;
+    private static final int RECORD = 20 * BLOCK; // Blocking factor default GNU tar
+
+    private final OutputStream out;
+    private final long mtime;
+    private long written;
+
+    /**
+     * @param mtime waktu modifikasi setiap entry (detik sejak epoch)
+     */
+    TarArchiveWriter(OutputStream out, long mtime) {
+        this.out = out;
+        this.mtime = mtime;
+    }
+
+    void writeDirectory(String path) throws IOException {
+        String name = path.endsWith("/") ? path : path + "/";
+        writeHeader(name, 0, '5', 0755);
+    }
+
+    void writeFile(String path, byte[] data) throws IOException {
+        writeHeader(path, data.length, '0', 0644);
+        write(data, data.length);
+    }
+
+    private void writeHeader(String path, long size, char type, int mode) throws IOException {
+        byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+        int split = splitPoint(pathBytes);
+        if (split < 0) {
+            // Path terlalu panjang untuk ustar: simpan path lengkap di extended header PAX
+            byte[] record = paxRecord("path", path);
+            write(header(Arrays.copyOf(pathBytes, 100), new byte[0], record.length, 'x', 0644), BLOCK);
+            write(record, record.length);
+            write(header(Arrays.copyOf(pathBytes, 100), new byte[0], size, type, mode), BLOCK);
+        } else if (split == 0) {
+            write(header(pathBytes, new byte[0], size, type, mode), BLOCK);
+        } else {
+            write(header(Arrays.copyOfRange(pathBytes, split + 1, pathBytes.length),
+                    Arrays.copyOf(pathBytes, split), size, type, mode), BLOCK);
+        }
+    }
+
+    /**
+     * 0 jika path muat di field name, posisi '/' pemisah prefix/name, atau -1 jika tidak muat
+     */
+    private static int splitPoint(byte[] path) {
+        if (path.length <= 100) {
+            return 0;
+        }
+        for (int i = Math.min(path.length - 2, 155); i > 0; i--) {
+            if (path[i] == '/' && path.length - i - 1 <= 100) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Record PAX "panjang key=value\n" dengan panjang yang mencakup dirinya sendiri
+     */
+    private static byte[] paxRecord(String key, String value) {
+        int payload = (" " + key + "=" + value + "\n").getBytes(StandardCharsets.UTF_8).length;
+        int length = payload + String.valueOf(payload).length();
+        if (String.valueOf(length).length() != String.valueOf(payload).length()) {
+            length++;
+        }
+        return (length + " " + key + "=" + value + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] header(byte[] name, byte[] prefix, long size, char type, int mode) {
+        byte[] header = new byte[BLOCK];
+        System.arraycopy(name, 0, header, 0, Math.min(name.length, 100));
+        octal(header, 100, 8, mode);
+        octal(header, 108, 8, 0); // uid
+        octal(header, 116, 8, 0); // gid
+        octal(header, 124, 12, size);
+        octal(header, 136, 12, mtime);
+        Arrays.fill(header, 148, 156, (byte) ' ');
+        header[156] = (byte) type;
+        System.arraycopy("ustar\0".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 6);
+        header[263] = '0';
+        header[264] = '0';
+        System.arraycopy(prefix, 0, header, 345, Math.min(prefix.length, 155));
+
+        int checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xff;
+        }
+        octal(header, 148, 7, checksum);
+        return header;
+    }
+
+    /**
+     * Angka oktal rata kanan dengan nol di depan, diakhiri NUL
+     */
+    private static void octal(byte[] header, int offset, int length, long value) {
+        String digits = Long.toOctalString(value);
+        int width = length - 1;
+        for (int i = 0; i < width; i++) {
+            int index = digits.length() - width + i;
+            header[offset + i] = (byte) (index >= 0 ? digits.charAt(index) : '0');
+        }
+        header[offset + width] = 0;
+    }
+
+    /**
+     * Tulis data lalu pad ke kelipatan blok
+     */
+    private void write(byte[] data, int length) throws IOException {
+        out.write(data, 0, length);
+        int padding = (BLOCK - length % BLOCK) % BLOCK;
+        out.write(new byte[padding]);
+        written += length + padding;
+    }
+
+    /**
+     * Tulis dua blok kosong penutup dan pad ke ukuran record
+     */
+    @Override
+    public void close() throws IOException {
+        long end = written + 2L * BLOCK;
+        long padding = (RECORD - end % RECORD) % RECORD;
+        out.write(new byte[(int) (2L * BLOCK + padding)]);
+        out.close();
+    }
+}
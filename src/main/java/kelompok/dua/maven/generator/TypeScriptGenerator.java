@@ -1,6 +1,14 @@
 package kelompok.dua.maven.generator;
 
+import kelompok.dua.maven.generator.action.ActionCompiler;
+import kelompok.dua.maven.generator.action.ActionContext;
+import kelompok.dua.maven.generator.action.ActionNode;
+import kelompok.dua.maven.generator.action.AssignNode;
+import kelompok.dua.maven.generator.action.TemplateInterpolator;
+import kelompok.dua.maven.generator.action.TemplatePart;
+import kelompok.dua.maven.generator.action.TypeScriptActionEmitter;
 import kelompok.dua.maven.model.*;
+import kelompok.dua.maven.parser.ModelDiagnostic;
 import kelompok.dua.maven.util.HeaderGenerator;
 import kelompok.dua.maven.util.TypeScriptUtils;
 import org.slf4j.Logger;
@@ -8,90 +16,762 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Generator utama untuk mengkonversi xTUML model ke TypeScript
  */
 public class TypeScriptGenerator {
     private static final Logger logger = LoggerFactory.getLogger(TypeScriptGenerator.class);
+    private static final TypeScriptActionEmitter ACTION_EMITTER = new TypeScriptActionEmitter("      ");
 
     private final Path outputDirectory;
     private final XtumlModel model;
-    private final Map<String, ClassDefinition> classMap;
-    private ClassDefinition currentClass; // Track current class being processed
+    private final ModelIndex index;
+    private final List<ModelDiagnostic> diagnostics = new ArrayList<>();
+    private int threads = 1;
+    private int writerThreads = 1;
+    private int writerQueueCapacity = 64;
+    private OutputSink sink; // Aktif selama generate
+    private DirectoryOutputSink directorySink; // Aktif selama generateAll/generateDomains
+    private FileWriterPipeline.Metrics writerMetrics;
+    private final AtomicInteger outputFiles = new AtomicInteger();
+    private final LongAdder outputBytes = new LongAdder();
+    private int classCount;
+    private int stateMachineCount;
+    private final Map<String, Duration> phases = new LinkedHashMap<>();
+    private boolean skipUnchanged;
+    private final Set<Path> generatedPaths = ConcurrentHashMap.newKeySet();
+    private int deletedFiles;
+    private boolean reproducible;
+    private Long sourceDateEpoch;
+    private String headerTimestamp; // Ditentukan sekali per generate
+    private boolean incremental;
+    private String settingsHash;
+    private BuildManifest previousManifest; // Manifest run sebelumnya, null = build penuh
+    private BuildManifest manifest; // Manifest yang dibangun run ini
+    private final Map<ClassDefinition, String> fragmentHashes = new ConcurrentHashMap<>();
+    private final AtomicInteger reusedFiles = new AtomicInteger();
+    private final ActionCompiler actionCompiler = new ActionCompiler();
+
+    /**
+     * Generator tanpa direktori output, untuk generateInMemory() atau generate(OutputSink)
+     */
+    public TypeScriptGenerator(XtumlModel model) {
+        this(model, Path.of(""));
+    }
 
     public TypeScriptGenerator(XtumlModel model, Path outputDirectory) {
+        this(model, ModelIndex.build(model), outputDirectory);
+    }
+
+    public TypeScriptGenerator(XtumlModel model, ModelIndex index, Path outputDirectory) {
         this.model = model;
+        this.index = index;
         this.outputDirectory = outputDirectory;
-        this.classMap = buildClassMap();
     }
 
     /**
-     * Generate semua file TypeScript dari model
+     * Jumlah thread untuk generate class; 1 berarti serial
      */
-    public void generateAll() throws IOException {
-        logger.info("Mulai generate TypeScript files ke: {}", outputDirectory);
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Jumlah thread minimal 1: " + threads);
+        }
+        this.threads = threads;
+    }
 
-        // Buat direktori output jika belum ada
-        Files.createDirectories(outputDirectory);
+    public int getThreads() {
+        return threads;
+    }
 
-        // Generate file untuk setiap domain
-        for (Domain domain : model.getDomains()) {
-            generateDomain(domain);
+    /**
+     * Jumlah writer thread yang menulis file paralel dengan proses generate
+     */
+    public void setWriterThreads(int writerThreads) {
+        if (writerThreads < 1) {
+            throw new IllegalArgumentException("Jumlah writer minimal 1: " + writerThreads);
         }
+        this.writerThreads = writerThreads;
+    }
+
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    /**
+     * Jumlah file maksimum yang menunggu ditulis sebelum generator ditahan
+     */
+    public void setWriterQueueCapacity(int writerQueueCapacity) {
+        if (writerQueueCapacity < 1) {
+            throw new IllegalArgumentException("Kapasitas antrean minimal 1: " + writerQueueCapacity);
+        }
+        this.writerQueueCapacity = writerQueueCapacity;
+    }
+
+    public int getWriterQueueCapacity() {
+        return writerQueueCapacity;
+    }
+
+    /**
+     * Jika aktif, file yang isinya tidak berubah tidak ditulis ulang (mtime tetap) dan
+     * file lama yang tidak lagi dihasilkan dihapus setelah generate. Pemanggil tidak
+     * perlu membersihkan direktori output terlebih dahulu.
+     */
+    public void setSkipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    public boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+    /**
+     * Jika aktif, header tidak memuat waktu generate sehingga model yang sama
+     * selalu menghasilkan file yang identik byte per byte
+     */
+    public void setReproducible(boolean reproducible) {
+        this.reproducible = reproducible;
+    }
 
-        // Generate index file
-        generateIndexFile();
+    public boolean isReproducible() {
+        return reproducible;
+    }
+
+    /**
+     * Timestamp tetap untuk header (detik sejak epoch, ditulis dalam UTC), mengikuti
+     * konvensi SOURCE_DATE_EPOCH. Berlaku juga dalam mode reproducible; null = tidak diset.
+     */
+    public void setSourceDateEpoch(Long sourceDateEpoch) {
+        this.sourceDateEpoch = sourceDateEpoch;
+    }
+
+    public Long getSourceDateEpoch() {
+        return sourceDateEpoch;
+    }
+
+    /**
+     * Jika aktif, generateAll() menyimpan manifest build di direktori output dan pada
+     * run berikutnya hanya men-generate ulang class yang fragmen modelnya atau salah
+     * satu parent-nya berubah; file yang tidak lagi dihasilkan dihapus. Handler/pass
+     * kustom di getActionCompiler() tidak tercakup hash, jadi hapus manifest (atau
+     * jalankan tanpa mode ini) setelah mengubahnya.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Generate semua file TypeScript dari model ke direktori output
+     *
+     * @return statistik generate (tanpa isi file)
+     */
+    public GenerationResult generateAll() throws IOException {
+        logger.info("Mulai generate TypeScript files ke: {}", outputDirectory);
+        long start = System.nanoTime();
+        beginRun();
+
+        long outputStart;
+        try (DirectoryOutputSink sink = openDirectorySink()) {
+            openManifest(incremental);
+            run(sink, null);
+            outputStart = System.nanoTime();
+        } finally {
+            closeDirectorySink();
+        }
+        phase("output", outputStart);
+
+        long cleanupStart = System.nanoTime();
+        boolean fullBuild = manifest != null && previousManifest == null;
+        if (manifest != null) {
+            // Tanpa manifest lama yang valid tidak diketahui file mana milik build sebelumnya,
+            // jadi seluruh file yang tidak dihasilkan run ini dianggap usang
+            deletedFiles += fullBuild ? deleteStaleFiles(List.of(outputDirectory)) : deleteOrphans();
+            manifest.write(outputDirectory);
+            logger.info("Incremental: {} file dipakai ulang, {} dihapus", reusedFiles.get(), deletedFiles);
+        }
+        if (skipUnchanged && !fullBuild) {
+            deletedFiles += deleteStaleFiles(List.of(outputDirectory));
+        }
+        phase("cleanup", cleanupStart);
 
         logger.info("Selesai generate TypeScript files");
+        logger.debug("Cache nama: {}", TypeScriptUtils.getNameCache());
+        return result(start, Collections.emptySortedMap());
+    }
+
+    /**
+     * Generate hanya domain tertentu. Domain lain yang ada di model (karena
+     * menyumbang parent class) hanya di-generate class-nya, tanpa index domain.
+     * Index utama tidak ditulis ulang karena model hanya berisi sebagian domain.
+     */
+    public GenerationResult generateDomains(Collection<String> domainNames) throws IOException {
+        logger.info("Mulai generate domain {} ke: {}", domainNames, outputDirectory);
+        long start = System.nanoTime();
+        beginRun();
+
+        List<Path> selectedDirs;
+        long outputStart;
+        try (DirectoryOutputSink sink = openDirectorySink()) {
+            // Generate sebagian tidak dicatat di manifest, jadi manifest lama tidak lagi valid
+            openManifest(false);
+            selectedDirs = run(sink, domainNames);
+            outputStart = System.nanoTime();
+        } finally {
+            closeDirectorySink();
+        }
+        phase("output", outputStart);
+
+        long cleanupStart = System.nanoTime();
+        if (skipUnchanged) {
+            // Hanya direktori domain terpilih yang dianggap milik run ini
+            deletedFiles += deleteStaleFiles(selectedDirs);
+        }
+        phase("cleanup", cleanupStart);
+
+        logger.info("Selesai generate domain {}", domainNames);
+        logger.debug("Cache nama: {}", TypeScriptUtils.getNameCache());
+        return result(start, Collections.emptySortedMap());
     }
 
     /**
-     * Generate files untuk satu domain
+     * Generate semua file ke sink yang diberikan (mis. arsip). Fitur khusus direktori
+     * (manifest incremental, skipUnchanged, penghapusan file lama) tidak berlaku.
+     * Sink tidak ditutup oleh method ini.
      */
-    private void generateDomain(Domain domain) throws IOException {
-        logger.info("Generate domain: {}", domain.getName());
+    public GenerationResult generate(OutputSink sink) throws IOException {
+        long start = System.nanoTime();
+        beginRun();
+        resetManifest();
+        run(sink, null);
+        return result(start, Collections.emptySortedMap());
+    }
 
+    /**
+     * Generate semua file di memori tanpa menyentuh filesystem; isi file tersedia
+     * lewat GenerationResult.getFiles()
+     */
+    public GenerationResult generateInMemory() throws IOException {
+        long start = System.nanoTime();
+        beginRun();
+        resetManifest();
+        try (MemoryOutputSink sink = new MemoryOutputSink()) {
+            run(sink, null);
+            return result(start, sink.getFiles());
+        }
+    }
+
+    /**
+     * Generate class dan index ke sink. Semua domain di-generate class-nya; index domain
+     * hanya untuk domain terpilih, dan index utama hanya jika domainNames null (semua).
+     *
+     * @return direktori domain terpilih
+     */
+    private List<Path> run(OutputSink target, Collection<String> domainNames) throws IOException {
+        sink = target;
+        try {
+            long classesStart = System.nanoTime();
+            // Kumpulkan class dan association class dari seluruh domain, lalu generate sekaligus
+            List<ClassTask> tasks = new ArrayList<>();
+            List<Path> domainDirs = new ArrayList<>();
+            Map<Domain, Path> selectedDirs = new LinkedHashMap<>();
+            for (Domain domain : model.getDomains()) {
+                boolean selected = domainNames == null || domainNames.contains(domain.getName());
+                if (selected) {
+                    logger.info("Generate domain: {}", domain.getName());
+                }
+                Path domainDir = createDomainDirectory(domain);
+                domainDirs.add(domainDir);
+                if (selected) {
+                    selectedDirs.put(domain, domainDir);
+                }
+                addClassTasks(domain, domainDir, selected, tasks);
+            }
+            markWrites(tasks);
+            if (target.isOrdered()) {
+                target.plan(plannedEntries(tasks, domainDirs, selectedDirs.values(), domainNames == null));
+            }
+            generateClasses(tasks, target.isOrdered());
+            for (ClassTask task : tasks) {
+                if (task.write) {
+                    classCount++;
+                    if (task.classDef.getStateMachine() != null) {
+                        stateMachineCount++;
+                    }
+                }
+            }
+            phase("classes", classesStart);
+
+            long indexesStart = System.nanoTime();
+            // Generate domain index file
+            for (Map.Entry<Domain, Path> entry : selectedDirs.entrySet()) {
+                generateDomainIndex(entry.getKey(), entry.getValue());
+            }
+            // Generate index file
+            if (domainNames == null) {
+                generateIndexFile(selectedDirs.values());
+            }
+            phase("indexes", indexesStart);
+            return new ArrayList<>(selectedDirs.values());
+        } finally {
+            sink = null;
+        }
+    }
+
+    /**
+     * Reset state per generate
+     */
+    private void beginRun() {
+        generatedPaths.clear();
+        diagnostics.clear();
+        deletedFiles = 0;
+        reusedFiles.set(0);
+        outputFiles.set(0);
+        outputBytes.reset();
+        classCount = 0;
+        stateMachineCount = 0;
+        phases.clear();
+        // Satu timestamp untuk seluruh file dalam satu run
+        if (sourceDateEpoch != null) {
+            headerTimestamp = HeaderGenerator.formatSourceDateEpoch(sourceDateEpoch);
+        } else {
+            headerTimestamp = reproducible ? null : HeaderGenerator.getCurrentTimestamp();
+        }
+    }
+
+    private void phase(String name, long startNanos) {
+        phases.put(name, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private GenerationResult result(long startNanos, SortedMap<String, String> files) {
+        return new GenerationResult(files, outputFiles.get() + reusedFiles.get(), outputBytes.sum(), classCount,
+                stateMachineCount, reusedFiles.get(), new LinkedHashMap<>(phases),
+                Duration.ofNanos(System.nanoTime() - startNanos), new ArrayList<>(diagnostics));
+    }
+
+    private DirectoryOutputSink openDirectorySink() throws IOException {
+        directorySink = new DirectoryOutputSink(outputDirectory, writerThreads, writerQueueCapacity, skipUnchanged);
+        writerMetrics = null;
+        return directorySink;
+    }
+
+    private void closeDirectorySink() {
+        if (directorySink != null) {
+            writerMetrics = directorySink.getMetrics();
+            directorySink = null;
+        }
+    }
+
+    /**
+     * Baca manifest run sebelumnya (jika enabled) lalu hapus dari disk. Manifest baru
+     * hanya ditulis setelah generate berhasil, sehingga run yang gagal di tengah
+     * selalu diikuti build penuh.
+     */
+    private void openManifest(boolean enabled) throws IOException {
+        resetManifest();
+        if (enabled) {
+            settingsHash = BuildManifest.hash("xtuml-ts-compiler 1.1.0", reproducible, sourceDateEpoch);
+            previousManifest = BuildManifest.load(outputDirectory, settingsHash);
+            manifest = new BuildManifest(settingsHash);
+            generatedPaths.add(outputDirectory.resolve(BuildManifest.FILE_NAME).toAbsolutePath().normalize());
+        }
+        BuildManifest.delete(outputDirectory);
+    }
+
+    private void resetManifest() {
+        fragmentHashes.clear();
+        previousManifest = null;
+        manifest = null;
+    }
+
+    /**
+     * Path file relatif terhadap direktori output dengan pemisah '/'
+     */
+    private String manifestKey(Path path) {
+        return outputDirectory.relativize(path).toString().replace('\\', '/');
+    }
+
+    /**
+     * Entry manifest run sebelumnya yang masih berlaku untuk hash ini, atau null
+     */
+    private BuildManifest.Entry reusableEntry(Path path, String key, String hash) {
+        if (previousManifest == null) {
+            return null;
+        }
+        BuildManifest.Entry previous = previousManifest.getEntry(key);
+        if (previous == null || !hash.equals(previous.getHash()) || !Files.isRegularFile(path)) {
+            return null;
+        }
+        generatedPaths.add(path.toAbsolutePath().normalize());
+        reusedFiles.incrementAndGet();
+        return previous;
+    }
+
+    private String fragmentHash(ClassDefinition classDef) {
+        String hash = fragmentHashes.get(classDef);
+        if (hash == null) {
+            hash = BuildManifest.fragmentHash(classDef);
+            fragmentHashes.put(classDef, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Entry manifest untuk class: hash efektif mencakup fragmen class, seluruh ancestor
+     * (inherits_from), relationship pemilik association class, serta info domain dan
+     * model yang tampil di header
+     */
+    private BuildManifest.Entry classEntry(ClassTask task, Domain domain) {
+        String fragment = fragmentHash(task.classDef);
+        List<Object> parts = new ArrayList<>(List.of(settingsHash, String.valueOf(model.getSystemName()),
+                String.valueOf(model.getVersion()), String.valueOf(domain.getName()),
+                String.valueOf(domain.getKeyLetter()), fragment));
+        List<String> dependencies = new ArrayList<>();
+        for (ClassDefinition ancestor : index.getResolved(task.classDef).getAncestors()) {
+            Domain ancestorDomain = index.getDomain(ancestor);
+            dependencies.add("class:" + (ancestorDomain != null ? ancestorDomain.getName() + "/" : "")
+                    + ancestor.getName());
+            parts.add(fragmentHash(ancestor));
+        }
+        if (task.relationship != null) {
+            dependencies.add("relationship:" + domain.getName() + "/" + task.relationship.getRelationshipId());
+            parts.add(BuildManifest.fragmentHash(task.relationship));
+        }
+        return new BuildManifest.Entry("class", domain.getName() + "/" + task.classDef.getName(), fragment,
+                BuildManifest.hash(parts.toArray()), dependencies);
+    }
+
+    /**
+     * Tulis file index kecuali isinya (tanpa timestamp) sama dengan run sebelumnya
+     */
+    private void writeIndex(Path path, String kind, String source, String stableHeader, String header,
+            String body, List<String> dependencies) throws IOException {
+        if (manifest != null) {
+            String key = manifestKey(path);
+            String hash = BuildManifest.hash(settingsHash, stableHeader, body);
+            BuildManifest.Entry previous = reusableEntry(path, key, hash);
+            if (previous != null) {
+                manifest.putEntry(key, previous);
+                return;
+            }
+            manifest.putEntry(key, new BuildManifest.Entry(kind, source, hash, hash, dependencies));
+        }
+        writeFile(path, header + body);
+    }
+
+    /**
+     * Hapus file yang tercatat di manifest sebelumnya tetapi tidak lagi dihasilkan,
+     * beserta direktori yang menjadi kosong
+     *
+     * @return jumlah file yang dihapus
+     */
+    private int deleteOrphans() throws IOException {
+        if (previousManifest == null) {
+            return 0;
+        }
+        int deleted = 0;
+        for (String key : previousManifest.getFiles().keySet()) {
+            if (manifest.getEntry(key) != null) {
+                continue;
+            }
+            Path path = outputDirectory.resolve(key).normalize();
+            if (!path.startsWith(outputDirectory.normalize())) {
+                continue; // Abaikan entry yang menunjuk ke luar direktori output
+            }
+            if (Files.deleteIfExists(path)) {
+                deleted++;
+                logger.debug("Hapus file yatim: {}", path);
+            }
+            Path dir = path.getParent();
+            while (dir != null && !dir.equals(outputDirectory.normalize()) && Files.isDirectory(dir)
+                    && !generatedPaths.contains(dir.toAbsolutePath().normalize())) {
+                try (Stream<Path> children = Files.list(dir)) {
+                    if (children.findAny().isPresent()) {
+                        break;
+                    }
+                }
+                Files.delete(dir);
+                dir = dir.getParent();
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Serahkan file ke sink; untuk direktori dapat menunggu jika antrean writer penuh
+     */
+    private void writeFile(Path path, String content) throws IOException {
+        generatedPaths.add(path.toAbsolutePath().normalize());
+        outputFiles.incrementAndGet();
+        outputBytes.add(utf8Length(content));
+        sink.write(manifestKey(path), content);
+    }
+
+    /**
+     * Panjang UTF-8 tanpa meng-encode string
+     */
+    private static int utf8Length(String content) {
+        int length = content.length();
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c >= 0x800) {
+                // Surrogate pair (2 char) menjadi 4 byte, karakter BMP lain 3 byte
+                length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private Path createDomainDirectory(Domain domain) throws IOException {
         Path domainDir = outputDirectory.resolve(TypeScriptUtils.toKebabCase(domain.getName()));
-        Files.createDirectories(domainDir);
+        sink.createDirectory(manifestKey(domainDir));
+        generatedPaths.add(domainDir.toAbsolutePath().normalize());
+        return domainDir;
+    }
 
+    /**
+     * Hapus file di bawah roots yang tidak dihasilkan run ini, lalu direktori yang
+     * menjadi kosong. Hasil akhirnya sama dengan membersihkan output sebelum generate.
+     *
+     * @return jumlah file yang dihapus
+     */
+    private int deleteStaleFiles(Collection<Path> roots) throws IOException {
+        int deleted = 0;
+        for (Path root : roots) {
+            List<Path> paths;
+            try (Stream<Path> walk = Files.walk(root)) {
+                // Urutan terbalik: isi direktori diproses sebelum direktorinya
+                paths = walk.sorted(Comparator.reverseOrder()).toList();
+            }
+            for (Path path : paths) {
+                if (path.equals(root) || generatedPaths.contains(path.toAbsolutePath().normalize())) {
+                    continue;
+                }
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    try (Stream<Path> children = Files.list(path)) {
+                        if (children.findAny().isEmpty()) {
+                            Files.delete(path);
+                        }
+                    }
+                } else {
+                    Files.delete(path);
+                    deleted++;
+                    logger.debug("Hapus file lama: {}", path);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Tambahkan task untuk class domain dan (opsional) association class, sesuai urutan serial
+     */
+    private void addClassTasks(Domain domain, Path domainDir, boolean includeAssociations, List<ClassTask> tasks) {
         // Generate classes dengan embedded interfaces
         for (ClassDefinition classDef : domain.getClasses()) {
-            generateClass(classDef, domainDir);
+            tasks.add(new ClassTask(tasks.size(), classDef, domainDir, null));
         }
 
-        // Generate relationship interfaces
-        if (domain.getRelationships() != null) {
+        // Association class diperlakukan sebagai class biasa (lihat ModelIndex)
+        if (includeAssociations && domain.getRelationships() != null) {
             for (Relationship relationship : domain.getRelationships()) {
-                generateRelationship(relationship, domainDir);
+                if (relationship.getAssociationClass() != null) {
+                    tasks.add(new ClassTask(tasks.size(), index.getAssociationClass(relationship), domainDir,
+                            relationship));
+                }
+            }
+        }
+    }
+
+    /**
+     * Satu class yang akan di-generate beserta hasilnya
+     */
+    private static final class ClassTask {
+        private final int order;
+        private final ClassDefinition classDef;
+        private final Relationship relationship; // Pemilik association class, selain itu null
+        private final Path filePath;
+        private final int weight;
+        private boolean write = true;
+        private GenerationContext context;
+        private BuildManifest.Entry manifestEntry;
+        private IOException failure;
+
+        ClassTask(int order, ClassDefinition classDef, Path domainDir, Relationship relationship) {
+            this.order = order;
+            this.classDef = classDef;
+            this.relationship = relationship;
+            // Use original name for file name to preserve PascalCase structure
+            this.filePath = domainDir.resolve(TypeScriptUtils.toFileName(classDef.getName()));
+            this.weight = estimateWeight(classDef);
+        }
+
+        /**
+         * Perkiraan biaya generate: attribute ditambah transition yang jauh lebih mahal
+         */
+        private static int estimateWeight(ClassDefinition classDef) {
+            int weight = 1 + (classDef.getAttributes() != null ? classDef.getAttributes().size() : 0);
+            StateMachine stateMachine = classDef.getStateMachine();
+            if (stateMachine != null && stateMachine.getTransitions() != null) {
+                weight += 8 * stateMachine.getTransitions().size();
             }
+            return weight;
         }
+    }
 
-        // Generate domain index file
-        generateDomainIndex(domain, domainDir);
+    /**
+     * File dengan path sama hanya ditulis oleh task terakhir, seperti penimpaan serial
+     */
+    private static void markWrites(List<ClassTask> tasks) {
+        Map<Path, ClassTask> lastWriter = new HashMap<>();
+        for (ClassTask task : tasks) {
+            lastWriter.put(task.filePath, task);
+        }
+        for (ClassTask task : tasks) {
+            task.write = lastWriter.get(task.filePath) == task;
+        }
     }
 
     /**
-     * Generate class implementation with embedded interface
+     * Urutan entry untuk sink berurutan: direktori domain, file class sesuai urutan
+     * serial, index domain, lalu index utama
+     */
+    private List<String> plannedEntries(List<ClassTask> tasks, List<Path> domainDirs, Collection<Path> indexDirs,
+            boolean mainIndex) {
+        Set<String> entries = new LinkedHashSet<>();
+        for (Path domainDir : domainDirs) {
+            entries.add(manifestKey(domainDir) + "/");
+        }
+        for (ClassTask task : tasks) {
+            if (task.write) {
+                entries.add(manifestKey(task.filePath));
+            }
+        }
+        for (Path domainDir : indexDirs) {
+            entries.add(manifestKey(domainDir.resolve("index.ts")));
+        }
+        if (mainIndex) {
+            entries.add(manifestKey(outputDirectory.resolve("index.ts")));
+        }
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Generate seluruh task, serial atau paralel di work-stealing pool. Hasilnya
+     * identik dengan mode serial: setiap task hanya membaca model dan indeks, dan
+     * diagnostic digabung sesuai urutan serial.
+     *
+     * @param inOrder jadwalkan sesuai urutan serial (untuk sink berurutan) alih-alih
+     *                class terbesar lebih dulu
      */
-    private void generateClass(ClassDefinition classDef, Path domainDir) throws IOException {
-        this.currentClass = classDef; // Set current class context
+    private void generateClasses(List<ClassTask> tasks, boolean inOrder) throws IOException {
+        if (threads <= 1 || tasks.size() < 2) {
+            for (ClassTask task : tasks) {
+                runClassTask(task);
+                if (task.failure != null) {
+                    throw task.failure;
+                }
+            }
+        } else {
+            List<ClassTask> ordered = new ArrayList<>(tasks);
+            if (!inOrder) {
+                ordered.sort(Comparator.comparingInt((ClassTask task) -> task.weight).reversed()
+                        .thenComparingInt(task -> task.order));
+            }
+            logger.debug("Generate {} class dengan {} thread", tasks.size(), threads);
+
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                List<ForkJoinTask<?>> futures = new ArrayList<>(ordered.size());
+                for (ClassTask task : ordered) {
+                    futures.add(pool.submit(() -> runClassTask(task)));
+                }
+                for (ForkJoinTask<?> future : futures) {
+                    future.join();
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            for (ClassTask task : tasks) {
+                if (task.failure != null) {
+                    throw task.failure;
+                }
+            }
+        }
+
+        for (ClassTask task : tasks) {
+            diagnostics.addAll(task.context.getDiagnostics());
+            if (task.manifestEntry != null) {
+                manifest.putEntry(manifestKey(task.filePath), task.manifestEntry);
+            }
+        }
+    }
+
+    private void runClassTask(ClassTask task) {
+        Domain domain = index.getDomain(task.classDef);
+        if (domain == null) {
+            domain = model.getDomains().get(0); // fallback ke domain pertama
+        }
+        task.context = new GenerationContext(task.classDef, domain);
+        if (manifest != null && task.write) {
+            BuildManifest.Entry entry = classEntry(task, domain);
+            BuildManifest.Entry previous = reusableEntry(task.filePath, manifestKey(task.filePath), entry.getHash());
+            if (previous != null) {
+                // File masih sesuai; tampilkan ulang diagnostic dari run sebelumnya
+                for (BuildManifest.Diagnostic diagnostic : previous.getDiagnostics()) {
+                    task.context.addDiagnostic(diagnostic.toModelDiagnostic());
+                }
+                task.manifestEntry = previous;
+                return;
+            }
+            task.manifestEntry = entry;
+        }
+        String content = generateClass(task.context);
+        if (task.manifestEntry != null) {
+            for (ModelDiagnostic diagnostic : task.context.getDiagnostics()) {
+                task.manifestEntry.getDiagnostics().add(BuildManifest.Diagnostic.of(diagnostic));
+            }
+        }
+        if (!task.write) {
+            return;
+        }
+        try {
+            writeFile(task.filePath, content);
+            logger.debug("Generated class: {}", task.filePath);
+        } catch (IOException e) {
+            task.failure = e;
+        }
+    }
 
+    /**
+     * Generate class implementation with embedded interface
+     */
+    private String generateClass(GenerationContext context) {
+        ClassDefinition classDef = context.getClassDefinition();
         String className = TypeScriptUtils.toPascalCase(classDef.getName());
         String interfaceName = TypeScriptUtils.toInterfaceName(classDef.getName());
-        // Use original name for file name to preserve PascalCase structure
-        String fileName = TypeScriptUtils.toFileName(classDef.getName());
-        Path filePath = domainDir.resolve(fileName);
 
         StringBuilder content = new StringBuilder();
 
         // Generate professional header
-        Domain currentDomain = getCurrentDomain(classDef);
-        content.append(HeaderGenerator.generateClassHeader(classDef, currentDomain, model));
+        content.append(HeaderGenerator.generateClassHeader(classDef, context.getDomain(), model, headerTimestamp));
         content.append("\n");
 
         // Import parent interface and class if has inheritance
@@ -164,15 +844,11 @@ public class TypeScriptGenerator {
 
         // Generate state machine methods if applicable
         if (classDef.getStateMachine() != null) {
-            generateStateMachineMethods(classDef, content);
+            generateStateMachineMethods(context, content);
         }
 
         content.append("}\n");
-
-        // Write to file
-        Files.writeString(filePath, content.toString(), StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
-        logger.debug("Generated class: {}", filePath);
+        return content.toString();
     }
 
     /**
@@ -217,10 +893,9 @@ public class TypeScriptGenerator {
      * Generate state property untuk interface
      */
     private void generateStateProperty(ClassDefinition classDef, StringBuilder content) {
-        StateMachine sm = classDef.getStateMachine();
-        if (sm.getStates() != null && !sm.getStates().isEmpty()) {
-            String stateUnion = sm.getStates().stream()
-                    .map(State::getName)
+        CompiledStateMachine sm = index.getStateMachine(classDef);
+        if (sm.getStateCount() > 0) {
+            String stateUnion = sm.getStateNames().stream()
                     .map(name -> "'" + name + "'")
                     .collect(Collectors.joining(" | "));
 
@@ -274,17 +949,16 @@ public class TypeScriptGenerator {
      * Generate state property untuk class
      */
     private void generateStateClassProperty(ClassDefinition classDef, StringBuilder content) {
-        StateMachine sm = classDef.getStateMachine();
-        if (sm.getStates() != null && !sm.getStates().isEmpty()) {
-            String stateUnion = sm.getStates().stream()
-                    .map(State::getName)
+        CompiledStateMachine sm = index.getStateMachine(classDef);
+        if (sm.getStateCount() > 0) {
+            String stateUnion = sm.getStateNames().stream()
                     .map(name -> "'" + name + "'")
                     .collect(Collectors.joining(" | "));
 
             content.append("  public state: ").append(stateUnion);
 
-            if (sm.getInitialState() != null) {
-                content.append(" = '").append(sm.getInitialState()).append("'");
+            if (sm.getSource().getInitialState() != null) {
+                content.append(" = '").append(sm.getSource().getInitialState()).append("'");
             }
 
             content.append(";\n");
@@ -297,25 +971,11 @@ public class TypeScriptGenerator {
     private void generateConstructor(ClassDefinition classDef, StringBuilder content) {
         content.append("\n  constructor(");
 
-        // Constructor parameters (only naming attributes)
-        List<Attribute> namingAttrs = classDef.getAttributes() != null ? classDef.getAttributes().stream()
-                .filter(attr -> "naming".equals(attr.getAttributeType()))
-                .collect(Collectors.toList()) : new ArrayList<>();
-
-        // Get parent naming attributes if has inheritance
-        List<Attribute> parentNamingAttrs = new ArrayList<>();
-        if (classDef.getInheritsFrom() != null) {
-            ClassDefinition parentClass = classMap.get(classDef.getInheritsFrom());
-            if (parentClass != null && parentClass.getAttributes() != null) {
-                parentNamingAttrs = parentClass.getAttributes().stream()
-                        .filter(attr -> "naming".equals(attr.getAttributeType()))
-                        .collect(Collectors.toList());
-            }
-        }
-
-        // All naming attributes (parent + current)
-        List<Attribute> allNamingAttrs = new ArrayList<>(parentNamingAttrs);
-        allNamingAttrs.addAll(namingAttrs);
+        // Constructor parameters: naming attributes seluruh ancestor lalu milik class sendiri
+        ResolvedClass resolved = index.getResolved(classDef);
+        List<Attribute> parentNamingAttrs = resolved.getInheritedNamingAttributes();
+        List<Attribute> allNamingAttrs = resolved.getNamingAttributes();
+        List<Attribute> namingAttrs = allNamingAttrs.subList(parentNamingAttrs.size(), allNamingAttrs.size());
 
         for (int i = 0; i < allNamingAttrs.size(); i++) {
             Attribute attr = allNamingAttrs.get(i);
@@ -364,63 +1024,94 @@ public class TypeScriptGenerator {
     }
 
     /**
-     * Generate state machine methods
+     * Generate state machine methods. Method dibentuk per event ID: setiap
+     * baris CSR (from_state) menyumbang paling banyak satu transition lewat
+     * findTransition, sehingga event yang berlaku dari beberapa state menjadi
+     * satu method dengan satu cabang per state.
      */
-    private void generateStateMachineMethods(ClassDefinition classDef, StringBuilder content) {
-        StateMachine sm = classDef.getStateMachine();
-        if (sm.getTransitions() != null) {
-            content.append("\n  // State Machine Methods\n");
-
-            Set<String> generatedMethods = new HashSet<>();
-
-            for (Transition transition : sm.getTransitions()) {
-                // Check if transition has actionLanguage operations (new format)
-                boolean hasActionLanguage = false;
-                if (transition.getActionLanguage() != null && transition.getActionLanguage().getOperations() != null) {
-                    for (Operation operation : transition.getActionLanguage().getOperations()) {
-                        String methodName = TypeScriptUtils.toCamelCase(operation.getName());
-                        if (!generatedMethods.contains(methodName)) {
-                            generateOperationMethod(operation, transition, content);
-                            generatedMethods.add(methodName);
-                            hasActionLanguage = true;
-                        }
+    private void generateStateMachineMethods(GenerationContext context, StringBuilder content) {
+        CompiledStateMachine sm = index.getStateMachine(context.getClassDefinition());
+        if (sm.getEventCount() == 0) {
+            return;
+        }
+        content.append("\n  // State Machine Methods\n");
+
+        // Nama operation ditentukan model dan bisa dipakai ulang di beberapa event
+        Set<String> operationMethods = new HashSet<>();
+        for (int event = 0; event < sm.getEventCount(); event++) {
+            List<Transition> simpleBranches = new ArrayList<>();
+            Map<String, List<OperationBranch>> operationBranches = new LinkedHashMap<>();
+            for (int state = 0; state < sm.getStateCount(); state++) {
+                int t = sm.findTransition(state, event);
+                if (t == CompiledStateMachine.NONE) {
+                    continue;
+                }
+                Transition transition = sm.getTransition(t);
+                List<Operation> operations = operationsOf(transition);
+                if (operations.isEmpty()) {
+                    simpleBranches.add(transition);
+                }
+                for (Operation operation : operations) {
+                    List<OperationBranch> branches = operationBranches.computeIfAbsent(
+                            TypeScriptUtils.toCamelCase(operation.getName()), name -> new ArrayList<>());
+                    // Operation bernama sama pada transition yang sama hanya dipakai yang pertama
+                    if (branches.isEmpty() || branches.get(branches.size() - 1).transition() != transition) {
+                        branches.add(new OperationBranch(operation, transition));
                     }
                 }
+            }
 
-                // Check old format for backward compatibility
-                if (!hasActionLanguage && transition.getActions() != null) {
-                    for (Action action : transition.getActions()) {
-                        if (action.getActionLanguage() != null && action.getActionLanguage().getOperations() != null) {
-                            for (Operation operation : action.getActionLanguage().getOperations()) {
-                                String methodName = TypeScriptUtils.toCamelCase(operation.getName());
-                                if (!generatedMethods.contains(methodName)) {
-                                    generateOperationMethod(operation, transition, content);
-                                    generatedMethods.add(methodName);
-                                    hasActionLanguage = true;
-                                }
-                            }
-                        }
-                    }
+            for (Map.Entry<String, List<OperationBranch>> entry : operationBranches.entrySet()) {
+                if (operationMethods.add(entry.getKey())) {
+                    generateOperationMethod(context, entry.getKey(), entry.getValue(), content);
                 }
+            }
+            // Simple transition method hanya untuk state yang tidak memiliki actionLanguage
+            if (!simpleBranches.isEmpty()) {
+                generateSimpleTransitionMethod(sm.getEventName(event), simpleBranches, content);
+            }
+        }
+    }
 
-                // Generate simple transition method only if no actionLanguage
-                if (!hasActionLanguage) {
-                    String methodName = TypeScriptUtils.toCamelCase(transition.getEvent());
-                    if (!generatedMethods.contains(methodName)) {
-                        generateSimpleTransitionMethod(transition, content);
-                        generatedMethods.add(methodName);
-                    }
+    /**
+     * Operation dari actionLanguage transition, atau dari actions (format lama) jika tidak ada
+     */
+    private static List<Operation> operationsOf(Transition transition) {
+        if (transition.getActionLanguage() != null && transition.getActionLanguage().getOperations() != null
+                && !transition.getActionLanguage().getOperations().isEmpty()) {
+            return transition.getActionLanguage().getOperations();
+        }
+        List<Operation> operations = new ArrayList<>();
+        if (transition.getActions() != null) {
+            for (Action action : transition.getActions()) {
+                if (action.getActionLanguage() != null && action.getActionLanguage().getOperations() != null) {
+                    operations.addAll(action.getActionLanguage().getOperations());
                 }
             }
         }
+        return operations;
+    }
+
+    /**
+     * Satu cabang method operation: operation pada transition dari satu from_state
+     */
+    private record OperationBranch(Operation operation, Transition transition) {
     }
 
     /**
      * Generate simple transition method (when no actionLanguage is present)
      */
-    private void generateSimpleTransitionMethod(Transition transition, StringBuilder content) {
-        String methodName = TypeScriptUtils.toCamelCase(transition.getEvent());
+    private void generateSimpleTransitionMethod(String event, List<Transition> branches, StringBuilder content) {
+        String methodName = TypeScriptUtils.toCamelCase(event);
         content.append("  public ").append(methodName).append("(): boolean {\n");
+        for (Transition transition : branches) {
+            generateSimpleTransitionBranch(transition, content);
+        }
+        content.append("    return false;\n");
+        content.append("  }\n\n");
+    }
+
+    private void generateSimpleTransitionBranch(Transition transition, StringBuilder content) {
         content.append("    if (this.state === '").append(transition.getFromState()).append("') {\n");
         content.append("      this.state = '").append(transition.getToState()).append("';\n");
 
@@ -453,15 +1144,15 @@ public class TypeScriptGenerator {
 
         content.append("      return true;\n");
         content.append("    }\n");
-        content.append("    return false;\n");
-        content.append("  }\n\n");
     }
 
     /**
-     * Generate method dari operation dalam action language
+     * Generate method dari operation dalam action language. Parameter diambil
+     * dari operation cabang pertama; setiap cabang mengompilasi step-nya sendiri.
      */
-    private void generateOperationMethod(Operation operation, Transition transition, StringBuilder content) {
-        String methodName = TypeScriptUtils.toCamelCase(operation.getName());
+    private void generateOperationMethod(GenerationContext context, String methodName, List<OperationBranch> branches,
+            StringBuilder content) {
+        Operation operation = branches.get(0).operation();
 
         content.append("  public ").append(methodName).append("(");
 
@@ -478,228 +1169,161 @@ public class TypeScriptGenerator {
         }
 
         content.append("): boolean {\n");
+        for (OperationBranch branch : branches) {
+            generateOperationBranch(context, branch.operation(), branch.transition(), content);
+        }
+        content.append("    return false;\n");
+        content.append("  }\n\n");
+    }
+
+    private void generateOperationBranch(GenerationContext context, Operation operation, Transition transition,
+            StringBuilder content) {
         content.append("    if (this.state === '").append(transition.getFromState()).append("') {\n");
 
-        // Check if any action step updates the state machine
-        boolean stateUpdated = false;
         List<ActionStep> actionSteps = null;
 
         // Get action steps (new format - steps)
-        if (operation.getSteps() != null) {
+        if (operation.getSteps() != null && !operation.getSteps().isEmpty()) {
             actionSteps = operation.getSteps();
         }
         // Backward compatibility - old format (actions)
-        else if (operation.getActions() != null) {
+        else if (operation.getActions() != null && !operation.getActions().isEmpty()) {
             actionSteps = operation.getActions();
         }
 
-        // Check if state is explicitly updated in action steps
-        if (actionSteps != null) {
-            for (ActionStep actionStep : actionSteps) {
-                if ("update".equals(actionStep.getType()) &&
-                        "this".equals(actionStep.getTarget()) &&
-                        "Status".equals(actionStep.getAttribute()) &&
-                        currentClass != null &&
-                        currentClass.getStateMachine() != null) {
-                    stateUpdated = true;
-                    break;
-                }
-            }
-        }
-
-        // Generate action steps
-        if (actionSteps != null) {
-            for (ActionStep actionStep : actionSteps) {
-                generateActionStep(actionStep, operation, content, transition);
-            }
+        // Compile action steps ke AST, tambahkan state update otomatis jika belum ada, lalu optimasi
+        List<ActionNode> nodes = actionCompiler.compile(actionSteps, new OperationContext(context, operation));
+        if (!ActionCompiler.assignsState(nodes)) {
+            nodes.add(AssignNode.state(transition.getToState()));
         }
+        ACTION_EMITTER.emit(actionCompiler.optimize(nodes), content);
 
-        // Only add automatic state update if not already updated by action steps
-        if (!stateUpdated) {
-            content.append("      this.state = '").append(transition.getToState()).append("';\n");
-        }
         content.append("      return true;\n");
         content.append("    }\n");
-        content.append("    return false;\n");
-        content.append("  }\n\n");
     }
 
     /**
-     * Generate individual action step
+     * Informasi class dan operation saat ini untuk compiler action language
      */
-    private void generateActionStep(ActionStep actionStep, Operation operation, StringBuilder content,
-            Transition transition) {
-        switch (actionStep.getType()) {
-            case "update":
-                if ("this".equals(actionStep.getTarget()) && actionStep.getAttribute() != null
-                        && actionStep.getValue() != null) {
-                    // Use attribute name as-is if it's already in camelCase, otherwise convert
-                    String attrName = actionStep.getAttribute();
-                    if (!isCamelCase(attrName)) {
-                        attrName = TypeScriptUtils.toCamelCase(attrName);
-                    }
-                    String value = actionStep.getValue();
-
-                    // Check if this is a state machine update (Status attribute in state machine
-                    // context)
-                    boolean isStateMachineUpdate = "Status".equals(actionStep.getAttribute()) &&
-                            currentClass != null &&
-                            currentClass.getStateMachine() != null;
-
-                    // Check if value needs quotes (for string types)
-                    if (!value.matches("\\d+") && !value.equals("true") && !value.equals("false")) {
-                        value = "'" + TypeScriptUtils.escapeString(value) + "'";
-                    }
-
-                    // For state machine updates, update the state instead of status attribute
-                    if (isStateMachineUpdate) {
-                        content.append("      this.state = ").append(value).append(";\n");
-                    } else {
-                        // Check if the attribute exists in the current class
-                        boolean attributeExists = hasAttribute(actionStep.getAttribute());
-
-                        if (attributeExists) {
-                            content.append("      this.").append(attrName).append(" = ").append(value).append(";\n");
-                        } else {
-                            content.append("      // Update ").append(actionStep.getAttribute()).append(" to ")
-                                    .append(actionStep.getValue()).append("\n");
-                            content.append("      // this.").append(attrName).append(" = ").append(value).append(";\n");
-                        }
-                    }
-                }
-                break;
-
-            case "log":
-                String message = actionStep.getMessage();
-                if (message != null) {
-                    // Replace template variables
-                    message = replaceTemplateVariables(message, operation);
-                    content.append("      console.log(").append(message).append(");\n");
+    private final class OperationContext implements ActionContext {
+        private final GenerationContext context;
+        private final ClassDefinition currentClass;
+        private final Operation operation;
+        private final Map<String, String> parameters = new HashMap<>();
+
+        OperationContext(GenerationContext context, Operation operation) {
+            this.context = context;
+            this.currentClass = context.getClassDefinition();
+            this.operation = operation;
+            // Replace parameter variables ${paramName} dengan ${paramName}
+            if (operation.getParameters() != null) {
+                for (Parameter param : operation.getParameters()) {
+                    parameters.putIfAbsent(param.getName(), TypeScriptUtils.toCamelCase(param.getName()));
                 }
-                break;
-
-            default:
-                // Handle other action types if needed
-                content.append("      // Action type '").append(actionStep.getType()).append("' not implemented\n");
-                break;
+            }
         }
-    }
 
-    /**
-     * Check if attribute exists in current class definition or its parent
-     */
-    private boolean hasAttribute(String attributeName) {
-        if (currentClass == null)
-            return false;
+        @Override
+        public String propertyName(String attribute) {
+            // Use attribute name as-is if it's already in camelCase, otherwise convert
+            return isCamelCase(attribute) ? attribute : TypeScriptUtils.toCamelCase(attribute);
+        }
 
-        // Check current class attributes
-        if (currentClass.getAttributes() != null) {
-            for (Attribute attr : currentClass.getAttributes()) {
-                if (attributeName.equals(attr.getName())) {
-                    return true;
-                }
+        @Override
+        public String attributeType(String attribute) {
+            if (currentClass == null) {
+                return null;
             }
+            // Tabel attribute yang sudah diratakan mencakup seluruh ancestor
+            Attribute attr = index.getResolved(currentClass).getAttribute(attribute);
+            return attr != null ? TypeScriptUtils.convertDataType(attr.getDataType()) : null;
         }
 
-        // Check parent class attributes
-        if (currentClass.getInheritsFrom() != null) {
-            ClassDefinition parentClass = classMap.get(currentClass.getInheritsFrom());
-            if (parentClass != null && parentClass.getAttributes() != null) {
-                for (Attribute attr : parentClass.getAttributes()) {
-                    if (attributeName.equals(attr.getName())) {
-                        return true;
-                    }
-                }
-            }
+        @Override
+        public boolean hasStateMachine() {
+            return currentClass != null && currentClass.getStateMachine() != null;
         }
 
-        return false;
+        @Override
+        public List<TemplatePart> interpolate(String message) {
+            if (context.getTemplates() == null) {
+                context.setTemplates(createTemplateInterpolator(currentClass));
+            }
+            return context.getTemplates().parse(message, parameters, reference -> {
+                Domain domain = index.getDomain(currentClass);
+                String location = "class '" + currentClass.getName() + "' > operation '" + operation.getName() + "'";
+                context.addDiagnostic(ModelDiagnostic.warning(domain != null ? domain.getName() : null, location,
+                        "Referensi template '" + reference + "' tidak dikenal, dibiarkan apa adanya"));
+            });
+        }
     }
 
     /**
-     * Replace template variables dalam message
+     * Map referensi self.X untuk class saat ini: nama asli, versi PascalCase, dan
+     * versi huruf pertama kapital untuk nama camelCase, termasuk attribute warisan
      */
-    private String replaceTemplateVariables(String message, Operation operation) {
-        if (message == null)
-            return "''";
-
-        String result = message;
+    private TemplateInterpolator createTemplateInterpolator(ClassDefinition currentClass) {
+        Map<String, String> references = new LinkedHashMap<>();
+        if (currentClass != null) {
+            List<Attribute> attributes = new ArrayList<>();
+            if (currentClass.getAttributes() != null) {
+                attributes.addAll(currentClass.getAttributes());
+            }
+            attributes.addAll(index.getResolved(currentClass).getAttributes().values());
 
-        // Replace ${self.AttributeName} dengan ${this.attributeName}
-        // Also replace self.AttributeName (without ${}) to this.attributeName
-        // Get all attributes from current class
-        if (currentClass != null && currentClass.getAttributes() != null) {
-            for (Attribute attr : currentClass.getAttributes()) {
+            for (Attribute attr : attributes) {
                 String originalName = attr.getName();
-                // Use attribute name as-is if it's already in camelCase, otherwise convert
-                String camelCaseName = originalName;
-                if (!isCamelCase(originalName)) {
-                    camelCaseName = TypeScriptUtils.toCamelCase(originalName);
+                if (originalName == null) {
+                    continue;
                 }
-
-                // Replace all variations: self.attr, self.Attr, ${self.attr}, ${self.Attr}
-                // This handles camelCase, PascalCase, and original format
-                result = result.replace("${self." + originalName + "}", "${this." + camelCaseName + "}");
-                result = result.replace("${self." + TypeScriptUtils.toPascalCase(originalName) + "}",
-                        "${this." + camelCaseName + "}");
-                result = result.replace("self." + originalName, "this." + camelCaseName);
-                result = result.replace("self." + TypeScriptUtils.toPascalCase(originalName),
-                        "this." + camelCaseName);
-
-                // Also handle if originalName is camelCase but template uses PascalCase
+                // Use attribute name as-is if it's already in camelCase, otherwise convert
+                String camelCaseName = isCamelCase(originalName) ? originalName
+                        : TypeScriptUtils.toCamelCase(originalName);
+                references.putIfAbsent(originalName, camelCaseName);
+                references.putIfAbsent(TypeScriptUtils.toPascalCase(originalName), camelCaseName);
                 if (isCamelCase(originalName)) {
-                    String pascalVersion = Character.toUpperCase(originalName.charAt(0)) + originalName.substring(1);
-                    result = result.replace("${self." + pascalVersion + "}", "${this." + camelCaseName + "}");
-                    result = result.replace("self." + pascalVersion, "this." + camelCaseName);
+                    references.putIfAbsent(Character.toUpperCase(originalName.charAt(0)) + originalName.substring(1),
+                            camelCaseName);
                 }
             }
         }
+        return new TemplateInterpolator(references);
+    }
 
-        // Legacy replacements for backward compatibility
-        result = result.replace("${self.NIM}", "${this.nim}");
-        result = result.replace("${self.NIP}", "${this.nip}");
-        result = result.replace("${self.SessionId}", "${this.sessionId}");
-        result = result.replace("${self.UserId}", "${this.userId}");
-        result = result.replace("self.NIM", "this.nim");
-        result = result.replace("self.NIP", "this.nip");
-        result = result.replace("self.SessionId", "this.sessionId");
-        result = result.replace("self.UserId", "this.userId");
-
-        // Replace parameter variables ${paramName} dengan ${paramName}
-        if (operation.getParameters() != null) {
-            for (Parameter param : operation.getParameters()) {
-                String paramName = TypeScriptUtils.toCamelCase(param.getName());
-                result = result.replace("${" + param.getName() + "}", "${" + paramName + "}");
-            }
-        }
-
-        // Convert to template literal
-        if (result.contains("${")) {
-            result = "`" + result.replace("\\", "\\\\").replace("`", "\\`") + "`";
-        } else {
-            result = "'" + TypeScriptUtils.escapeString(result) + "'";
-        }
+    /**
+     * Compiler action language; tipe step dan pass optimasi tambahan didaftarkan di sini sebelum generate
+     */
+    public ActionCompiler getActionCompiler() {
+        return actionCompiler;
+    }
 
-        return result;
+    /**
+     * Jumlah file lama yang dihapus pada generate terakhir: file yang tidak lagi
+     * dihasilkan (mode skipUnchanged) atau file yatim menurut manifest (mode incremental)
+     */
+    public int getDeletedFiles() {
+        return deletedFiles;
     }
 
     /**
-     * Generate relationship interface
+     * Jumlah file yang tidak di-generate ulang karena manifest incremental masih berlaku
      */
-    private void generateRelationship(Relationship relationship, Path domainDir) throws IOException {
-        if (relationship.getAssociationClass() != null) {
-            AssociationClass assocClass = relationship.getAssociationClass();
+    public int getReusedFiles() {
+        return reusedFiles.get();
+    }
 
-            // Treat association class as regular class
-            ClassDefinition classDef = new ClassDefinition();
-            classDef.setEntityType("association_class");
-            classDef.setName(assocClass.getName());
-            classDef.setKeyLetter(assocClass.getKeyLetter());
-            classDef.setAttributes(assocClass.getAttributes());
-            classDef.setDescription("Association class for relationship " + relationship.getRelationshipId());
+    /**
+     * Metrik pipeline writer dari generate terakhir (null sebelum generate)
+     */
+    public FileWriterPipeline.Metrics getWriterMetrics() {
+        return writerMetrics;
+    }
 
-            generateClass(classDef, domainDir);
-        }
+    /**
+     * Referensi yang tidak dapat di-resolve selama generate (mis. self.X yang tidak ada di class)
+     */
+    public List<ModelDiagnostic> getDiagnostics() {
+        return Collections.unmodifiableList(diagnostics);
     }
 
     /**
@@ -708,9 +1332,8 @@ public class TypeScriptGenerator {
     private void generateDomainIndex(Domain domain, Path domainDir) throws IOException {
         Path indexPath = domainDir.resolve("index.ts");
         StringBuilder content = new StringBuilder();
+        List<String> members = new ArrayList<>();
 
-        // Generate professional header
-        content.append(HeaderGenerator.generateDomainIndexHeader(domain, model));
         content.append("\n");
 
         // Export all interfaces and classes from the same files
@@ -722,6 +1345,7 @@ public class TypeScriptGenerator {
 
             content.append("export { ").append(interfaceName).append(", ").append(className).append(" } from './")
                     .append(classFile).append("';\n");
+            members.add(manifestKey(domainDir.resolve(classFile + ".ts")));
         }
 
         // Export association classes
@@ -738,24 +1362,26 @@ public class TypeScriptGenerator {
                     content.append("export { ").append(interfaceName).append(", ").append(className)
                             .append(" } from './").append(classFile)
                             .append("';\n");
+                    members.add(manifestKey(domainDir.resolve(classFile + ".ts")));
                 }
             }
         }
 
-        Files.writeString(indexPath, content.toString(), StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
+        // Generate professional header
+        writeIndex(indexPath, "domain-index", domain.getName(),
+                HeaderGenerator.generateDomainIndexHeader(domain, model, null),
+                HeaderGenerator.generateDomainIndexHeader(domain, model, headerTimestamp),
+                content.toString(), members);
         logger.debug("Generated domain index: {}", indexPath);
     }
 
     /**
      * Generate main index file
      */
-    private void generateIndexFile() throws IOException {
+    private void generateIndexFile(Collection<Path> domainDirs) throws IOException {
         Path indexPath = outputDirectory.resolve("index.ts");
         StringBuilder content = new StringBuilder();
 
-        // Generate professional header
-        content.append(HeaderGenerator.generateMainIndexHeader(model));
         content.append("\n");
 
         // Export all domains
@@ -764,41 +1390,13 @@ public class TypeScriptGenerator {
             content.append("export * from './").append(domainName).append("';\n");
         }
 
-        Files.writeString(indexPath, content.toString(), StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
-        logger.debug("Generated main index: {}", indexPath);
-    }
-
-    /**
-     * Build map of all classes untuk reference
-     */
-    private Map<String, ClassDefinition> buildClassMap() {
-        Map<String, ClassDefinition> map = new HashMap<>();
-
-        for (Domain domain : model.getDomains()) {
-            if (domain.getClasses() != null) {
-                for (ClassDefinition classDef : domain.getClasses()) {
-                    map.put(classDef.getName(), classDef);
-                }
-            }
+        List<String> members = new ArrayList<>();
+        for (Path domainDir : domainDirs) {
+            members.add(manifestKey(domainDir.resolve("index.ts")));
         }
-
-        return map;
-    }
-
-    /**
-     * Get domain yang berisi class tertentu
-     */
-    private Domain getCurrentDomain(ClassDefinition classDef) {
-        for (Domain domain : model.getDomains()) {
-            if (domain.getClasses() != null) {
-                for (ClassDefinition cd : domain.getClasses()) {
-                    if (cd.getName().equals(classDef.getName())) {
-                        return domain;
-                    }
-                }
-            }
-        }
-        return model.getDomains().get(0); // fallback ke domain pertama
+        // Generate professional header
+        writeIndex(indexPath, "index", model.getSystemName(), HeaderGenerator.generateMainIndexHeader(model, null),
+                HeaderGenerator.generateMainIndexHeader(model, headerTimestamp), content.toString(), members);
+        logger.debug("Generated main index: {}", indexPath);
     }
-}
\ No newline at end of file
+}
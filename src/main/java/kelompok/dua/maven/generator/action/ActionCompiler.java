@@ -0,0 +1,115 @@
+package kelompok.dua.maven.generator.action;
+
+import kelompok.dua.maven.model.ActionStep;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mengompilasi step action language (Operation.steps/actions) menjadi AST,
+ * lalu menjalankan pass optimasi secara berurutan.
+ *
+ * Tipe step baru ditambahkan dengan register(type, handler); handler boleh
+ * menghasilkan node bawaan atau RawCodeNode. Tipe tanpa handler menjadi
+ * UnsupportedNode yang ditulis sebagai komentar.
+ */
+public final class ActionCompiler {
+    private final Map<String, ActionStepHandler> handlers = new HashMap<>();
+    private final List<ActionPass> passes = new ArrayList<>();
+
+    /**
+     * Compiler dengan handler update/log dan pass bawaan:
+     * constant folding, penghapusan update duplikat, lalu dead-store elimination
+     */
+    public ActionCompiler() {
+        register("update", ActionCompiler::compileUpdate);
+        register("log", ActionCompiler::compileLog);
+        passes.add(new ConstantFoldingPass());
+        passes.add(new DuplicateUpdateRemovalPass());
+        passes.add(new DeadStoreEliminationPass());
+    }
+
+    /**
+     * Daftarkan (atau ganti) handler untuk tipe step
+     */
+    public ActionCompiler register(String type, ActionStepHandler handler) {
+        handlers.put(type, handler);
+        return this;
+    }
+
+    /**
+     * Tambahkan pass optimasi yang dijalankan setelah pass bawaan
+     */
+    public ActionCompiler addPass(ActionPass pass) {
+        passes.add(pass);
+        return this;
+    }
+
+    /**
+     * Kompilasi step menjadi node AST tanpa optimasi
+     */
+    public List<ActionNode> compile(List<ActionStep> steps, ActionContext context) {
+        List<ActionNode> nodes = new ArrayList<>();
+        if (steps == null) {
+            return nodes;
+        }
+        for (ActionStep step : steps) {
+            ActionStepHandler handler = step.getType() != null ? handlers.get(step.getType()) : null;
+            ActionNode node = handler != null ? handler.compile(step, context) : new UnsupportedNode(step.getType());
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Jalankan seluruh pass optimasi secara berurutan
+     */
+    public List<ActionNode> optimize(List<ActionNode> nodes) {
+        List<ActionNode> result = nodes;
+        for (ActionPass pass : passes) {
+            result = pass.apply(result);
+        }
+        return result;
+    }
+
+    /**
+     * True jika ada node yang meng-assign this.state
+     */
+    public static boolean assignsState(List<ActionNode> nodes) {
+        for (ActionNode node : nodes) {
+            if (node instanceof AssignNode assign && assign.getTarget() == AssignNode.Target.STATE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ActionNode compileUpdate(ActionStep step, ActionContext context) {
+        if (!"this".equals(step.getTarget()) || step.getAttribute() == null || step.getValue() == null) {
+            return null;
+        }
+        String attribute = step.getAttribute();
+
+        // Update Status pada class dengan state machine mengubah state, bukan attribute status.
+        // this.state bertipe union nama state, jadi nilainya selalu literal string.
+        if ("Status".equals(attribute) && context.hasStateMachine()) {
+            return new AssignNode(AssignNode.Target.STATE, attribute, "state", step.getValue(),
+                    Constant.string(step.getValue()));
+        }
+        String type = context.attributeType(attribute);
+        Constant value = Constant.fold(step.getValue(), type);
+        AssignNode.Target target = type != null ? AssignNode.Target.PROPERTY : AssignNode.Target.MISSING_PROPERTY;
+        return new AssignNode(target, attribute, context.propertyName(attribute), step.getValue(), value);
+    }
+
+    private static ActionNode compileLog(ActionStep step, ActionContext context) {
+        if (step.getMessage() == null) {
+            return null;
+        }
+        return new LogNode(context.interpolate(step.getMessage()));
+    }
+}
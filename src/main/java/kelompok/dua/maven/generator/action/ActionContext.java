@@ -0,0 +1,26 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.List;
+
+/**
+ * Informasi class dan operation yang dibutuhkan handler saat mengompilasi step
+ */
+public interface ActionContext {
+
+    /**
+     * Nama property TypeScript untuk attribute model
+     */
+    String propertyName(String attribute);
+
+    /**
+     * Tipe TypeScript attribute (termasuk warisan), atau null jika attribute tidak ada
+     */
+    String attributeType(String attribute);
+
+    boolean hasStateMachine();
+
+    /**
+     * Resolve pesan template terhadap attribute class dan parameter operation
+     */
+    List<TemplatePart> interpolate(String message);
+}
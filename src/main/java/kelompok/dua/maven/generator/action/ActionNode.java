@@ -0,0 +1,7 @@
+package kelompok.dua.maven.generator.action;
+
+/**
+ * Node AST action language hasil kompilasi satu ActionStep
+ */
+public interface ActionNode {
+}
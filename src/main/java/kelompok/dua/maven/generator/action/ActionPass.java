@@ -0,0 +1,12 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.List;
+
+/**
+ * Pass optimasi atas daftar node satu operation
+ */
+@FunctionalInterface
+public interface ActionPass {
+
+    List<ActionNode> apply(List<ActionNode> nodes);
+}
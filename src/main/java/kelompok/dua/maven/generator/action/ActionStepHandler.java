@@ -0,0 +1,15 @@
+package kelompok.dua.maven.generator.action;
+
+import kelompok.dua.maven.model.ActionStep;
+
+/**
+ * Frontend untuk satu tipe step: mengubah ActionStep menjadi node AST
+ */
+@FunctionalInterface
+public interface ActionStepHandler {
+
+    /**
+     * @return node hasil kompilasi, atau null jika step tidak menghasilkan kode
+     */
+    ActionNode compile(ActionStep step, ActionContext context);
+}
@@ -0,0 +1,78 @@
+package kelompok.dua.maven.generator.action;
+
+/**
+ * Assignment ke state machine atau ke property class
+ */
+public final class AssignNode implements ActionNode {
+
+    /**
+     * Sasaran assignment
+     */
+    public enum Target {
+        /** this.state pada class yang memiliki state machine */
+        STATE,
+        /** property class (termasuk warisan) */
+        PROPERTY,
+        /** attribute tidak ada di class; ditulis sebagai komentar */
+        MISSING_PROPERTY
+    }
+
+    private final Target target;
+    private final String attribute;
+    private final String property;
+    private final String rawValue;
+    private final Constant value;
+
+    public AssignNode(Target target, String attribute, String property, String rawValue, Constant value) {
+        this.target = target;
+        this.attribute = attribute;
+        this.property = property;
+        this.rawValue = rawValue;
+        this.value = value;
+    }
+
+    /**
+     * Assignment state otomatis ke to_state transition
+     */
+    public static AssignNode state(String stateName) {
+        return new AssignNode(Target.STATE, null, "state", stateName, Constant.string(stateName));
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    /**
+     * Nama attribute seperti di model, atau null untuk assignment state otomatis
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Nama property TypeScript yang ditulis (this.&lt;property&gt;)
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    public String getRawValue() {
+        return rawValue;
+    }
+
+    public Constant getValue() {
+        return value;
+    }
+
+    /**
+     * True jika assignment benar-benar menulis ke objek (bukan komentar)
+     */
+    public boolean isStore() {
+        return target != Target.MISSING_PROPERTY;
+    }
+
+    @Override
+    public String toString() {
+        return "Assign{" + target + " " + property + " = " + value + "}";
+    }
+}
@@ -0,0 +1,107 @@
+package kelompok.dua.maven.generator.action;
+
+import kelompok.dua.maven.util.TypeScriptUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * Nilai konstanta hasil constant folding pada action language
+ */
+public final class Constant {
+
+    /**
+     * Tipe konstanta TypeScript
+     */
+    public enum Kind {
+        NUMBER, BOOLEAN, STRING
+    }
+
+    private final Kind kind;
+    private final String value;
+
+    private Constant(Kind kind, String value) {
+        this.kind = kind;
+        this.value = value;
+    }
+
+    public static Constant string(String value) {
+        return new Constant(Kind.STRING, value);
+    }
+
+    /**
+     * Fold nilai mentah dari model sesuai tipe attribute tujuan. Attribute
+     * bertipe string (atau tipe lain selain number/boolean) selalu menerima
+     * literal string, sehingga nilai seperti "007" tidak berubah. Bilangan
+     * bulat tanpa tanda hanya menjadi angka untuk attribute number atau yang
+     * tipenya tidak diketahui, bilangan desimal/negatif hanya untuk number.
+     * Angka dinormalisasi (mis. "007" -> "7") karena literal dengan nol di
+     * depan tidak valid di strict mode TypeScript.
+     */
+    public static Constant fold(String raw, String typeScriptType) {
+        boolean untyped = typeScriptType == null;
+        boolean number = "number".equals(typeScriptType);
+        if ((untyped || number || "boolean".equals(typeScriptType)) && (raw.equals("true") || raw.equals("false"))) {
+            return new Constant(Kind.BOOLEAN, raw);
+        }
+        if ((untyped && isDigits(raw)) || (number && isDecimal(raw))) {
+            return new Constant(Kind.NUMBER, new BigDecimal(raw).stripTrailingZeros().toPlainString());
+        }
+        return new Constant(Kind.STRING, raw);
+    }
+
+    private static boolean isDigits(String raw) {
+        if (raw.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < raw.length(); i++) {
+            if (raw.charAt(i) < '0' || raw.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDecimal(String raw) {
+        return raw.matches("-?\\d+(\\.\\d+)?");
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Nilai apa adanya, dipakai saat konstanta disisipkan ke dalam pesan template
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Literal TypeScript untuk konstanta
+     */
+    public String toTypeScript() {
+        return kind == Kind.STRING ? "'" + TypeScriptUtils.escapeString(value) + "'" : value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Constant)) {
+            return false;
+        }
+        Constant constant = (Constant) other;
+        return kind == constant.kind && value.equals(constant.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return kind.hashCode() * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toTypeScript();
+    }
+}
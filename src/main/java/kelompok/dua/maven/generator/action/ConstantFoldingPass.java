@@ -0,0 +1,60 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Menyisipkan konstanta yang baru di-assign ke dalam pesan log berikutnya,
+ * mis. this.nim = 'X' lalu ${this.nim} menjadi teks "X". Pesan yang tidak
+ * lagi memiliki ekspresi ditulis sebagai string literal biasa.
+ */
+public final class ConstantFoldingPass implements ActionPass {
+
+    @Override
+    public List<ActionNode> apply(List<ActionNode> nodes) {
+        Map<String, Constant> known = new HashMap<>();
+        List<ActionNode> result = new ArrayList<>(nodes.size());
+        for (ActionNode node : nodes) {
+            if (node instanceof AssignNode assign && assign.isStore()) {
+                known.put(assign.getProperty(), assign.getValue());
+            } else if (node instanceof LogNode log && !known.isEmpty()) {
+                node = fold(log, known);
+            } else if (node instanceof RawCodeNode) {
+                known.clear();
+            }
+            result.add(node);
+        }
+        return result;
+    }
+
+    private static LogNode fold(LogNode log, Map<String, Constant> known) {
+        List<TemplatePart> parts = new ArrayList<>(log.getParts().size());
+        StringBuilder text = new StringBuilder();
+        boolean changed = false;
+        for (TemplatePart part : log.getParts()) {
+            Constant constant = part.isExpression() ? known.get(ThisReferences.property(part.getText())) : null;
+            // Nilai yang memuat "${" akan terbaca sebagai placeholder, jadi tidak di-fold
+            if (constant != null && !constant.getValue().contains("${")) {
+                text.append(constant.getValue());
+                changed = true;
+            } else if (part.isExpression()) {
+                if (text.length() > 0) {
+                    parts.add(TemplatePart.text(text.toString()));
+                    text.setLength(0);
+                }
+                parts.add(part);
+            } else {
+                text.append(part.getText());
+            }
+        }
+        if (!changed) {
+            return log;
+        }
+        if (text.length() > 0) {
+            parts.add(TemplatePart.text(text.toString()));
+        }
+        return new LogNode(parts);
+    }
+}
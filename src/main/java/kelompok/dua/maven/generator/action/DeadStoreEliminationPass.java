@@ -0,0 +1,40 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Menghapus store ke property yang ditimpa lagi sebelum sempat dibaca.
+ * Dipindai dari belakang: property yang sudah ditulis oleh node sesudahnya
+ * dan tidak dibaca di antaranya berarti store saat ini mati.
+ */
+public final class DeadStoreEliminationPass implements ActionPass {
+
+    @Override
+    public List<ActionNode> apply(List<ActionNode> nodes) {
+        Set<String> overwritten = new HashSet<>();
+        List<ActionNode> result = new ArrayList<>(nodes.size());
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            ActionNode node = nodes.get(i);
+            if (node instanceof AssignNode assign && assign.isStore()) {
+                if (!overwritten.add(assign.getProperty())) {
+                    continue;
+                }
+            } else if (node instanceof LogNode log) {
+                for (TemplatePart part : log.getParts()) {
+                    if (part.isExpression() && !ThisReferences.collect(part.getText(), overwritten::remove)) {
+                        overwritten.clear();
+                    }
+                }
+            } else if (node instanceof RawCodeNode) {
+                overwritten.clear();
+            }
+            result.add(node);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+}
@@ -0,0 +1,32 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Menghapus update yang menulis nilai yang sama dengan nilai property saat itu
+ */
+public final class DuplicateUpdateRemovalPass implements ActionPass {
+
+    @Override
+    public List<ActionNode> apply(List<ActionNode> nodes) {
+        Map<String, Constant> current = new HashMap<>();
+        List<ActionNode> result = new ArrayList<>(nodes.size());
+        for (ActionNode node : nodes) {
+            if (node instanceof AssignNode assign) {
+                // Update attribute yang tidak ada hanya berupa komentar, dibedakan dengan prefix key
+                String key = assign.isStore() ? assign.getProperty() : "#" + assign.getAttribute();
+                if (assign.getValue().equals(current.get(key))) {
+                    continue;
+                }
+                current.put(key, assign.getValue());
+            } else if (node instanceof RawCodeNode) {
+                current.clear();
+            }
+            result.add(node);
+        }
+        return result;
+    }
+}
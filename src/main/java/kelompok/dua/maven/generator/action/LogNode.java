@@ -0,0 +1,23 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.List;
+
+/**
+ * console.log dengan pesan template yang sudah di-resolve
+ */
+public final class LogNode implements ActionNode {
+    private final List<TemplatePart> parts;
+
+    public LogNode(List<TemplatePart> parts) {
+        this.parts = List.copyOf(parts);
+    }
+
+    public List<TemplatePart> getParts() {
+        return parts;
+    }
+
+    @Override
+    public String toString() {
+        return "Log{" + TemplateInterpolator.render(parts) + "}";
+    }
+}
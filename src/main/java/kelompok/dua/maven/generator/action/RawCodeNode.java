@@ -0,0 +1,25 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.List;
+
+/**
+ * Baris TypeScript apa adanya, untuk tipe step tambahan yang didaftarkan lewat
+ * ActionCompiler.register. Pass optimasi memperlakukannya sebagai batas:
+ * tidak ada store atau konstanta yang dipindahkan melewatinya.
+ */
+public final class RawCodeNode implements ActionNode {
+    private final List<String> lines;
+
+    public RawCodeNode(List<String> lines) {
+        this.lines = List.copyOf(lines);
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    @Override
+    public String toString() {
+        return "Raw" + lines;
+    }
+}
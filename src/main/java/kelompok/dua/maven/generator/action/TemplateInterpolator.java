@@ -0,0 +1,170 @@
+package kelompok.dua.maven.generator.action;
+
+import kelompok.dua.maven.util.TypeScriptUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Interpolasi pesan template action "log" menjadi string literal TypeScript.
+ *
+ * Pesan dipindai sekali: setiap ${...} dan referensi bare self.X di-resolve
+ * lewat map nama -> property TypeScript yang dihitung sekali per class.
+ * Referensi yang tidak dikenal dibiarkan apa adanya dan dilaporkan ke
+ * callback unresolved.
+ */
+public final class TemplateInterpolator {
+    private static final String SELF_PREFIX = "self.";
+
+    // Penggantian lama yang selalu berlaku, dengan prioritas di bawah attribute class
+    private static final Map<String, String> LEGACY_REFERENCES = Map.of(
+            "NIM", "nim",
+            "NIP", "nip",
+            "SessionId", "sessionId",
+            "UserId", "userId");
+
+    private final Map<String, String> selfReferences;
+
+    /**
+     * @param selfReferences nama yang boleh dipakai setelah "self." -> nama property TypeScript
+     */
+    public TemplateInterpolator(Map<String, String> selfReferences) {
+        Map<String, String> references = new LinkedHashMap<>(selfReferences);
+        LEGACY_REFERENCES.forEach(references::putIfAbsent);
+        this.selfReferences = references;
+    }
+
+    /**
+     * Ubah pesan menjadi template literal (jika ada ${...}) atau string literal biasa
+     *
+     * @param parameters nama parameter operation -> nama parameter TypeScript
+     * @param unresolved menerima setiap referensi yang tidak dapat di-resolve
+     */
+    public String interpolate(String message, Map<String, String> parameters, Consumer<String> unresolved) {
+        if (message == null) {
+            return "''";
+        }
+        return render(parse(message, parameters, unresolved));
+    }
+
+    /**
+     * Pindai pesan sekali menjadi potongan teks dan ekspresi yang sudah di-resolve
+     */
+    public List<TemplatePart> parse(String message, Map<String, String> parameters, Consumer<String> unresolved) {
+        List<TemplatePart> parts = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        int length = message.length();
+        int i = 0;
+        while (i < length) {
+            int close;
+            if (message.startsWith("${", i) && (close = message.indexOf('}', i + 2)) >= 0) {
+                if (text.length() > 0) {
+                    parts.add(TemplatePart.text(text.toString()));
+                    text.setLength(0);
+                }
+                parts.add(TemplatePart.expression(resolvePlaceholder(message.substring(i + 2, close), parameters,
+                        unresolved)));
+                i = close + 1;
+            } else if (isSelfReference(message, i)) {
+                i = appendSelfReference(message, i, unresolved, text);
+            } else {
+                text.append(message.charAt(i++));
+            }
+        }
+        if (text.length() > 0) {
+            parts.add(TemplatePart.text(text.toString()));
+        }
+        return parts;
+    }
+
+    /**
+     * Tulis potongan sebagai string literal TypeScript
+     */
+    public static String render(List<TemplatePart> parts) {
+        StringBuilder result = new StringBuilder();
+        for (TemplatePart part : parts) {
+            result.append(part);
+        }
+        String text = result.toString();
+        // "${" tanpa penutup tetap membuat template literal, sama seperti sebelumnya
+        if (text.contains("${")) {
+            return "`" + text.replace("\\", "\\\\").replace("`", "\\`") + "`";
+        }
+        return "'" + TypeScriptUtils.escapeString(text) + "'";
+    }
+
+    private String resolvePlaceholder(String expression, Map<String, String> parameters, Consumer<String> unresolved) {
+        // ${self.Nama Lengkap}: seluruh isi placeholder boleh berupa nama attribute
+        String property = expression.startsWith(SELF_PREFIX)
+                ? selfReferences.get(expression.substring(SELF_PREFIX.length()))
+                : null;
+        if (property != null) {
+            return "this." + property;
+        }
+        if (parameters.containsKey(expression)) {
+            return parameters.get(expression);
+        }
+        if (isIdentifier(expression)) {
+            if (!"this".equals(expression)) {
+                unresolved.accept(expression);
+            }
+            return expression;
+        }
+
+        // Ekspresi bebas: hanya referensi self.X di dalamnya yang diterjemahkan
+        StringBuilder result = new StringBuilder();
+        int i = 0;
+        while (i < expression.length()) {
+            if (isSelfReference(expression, i)) {
+                i = appendSelfReference(expression, i, unresolved, result);
+            } else {
+                result.append(expression.charAt(i++));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Tulis referensi bare self.X dan kembalikan posisi setelahnya
+     */
+    private int appendSelfReference(String text, int start, Consumer<String> unresolved, StringBuilder result) {
+        int nameStart = start + SELF_PREFIX.length();
+        int end = nameStart;
+        while (end < text.length() && Character.isJavaIdentifierPart(text.charAt(end))) {
+            end++;
+        }
+        String property = selfReferences.get(text.substring(nameStart, end));
+        if (property != null) {
+            result.append("this.").append(property);
+        } else {
+            unresolved.accept(text.substring(start, end));
+            result.append(text, start, end);
+        }
+        return end;
+    }
+
+    /**
+     * "self." di posisi ini yang bukan bagian dari kata lain dan diikuti nama
+     */
+    private static boolean isSelfReference(String text, int index) {
+        return text.startsWith(SELF_PREFIX, index)
+                && (index == 0 || !Character.isJavaIdentifierPart(text.charAt(index - 1)))
+                && index + SELF_PREFIX.length() < text.length()
+                && Character.isJavaIdentifierStart(text.charAt(index + SELF_PREFIX.length()));
+    }
+
+    private static boolean isIdentifier(String text) {
+        if (text.isEmpty() || !Character.isJavaIdentifierStart(text.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < text.length(); i++) {
+            if (!Character.isJavaIdentifierPart(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package kelompok.dua.maven.generator.action;
+
+/**
+ * Potongan pesan template: teks biasa atau ekspresi TypeScript di dalam ${...}
+ */
+public final class TemplatePart {
+    private final boolean expression;
+    private final String text;
+
+    private TemplatePart(boolean expression, String text) {
+        this.expression = expression;
+        this.text = text;
+    }
+
+    public static TemplatePart text(String text) {
+        return new TemplatePart(false, text);
+    }
+
+    public static TemplatePart expression(String expression) {
+        return new TemplatePart(true, expression);
+    }
+
+    public boolean isExpression() {
+        return expression;
+    }
+
+    /**
+     * Teks literal, atau isi ekspresi tanpa ${ }
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return expression ? "${" + text + "}" : text;
+    }
+}
@@ -0,0 +1,55 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.function.Consumer;
+
+/**
+ * Pencarian referensi this.X di dalam ekspresi template
+ */
+final class ThisReferences {
+    private static final String THIS = "this";
+
+    private ThisReferences() {
+    }
+
+    /**
+     * Nama property jika ekspresi tepat berbentuk this.X, selain itu null
+     */
+    static String property(String expression) {
+        if (!expression.startsWith(THIS + ".") || expression.length() == THIS.length() + 1) {
+            return null;
+        }
+        for (int i = THIS.length() + 1; i < expression.length(); i++) {
+            if (!Character.isJavaIdentifierPart(expression.charAt(i))) {
+                return null;
+            }
+        }
+        return expression.substring(THIS.length() + 1);
+    }
+
+    /**
+     * Laporkan setiap property yang dibaca lewat this.X
+     *
+     * @return false jika "this" dipakai tanpa akses property (mis. dioper utuh),
+     *         sehingga property mana pun bisa terbaca
+     */
+    static boolean collect(String expression, Consumer<String> reads) {
+        int index = expression.indexOf(THIS);
+        while (index >= 0) {
+            int end = index + THIS.length();
+            boolean standalone = (index == 0 || !Character.isJavaIdentifierPart(expression.charAt(index - 1)))
+                    && (end == expression.length() || !Character.isJavaIdentifierPart(expression.charAt(end)));
+            if (standalone) {
+                if (end >= expression.length() - 1 || expression.charAt(end) != '.') {
+                    return false;
+                }
+                int nameEnd = end + 1;
+                while (nameEnd < expression.length() && Character.isJavaIdentifierPart(expression.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                reads.accept(expression.substring(end + 1, nameEnd));
+            }
+            index = expression.indexOf(THIS, end);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package kelompok.dua.maven.generator.action;
+
+import java.util.List;
+
+/**
+ * Backend yang menulis node AST action language sebagai statement TypeScript
+ */
+public final class TypeScriptActionEmitter {
+    private final String indent;
+
+    public TypeScriptActionEmitter(String indent) {
+        this.indent = indent;
+    }
+
+    public void emit(List<ActionNode> nodes, StringBuilder content) {
+        for (ActionNode node : nodes) {
+            emit(node, content);
+        }
+    }
+
+    private void emit(ActionNode node, StringBuilder content) {
+        if (node instanceof AssignNode assign) {
+            if (assign.isStore()) {
+                content.append(indent).append("this.").append(assign.getProperty()).append(" = ")
+                        .append(assign.getValue().toTypeScript()).append(";\n");
+            } else {
+                content.append(indent).append("// Update ").append(assign.getAttribute()).append(" to ")
+                        .append(assign.getRawValue()).append("\n");
+                content.append(indent).append("// this.").append(assign.getProperty()).append(" = ")
+                        .append(assign.getValue().toTypeScript()).append(";\n");
+            }
+        } else if (node instanceof LogNode log) {
+            content.append(indent).append("console.log(").append(TemplateInterpolator.render(log.getParts()))
+                    .append(");\n");
+        } else if (node instanceof RawCodeNode raw) {
+            for (String line : raw.getLines()) {
+                content.append(indent).append(line).append("\n");
+            }
+        } else if (node instanceof UnsupportedNode unsupported) {
+            content.append(indent).append("// Action type '").append(unsupported.getType())
+                    .append("' not implemented\n");
+        } else {
+            throw new IllegalArgumentException("Node action tidak dikenal: " + node.getClass().getName());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package kelompok.dua.maven.generator.action;
+
+/**
+ * Step dengan tipe yang tidak memiliki handler
+ */
+public final class UnsupportedNode implements ActionNode {
+    private final String type;
+
+    public UnsupportedNode(String type) {
+        this.type = type;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "Unsupported{" + type + "}";
+    }
+}
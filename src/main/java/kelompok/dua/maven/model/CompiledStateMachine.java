@@ -0,0 +1,356 @@
+package kelompok.dua.maven.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State machine yang dikompilasi ke tabel berindeks integer.
+ *
+ * State dan event diberi ID berurutan sesuai urutan kemunculan. Tabel
+ * state x event disimpan dalam bentuk CSR (transition dikelompokkan per
+ * from_state), sehingga memori sebanding dengan jumlah transition, bukan
+ * states x events. Analisis reachability dari initial_state, dead-end, dan
+ * transition nondeterministik (pasangan state + event yang sama) dihitung
+ * sekali saat kompilasi dalam waktu linear.
+ */
+public final class CompiledStateMachine {
+    public static final int NONE = -1;
+
+    private final StateMachine source;
+    private final String[] stateNames;
+    private final String[] eventNames;
+    private final Map<String, Integer> stateIds;
+    private final Map<String, Integer> eventIds;
+    private final int initialState;
+
+    // Per transition, sesuai urutan model; NONE jika state/event tidak terdefinisi
+    private final int[] fromStates;
+    private final int[] toStates;
+    private final int[] events;
+
+    // outgoing[outgoingStart[s] .. outgoingStart[s + 1]) = indeks transition dari state s
+    private final int[] outgoingStart;
+    private final int[] outgoing;
+
+    private final List<String> duplicateStates;
+    private final boolean[] reachable;
+    private final List<Conflict> conflicts;
+
+    private CompiledStateMachine(StateMachine source, List<String> states, List<String> duplicateStates,
+            Map<String, Integer> stateIds, List<String> events, Map<String, Integer> eventIds,
+            int[] fromStates, int[] toStates, int[] transitionEvents) {
+        this.source = source;
+        this.stateNames = states.toArray(new String[0]);
+        this.eventNames = events.toArray(new String[0]);
+        this.stateIds = stateIds;
+        this.eventIds = eventIds;
+        this.duplicateStates = duplicateStates.isEmpty() ? List.of() : Collections.unmodifiableList(duplicateStates);
+        this.fromStates = fromStates;
+        this.toStates = toStates;
+        this.events = transitionEvents;
+        Integer initial = source.getInitialState() != null ? stateIds.get(source.getInitialState()) : null;
+        this.initialState = initial != null ? initial : NONE;
+
+        // Counting sort transition berdasarkan from_state
+        int stateCount = stateNames.length;
+        this.outgoingStart = new int[stateCount + 1];
+        for (int from : fromStates) {
+            if (from != NONE) {
+                outgoingStart[from + 1]++;
+            }
+        }
+        for (int s = 0; s < stateCount; s++) {
+            outgoingStart[s + 1] += outgoingStart[s];
+        }
+        this.outgoing = new int[outgoingStart[stateCount]];
+        int[] cursor = Arrays.copyOf(outgoingStart, stateCount);
+        for (int t = 0; t < fromStates.length; t++) {
+            if (fromStates[t] != NONE) {
+                outgoing[cursor[fromStates[t]]++] = t;
+            }
+        }
+
+        this.reachable = computeReachable();
+        this.conflicts = computeConflicts();
+    }
+
+    /**
+     * Kompilasi state machine. State tanpa nama diabaikan; state duplikat
+     * memakai definisi pertama dan dicatat di getDuplicateStates().
+     */
+    public static CompiledStateMachine compile(StateMachine stateMachine) {
+        List<String> states = new ArrayList<>();
+        List<String> duplicates = new ArrayList<>();
+        Map<String, Integer> stateIds = new HashMap<>();
+        if (stateMachine.getStates() != null) {
+            for (State state : stateMachine.getStates()) {
+                String name = state.getName();
+                if (name == null || name.trim().isEmpty()) {
+                    continue;
+                }
+                if (stateIds.putIfAbsent(name, states.size()) == null) {
+                    states.add(name);
+                } else {
+                    duplicates.add(name);
+                }
+            }
+        }
+
+        List<Transition> transitions = stateMachine.getTransitions() != null ? stateMachine.getTransitions()
+                : List.of();
+        int[] fromStates = new int[transitions.size()];
+        int[] toStates = new int[transitions.size()];
+        int[] transitionEvents = new int[transitions.size()];
+        List<String> events = new ArrayList<>();
+        Map<String, Integer> eventIds = new HashMap<>();
+        for (int t = 0; t < transitions.size(); t++) {
+            Transition transition = transitions.get(t);
+            fromStates[t] = lookup(stateIds, transition.getFromState());
+            toStates[t] = lookup(stateIds, transition.getToState());
+            String event = transition.getEvent();
+            if (event == null || event.trim().isEmpty()) {
+                transitionEvents[t] = NONE;
+            } else {
+                Integer id = eventIds.putIfAbsent(event, events.size());
+                if (id == null) {
+                    id = events.size();
+                    events.add(event);
+                }
+                transitionEvents[t] = id;
+            }
+        }
+
+        return new CompiledStateMachine(stateMachine, states, duplicates, stateIds, events, eventIds,
+                fromStates, toStates, transitionEvents);
+    }
+
+    private static int lookup(Map<String, Integer> ids, String name) {
+        Integer id = name != null ? ids.get(name) : null;
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * BFS dari initial_state melalui transition yang valid
+     */
+    private boolean[] computeReachable() {
+        boolean[] visited = new boolean[stateNames.length];
+        if (initialState == NONE) {
+            return visited;
+        }
+        int[] queue = new int[stateNames.length];
+        int head = 0;
+        int tail = 0;
+        visited[initialState] = true;
+        queue[tail++] = initialState;
+        while (head < tail) {
+            int state = queue[head++];
+            for (int i = outgoingStart[state]; i < outgoingStart[state + 1]; i++) {
+                int target = toStates[outgoing[i]];
+                if (target != NONE && !visited[target]) {
+                    visited[target] = true;
+                    queue[tail++] = target;
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Pasangan (state, event) yang muncul lebih dari sekali. Array lastSeen per
+     * event menyimpan transition terakhir untuk state yang sedang dipindai,
+     * sehingga seluruh pemeriksaan linear terhadap jumlah transition.
+     */
+    private List<Conflict> computeConflicts() {
+        int[] lastState = new int[eventNames.length];
+        int[] lastTransition = new int[eventNames.length];
+        Arrays.fill(lastState, NONE);
+        List<Conflict> found = new ArrayList<>();
+        for (int state = 0; state < stateNames.length; state++) {
+            for (int i = outgoingStart[state]; i < outgoingStart[state + 1]; i++) {
+                int transition = outgoing[i];
+                int event = events[transition];
+                if (event == NONE) {
+                    continue;
+                }
+                if (lastState[event] == state) {
+                    found.add(new Conflict(this, state, event, lastTransition[event], transition));
+                } else {
+                    lastState[event] = state;
+                    lastTransition[event] = transition;
+                }
+            }
+        }
+        return found.isEmpty() ? List.of() : Collections.unmodifiableList(found);
+    }
+
+    /**
+     * Dua transition dengan from_state dan event yang sama
+     */
+    public static final class Conflict {
+        private final CompiledStateMachine owner;
+        private final int state;
+        private final int event;
+        private final int firstTransition;
+        private final int secondTransition;
+
+        private Conflict(CompiledStateMachine owner, int state, int event, int firstTransition, int secondTransition) {
+            this.owner = owner;
+            this.state = state;
+            this.event = event;
+            this.firstTransition = firstTransition;
+            this.secondTransition = secondTransition;
+        }
+
+        public String getStateName() {
+            return owner.getStateName(state);
+        }
+
+        public String getEventName() {
+            return owner.getEventName(event);
+        }
+
+        public int getFirstTransition() {
+            return firstTransition;
+        }
+
+        public int getSecondTransition() {
+            return secondTransition;
+        }
+
+        /**
+         * True jika kedua transition menuju state berbeda (benar-benar nondeterministik),
+         * false jika hanya duplikat dengan tujuan yang sama
+         */
+        public boolean isNondeterministic() {
+            return owner.toStates[firstTransition] != owner.toStates[secondTransition];
+        }
+    }
+
+    /**
+     * Transition untuk pasangan state + event (yang pertama jika ada beberapa), atau NONE
+     */
+    public int findTransition(int state, int event) {
+        if (state < 0 || state >= stateNames.length) {
+            return NONE;
+        }
+        for (int i = outgoingStart[state]; i < outgoingStart[state + 1]; i++) {
+            if (events[outgoing[i]] == event) {
+                return outgoing[i];
+            }
+        }
+        return NONE;
+    }
+
+    public StateMachine getSource() {
+        return source;
+    }
+
+    public int getStateCount() {
+        return stateNames.length;
+    }
+
+    public int getEventCount() {
+        return eventNames.length;
+    }
+
+    public int getTransitionCount() {
+        return fromStates.length;
+    }
+
+    public int getStateId(String name) {
+        return lookup(stateIds, name);
+    }
+
+    public int getEventId(String name) {
+        return lookup(eventIds, name);
+    }
+
+    public String getStateName(int state) {
+        return state == NONE ? null : stateNames[state];
+    }
+
+    public String getEventName(int event) {
+        return event == NONE ? null : eventNames[event];
+    }
+
+    /**
+     * Nama state unik sesuai urutan definisi
+     */
+    public List<String> getStateNames() {
+        return List.of(stateNames);
+    }
+
+    /**
+     * ID initial_state, atau NONE jika tidak ditentukan/tidak terdefinisi
+     */
+    public int getInitialState() {
+        return initialState;
+    }
+
+    public Transition getTransition(int transition) {
+        return source.getTransitions().get(transition);
+    }
+
+    public int getFromState(int transition) {
+        return fromStates[transition];
+    }
+
+    public int getToState(int transition) {
+        return toStates[transition];
+    }
+
+    public int getEvent(int transition) {
+        return events[transition];
+    }
+
+    /**
+     * Nama state yang didefinisikan lebih dari sekali
+     */
+    public List<String> getDuplicateStates() {
+        return duplicateStates;
+    }
+
+    public boolean isReachable(int state) {
+        return reachable[state];
+    }
+
+    /**
+     * State yang tidak dapat dicapai dari initial_state (kosong jika initial_state tidak valid)
+     */
+    public List<String> getUnreachableStates() {
+        if (initialState == NONE) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (int state = 0; state < stateNames.length; state++) {
+            if (!reachable[state]) {
+                result.add(stateNames[state]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * State tanpa transition keluar
+     */
+    public List<String> getDeadEndStates() {
+        List<String> result = new ArrayList<>();
+        for (int state = 0; state < stateNames.length; state++) {
+            if (outgoingStart[state] == outgoingStart[state + 1]) {
+                result.add(stateNames[state]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Pasangan (state, event) yang didefinisikan lebih dari sekali
+     */
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,231 @@
+package kelompok.dua.maven.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indeks read-only atas XtumlModel yang dibangun sekali setelah parsing.
+ * Seluruh lookup (class -> domain, domain + nama -> class, class -> parent,
+ * class + nama attribute -> attribute) berjalan O(1) sehingga generator tidak
+ * perlu memindai ulang domain dan class. Inheritance multi-level juga
+ * di-resolve sekali di sini (lihat ResolvedClass), begitu pula state machine
+ * yang dikompilasi ke tabel transition (lihat CompiledStateMachine).
+ *
+ * Association class ikut diindeks sebagai ClassDefinition sintetis milik
+ * domain relationship-nya. Indeks tidak mengikuti perubahan model setelah dibangun.
+ */
+public final class ModelIndex {
+    // Class model tidak meng-override equals/hashCode, jadi key tetap berbasis identitas; urutan sesuai model
+    private final Map<ClassDefinition, Domain> classDomains = new LinkedHashMap<>();
+    private final Map<String, Map<String, ClassDefinition>> classesByDomain = new HashMap<>();
+    private final Map<String, ClassDefinition> classesByName = new HashMap<>();
+    private final Map<ClassDefinition, ClassDefinition> parents = new IdentityHashMap<>();
+    private final Map<ClassDefinition, Map<String, Attribute>> attributes = new IdentityHashMap<>();
+    private final Map<Relationship, ClassDefinition> associationClasses = new IdentityHashMap<>();
+    private final Map<ClassDefinition, ResolvedClass> resolved = new IdentityHashMap<>();
+    private final Map<ClassDefinition, CompiledStateMachine> stateMachines = new IdentityHashMap<>();
+    private final List<ClassDefinition> topologicalOrder = new ArrayList<>();
+
+    private ModelIndex() {
+    }
+
+    /**
+     * Bangun indeks untuk seluruh domain di model
+     */
+    public static ModelIndex build(XtumlModel model) {
+        ModelIndex index = new ModelIndex();
+        List<Domain> domains = model.getDomains() != null ? model.getDomains() : List.of();
+
+        for (Domain domain : domains) {
+            Map<String, ClassDefinition> byName = index.classesByDomain.computeIfAbsent(domain.getName(),
+                    k -> new HashMap<>());
+            if (domain.getClasses() != null) {
+                for (ClassDefinition classDef : domain.getClasses()) {
+                    index.addClass(domain, byName, classDef);
+                }
+            }
+            if (domain.getRelationships() != null) {
+                for (Relationship relationship : domain.getRelationships()) {
+                    if (relationship.getAssociationClass() != null) {
+                        ClassDefinition classDef = toClassDefinition(relationship);
+                        index.associationClasses.put(relationship, classDef);
+                        index.addClass(domain, byName, classDef);
+                    }
+                }
+            }
+        }
+
+        // Parent di-resolve setelah semua class terindeks; domain sendiri didahulukan
+        for (Map.Entry<ClassDefinition, Domain> entry : index.classDomains.entrySet()) {
+            ClassDefinition classDef = entry.getKey();
+            String parentName = classDef.getInheritsFrom();
+            if (parentName == null) {
+                continue;
+            }
+            ClassDefinition parent = index.classesByDomain.get(entry.getValue().getName()).get(parentName);
+            if (parent == null) {
+                parent = index.classesByName.get(parentName);
+            }
+            if (parent != null) {
+                index.parents.put(classDef, parent);
+            }
+        }
+
+        for (ClassDefinition classDef : index.classDomains.keySet()) {
+            index.resolve(classDef);
+        }
+        return index;
+    }
+
+    /**
+     * Resolve inheritance class beserta ancestor-nya yang belum di-resolve.
+     * Rantai parent ditelusuri secara iteratif lalu di-resolve dari root ke
+     * bawah, sehingga setiap class diproses tepat sekali (DFS linear) dan
+     * urutan penyelesaiannya adalah urutan topologis.
+     *
+     * @throws IllegalStateException jika ditemukan siklus inheritance
+     */
+    private void resolve(ClassDefinition classDef) {
+        Deque<ClassDefinition> pending = new ArrayDeque<>();
+        Set<ClassDefinition> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        ClassDefinition current = classDef;
+        while (current != null && !resolved.containsKey(current)) {
+            if (!visiting.add(current)) {
+                List<String> cycle = new ArrayList<>();
+                for (Iterator<ClassDefinition> it = pending.descendingIterator(); it.hasNext();) {
+                    cycle.add(it.next().getName());
+                }
+                cycle = cycle.subList(cycle.indexOf(current.getName()), cycle.size());
+                cycle.add(current.getName());
+                throw new IllegalStateException("Siklus inheritance: " + String.join(" -> ", cycle));
+            }
+            pending.push(current);
+            current = parents.get(current);
+        }
+
+        while (!pending.isEmpty()) {
+            ClassDefinition next = pending.pop();
+            ClassDefinition parent = parents.get(next);
+            resolved.put(next, new ResolvedClass(next, parent != null ? resolved.get(parent) : null));
+            topologicalOrder.add(next);
+        }
+    }
+
+    private void addClass(Domain domain, Map<String, ClassDefinition> byName, ClassDefinition classDef) {
+        classDomains.put(classDef, domain);
+        if (classDef.getName() != null) {
+            byName.putIfAbsent(classDef.getName(), classDef);
+            classesByName.putIfAbsent(classDef.getName(), classDef);
+        }
+
+        Map<String, Attribute> byAttributeName = new LinkedHashMap<>();
+        if (classDef.getAttributes() != null) {
+            for (Attribute attribute : classDef.getAttributes()) {
+                if (attribute.getName() != null) {
+                    byAttributeName.putIfAbsent(attribute.getName(), attribute);
+                }
+            }
+        }
+        attributes.put(classDef, byAttributeName.isEmpty() ? Collections.emptyMap() : byAttributeName);
+
+        if (classDef.getStateMachine() != null) {
+            stateMachines.put(classDef, CompiledStateMachine.compile(classDef.getStateMachine()));
+        }
+    }
+
+    /**
+     * Association class diperlakukan sebagai class biasa saat generate
+     */
+    private static ClassDefinition toClassDefinition(Relationship relationship) {
+        AssociationClass assocClass = relationship.getAssociationClass();
+        ClassDefinition classDef = new ClassDefinition();
+        classDef.setEntityType("association_class");
+        classDef.setName(assocClass.getName());
+        classDef.setKeyLetter(assocClass.getKeyLetter());
+        classDef.setAttributes(assocClass.getAttributes());
+        classDef.setDescription("Association class for relationship " + relationship.getRelationshipId());
+        return classDef;
+    }
+
+    /**
+     * Domain pemilik class, atau null jika class tidak berasal dari model ini
+     */
+    public Domain getDomain(ClassDefinition classDef) {
+        return classDomains.get(classDef);
+    }
+
+    /**
+     * Cari class berdasarkan nama domain dan nama class
+     */
+    public ClassDefinition getClass(String domainName, String className) {
+        Map<String, ClassDefinition> byName = classesByDomain.get(domainName);
+        return byName != null ? byName.get(className) : null;
+    }
+
+    /**
+     * Cari class berdasarkan nama saja; jika nama dipakai di beberapa domain,
+     * definisi pertama sesuai urutan model yang dikembalikan
+     */
+    public ClassDefinition getClass(String className) {
+        return classesByName.get(className);
+    }
+
+    /**
+     * Parent langsung dari class (inherits_from), atau null
+     */
+    public ClassDefinition getParent(ClassDefinition classDef) {
+        return parents.get(classDef);
+    }
+
+    /**
+     * Attribute milik class itu sendiri (tanpa parent) berdasarkan nama, atau null
+     */
+    public Attribute getAttribute(ClassDefinition classDef, String attributeName) {
+        Map<String, Attribute> byName = attributes.get(classDef);
+        return byName != null ? byName.get(attributeName) : null;
+    }
+
+    /**
+     * ClassDefinition sintetis untuk association class sebuah relationship
+     */
+    public ClassDefinition getAssociationClass(Relationship relationship) {
+        return associationClasses.get(relationship);
+    }
+
+    /**
+     * Hasil resolusi inheritance (ancestor dan attribute yang diratakan) untuk class
+     */
+    public ResolvedClass getResolved(ClassDefinition classDef) {
+        return resolved.get(classDef);
+    }
+
+    /**
+     * Tabel transition hasil kompilasi state machine class, atau null jika class tidak memiliki state machine
+     */
+    public CompiledStateMachine getStateMachine(ClassDefinition classDef) {
+        return stateMachines.get(classDef);
+    }
+
+    /**
+     * Seluruh class terindeks dengan setiap parent mendahului child-nya
+     */
+    public List<ClassDefinition> getTopologicalOrder() {
+        return Collections.unmodifiableList(topologicalOrder);
+    }
+
+    /**
+     * Jumlah class terindeks, termasuk association class
+     */
+    public int getClassCount() {
+        return classDomains.size();
+    }
+}
@@ -0,0 +1,106 @@
+package kelompok.dua.maven.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hasil resolusi inheritance sebuah class: rantai ancestor lengkap dan tabel
+ * attribute yang sudah diratakan. Dihitung sekali oleh ModelIndex, dengan
+ * parent selalu di-resolve lebih dulu sehingga child cukup memperluas tabel parent.
+ */
+public final class ResolvedClass {
+    private final ClassDefinition classDefinition;
+    private final List<ClassDefinition> ancestors;
+    private final Map<String, Attribute> attributes;
+    private final List<Attribute> inheritedNamingAttributes;
+    private final List<Attribute> namingAttributes;
+
+    ResolvedClass(ClassDefinition classDefinition, ResolvedClass parent) {
+        this.classDefinition = classDefinition;
+
+        List<Attribute> ownAttributes = classDefinition.getAttributes() != null ? classDefinition.getAttributes()
+                : List.of();
+        List<Attribute> ownNaming = new ArrayList<>();
+        for (Attribute attribute : ownAttributes) {
+            if ("naming".equals(attribute.getAttributeType())) {
+                ownNaming.add(attribute);
+            }
+        }
+
+        if (parent == null) {
+            this.ancestors = List.of();
+            this.inheritedNamingAttributes = List.of();
+        } else {
+            List<ClassDefinition> chain = new ArrayList<>(parent.ancestors);
+            chain.add(parent.classDefinition);
+            this.ancestors = Collections.unmodifiableList(chain);
+            this.inheritedNamingAttributes = parent.getNamingAttributes();
+        }
+
+        if (parent == null && ownAttributes.isEmpty()) {
+            this.attributes = Collections.emptyMap();
+        } else {
+            Map<String, Attribute> flattened = parent != null ? new LinkedHashMap<>(parent.attributes)
+                    : new LinkedHashMap<>();
+            for (Attribute attribute : ownAttributes) {
+                if (attribute.getName() != null) {
+                    flattened.put(attribute.getName(), attribute);
+                }
+            }
+            this.attributes = Collections.unmodifiableMap(flattened);
+        }
+
+        if (inheritedNamingAttributes.isEmpty()) {
+            this.namingAttributes = ownNaming.isEmpty() ? List.of() : Collections.unmodifiableList(ownNaming);
+        } else if (ownNaming.isEmpty()) {
+            this.namingAttributes = inheritedNamingAttributes;
+        } else {
+            List<Attribute> all = new ArrayList<>(inheritedNamingAttributes);
+            all.addAll(ownNaming);
+            this.namingAttributes = Collections.unmodifiableList(all);
+        }
+    }
+
+    public ClassDefinition getClassDefinition() {
+        return classDefinition;
+    }
+
+    /**
+     * Seluruh ancestor, dari root sampai parent langsung
+     */
+    public List<ClassDefinition> getAncestors() {
+        return ancestors;
+    }
+
+    /**
+     * Tabel attribute milik class dan seluruh ancestor-nya; attribute child
+     * menimpa attribute ancestor dengan nama yang sama
+     */
+    public Map<String, Attribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Cari attribute di class ini atau di ancestor manapun
+     */
+    public Attribute getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Naming attribute milik seluruh ancestor (root lebih dulu); diteruskan ke super()
+     */
+    public List<Attribute> getInheritedNamingAttributes() {
+        return inheritedNamingAttributes;
+    }
+
+    /**
+     * Seluruh naming attribute untuk parameter constructor: milik ancestor lalu milik class sendiri
+     */
+    public List<Attribute> getNamingAttributes() {
+        return namingAttributes;
+    }
+}
@@ -0,0 +1,300 @@
+package kelompok.dua.maven.parser;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Indeks rentang byte setiap domain di dalam file model JSON, beserta nama
+ * class dan inherits_from-nya. Indeks disimpan di samping file input (.xtidx)
+ * sehingga mode --domain dapat langsung membaca domain yang diminta tanpa
+ * men-tokenize domain lain.
+ */
+public class DomainIndex {
+    private static final Logger logger = LoggerFactory.getLogger(DomainIndex.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @JsonProperty("source_size")
+    private long sourceSize;
+
+    @JsonProperty("source_modified")
+    private long sourceModified;
+
+    @JsonProperty("system_name")
+    private String systemName;
+
+    private String version;
+    private List<Entry> domains = new ArrayList<>();
+
+    /**
+     * Posisi satu domain di dalam file input
+     */
+    public static class Entry {
+        private String name;
+
+        @JsonProperty("key_letter")
+        private String keyLetter;
+
+        @JsonProperty("start_offset")
+        private long startOffset;
+
+        @JsonProperty("end_offset")
+        private long endOffset;
+
+        private List<ClassEntry> classes = new ArrayList<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getKeyLetter() {
+            return keyLetter;
+        }
+
+        public void setKeyLetter(String keyLetter) {
+            this.keyLetter = keyLetter;
+        }
+
+        public long getStartOffset() {
+            return startOffset;
+        }
+
+        public void setStartOffset(long startOffset) {
+            this.startOffset = startOffset;
+        }
+
+        public long getEndOffset() {
+            return endOffset;
+        }
+
+        public void setEndOffset(long endOffset) {
+            this.endOffset = endOffset;
+        }
+
+        public List<ClassEntry> getClasses() {
+            return classes;
+        }
+
+        public void setClasses(List<ClassEntry> classes) {
+            this.classes = classes;
+        }
+    }
+
+    /**
+     * Nama class dan parent-nya, cukup untuk menghitung closure inheritance
+     */
+    public static class ClassEntry {
+        private String name;
+
+        @JsonProperty("inherits_from")
+        private String inheritsFrom;
+
+        public ClassEntry() {
+        }
+
+        public ClassEntry(String name, String inheritsFrom) {
+            this.name = name;
+            this.inheritsFrom = inheritsFrom;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getInheritsFrom() {
+            return inheritsFrom;
+        }
+
+        public void setInheritsFrom(String inheritsFrom) {
+            this.inheritsFrom = inheritsFrom;
+        }
+    }
+
+    /**
+     * Path indeks default untuk sebuah file input (di direktori yang sama)
+     */
+    public static Path indexPathFor(Path inputPath) {
+        String fileName = inputPath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return inputPath.resolveSibling(baseName + ".xtidx");
+    }
+
+    /**
+     * Muat indeks yang tersimpan jika masih sesuai dengan file input, atau bangun ulang lalu simpan
+     */
+    public static DomainIndex loadOrBuild(Path inputPath, JsonFactory jsonFactory) throws IOException {
+        Path indexPath = indexPathFor(inputPath);
+        long size = Files.size(inputPath);
+        long modified = Files.getLastModifiedTime(inputPath).toMillis();
+
+        if (Files.isRegularFile(indexPath)) {
+            try {
+                DomainIndex index = MAPPER.readValue(indexPath.toFile(), DomainIndex.class);
+                if (index.sourceSize == size && index.sourceModified == modified) {
+                    logger.info("Menggunakan domain index: {}", indexPath);
+                    return index;
+                }
+            } catch (IOException e) {
+                logger.debug("Domain index tidak dapat dibaca, dibangun ulang: {}", indexPath, e);
+            }
+        }
+
+        DomainIndex index = build(inputPath, jsonFactory);
+        index.sourceSize = size;
+        index.sourceModified = modified;
+        try {
+            MAPPER.writeValue(indexPath.toFile(), index);
+            logger.info("Domain index ditulis: {}", indexPath);
+        } catch (IOException e) {
+            logger.warn("Gagal menulis domain index {}: {}", indexPath, e.getMessage());
+        }
+        return index;
+    }
+
+    /**
+     * Bangun indeks dengan satu kali scan token. Isi class selain name dan
+     * inherits_from, serta seluruh relationship, dilewati dengan skipChildren.
+     */
+    public static DomainIndex build(Path inputPath, JsonFactory jsonFactory) throws IOException {
+        DomainIndex index = new DomainIndex();
+        try (JsonParser p = jsonFactory.createParser(inputPath.toFile())) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, "Root model harus berupa object");
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "system_name" -> index.systemName = XtumlModelBinder.readString(p);
+                    case "version" -> index.version = XtumlModelBinder.readString(p);
+                    case "domains" -> {
+                        if (XtumlModelBinder.startArray(p, "domains")) {
+                            while (p.nextToken() != JsonToken.END_ARRAY) {
+                                index.domains.add(scanDomain(p));
+                            }
+                        }
+                    }
+                    default -> throw XtumlModelBinder.unknownField(p, field, "XtumlModel");
+                }
+            }
+        }
+        return index;
+    }
+
+    private static Entry scanDomain(JsonParser p) throws IOException {
+        XtumlModelBinder.expectObject(p, "Domain");
+        Entry entry = new Entry();
+        entry.startOffset = p.currentTokenLocation().getByteOffset();
+        if (entry.startOffset < 0) {
+            throw new JsonParseException(p, "Offset byte tidak tersedia untuk format input ini");
+        }
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "name" -> entry.name = XtumlModelBinder.readString(p);
+                case "key_letter" -> entry.keyLetter = XtumlModelBinder.readString(p);
+                case "classes" -> {
+                    if (XtumlModelBinder.startArray(p, "classes")) {
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            entry.classes.add(scanClass(p));
+                        }
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        // Token saat ini adalah '}' penutup domain
+        entry.endOffset = p.currentTokenLocation().getByteOffset() + 1;
+        return entry;
+    }
+
+    private static ClassEntry scanClass(JsonParser p) throws IOException {
+        XtumlModelBinder.expectObject(p, "ClassDefinition");
+        ClassEntry classEntry = new ClassEntry();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "name" -> classEntry.name = XtumlModelBinder.readString(p);
+                case "inherits_from" -> classEntry.inheritsFrom = XtumlModelBinder.readString(p);
+                default -> p.skipChildren();
+            }
+        }
+        return classEntry;
+    }
+
+    /**
+     * Cari entry domain berdasarkan nama
+     */
+    public Entry getDomain(String name) {
+        for (Entry entry : domains) {
+            if (name.equals(entry.name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // Getters and Setters
+    public long getSourceSize() {
+        return sourceSize;
+    }
+
+    public void setSourceSize(long sourceSize) {
+        this.sourceSize = sourceSize;
+    }
+
+    public long getSourceModified() {
+        return sourceModified;
+    }
+
+    public void setSourceModified(long sourceModified) {
+        this.sourceModified = sourceModified;
+    }
+
+    public String getSystemName() {
+        return systemName;
+    }
+
+    public void setSystemName(String systemName) {
+        this.systemName = systemName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public List<Entry> getDomains() {
+        return domains;
+    }
+
+    public void setDomains(List<Entry> domains) {
+        this.domains = domains;
+    }
+}
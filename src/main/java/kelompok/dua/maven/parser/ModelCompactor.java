@@ -0,0 +1,218 @@
+package kelompok.dua.maven.parser;
+
+import kelompok.dua.maven.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Pass pemadatan model setelah parsing. String yang sama (nama tipe, role,
+ * state, dst.) di-dedup ke satu instance, setiap list diganti dengan list
+ * immutable berukuran pas, dan collection yang tidak ada diisi satu instance
+ * List.of() bersama sehingga kode pembaca tidak perlu null check.
+ *
+ * Model yang sudah dipadatkan tidak boleh dimodifikasi strukturnya lagi.
+ */
+public class ModelCompactor {
+    private static final Logger logger = LoggerFactory.getLogger(ModelCompactor.class);
+
+    // Perkiraan ukuran objek pada JVM 64-bit dengan compressed oops
+    private static final int STRING_OVERHEAD = 24 + 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int ARRAYLIST_OVERHEAD = 24 + 16;
+    private static final int IMMUTABLE_LIST_OVERHEAD = 16 + 16;
+
+    private final Map<String, String> pool = new HashMap<>();
+    private long strings;
+    private long duplicateStrings;
+    private long lists;
+    private long emptyLists;
+    private long bytesSaved;
+
+    /**
+     * Padatkan seluruh model secara in-place
+     */
+    public XtumlModel compact(XtumlModel model) {
+        model.setSystemName(intern(model.getSystemName()));
+        model.setVersion(intern(model.getVersion()));
+        model.setDomains(compactList(model.getDomains(), this::compactDomain));
+
+        logger.info("Model dipadatkan: {} dari {} string di-dedup, {} list ({} kosong), ~{} KB dihemat",
+                duplicateStrings, strings, lists, emptyLists, bytesSaved / 1024);
+        return model;
+    }
+
+    private void compactDomain(Domain domain) {
+        domain.setName(intern(domain.getName()));
+        domain.setKeyLetter(intern(domain.getKeyLetter()));
+        domain.setClasses(compactList(domain.getClasses(), this::compactClass));
+        domain.setRelationships(compactList(domain.getRelationships(), this::compactRelationship));
+    }
+
+    private void compactClass(ClassDefinition classDef) {
+        classDef.setEntityType(intern(classDef.getEntityType()));
+        classDef.setName(intern(classDef.getName()));
+        classDef.setKeyLetter(intern(classDef.getKeyLetter()));
+        classDef.setInheritsFrom(intern(classDef.getInheritsFrom()));
+        classDef.setDescription(intern(classDef.getDescription()));
+        classDef.setAttributes(compactList(classDef.getAttributes(), this::compactAttribute));
+        if (classDef.getStateMachine() != null) {
+            compactStateMachine(classDef.getStateMachine());
+        }
+    }
+
+    private void compactAttribute(Attribute attribute) {
+        attribute.setName(intern(attribute.getName()));
+        attribute.setDataType(intern(attribute.getDataType()));
+        attribute.setAttributeType(intern(attribute.getAttributeType()));
+        attribute.setDefaultValue(intern(attribute.getDefaultValue()));
+    }
+
+    private void compactStateMachine(StateMachine stateMachine) {
+        stateMachine.setInitialState(intern(stateMachine.getInitialState()));
+        stateMachine.setStates(compactList(stateMachine.getStates(), state -> state.setName(intern(state.getName()))));
+        stateMachine.setTransitions(compactList(stateMachine.getTransitions(), this::compactTransition));
+    }
+
+    private void compactTransition(Transition transition) {
+        transition.setFromState(intern(transition.getFromState()));
+        transition.setToState(intern(transition.getToState()));
+        transition.setEvent(intern(transition.getEvent()));
+        transition.setActions(compactList(transition.getActions(), this::compactAction));
+        if (transition.getActionLanguage() != null) {
+            compactActionLanguage(transition.getActionLanguage());
+        }
+    }
+
+    private void compactAction(Action action) {
+        action.setType(intern(action.getType()));
+        action.setMessage(intern(action.getMessage()));
+        if (action.getActionLanguage() != null) {
+            compactActionLanguage(action.getActionLanguage());
+        }
+    }
+
+    private void compactActionLanguage(ActionLanguage actionLanguage) {
+        actionLanguage.setOperations(compactList(actionLanguage.getOperations(), this::compactOperation));
+    }
+
+    private void compactOperation(Operation operation) {
+        operation.setName(intern(operation.getName()));
+        operation.setParameters(compactList(operation.getParameters(), parameter -> {
+            parameter.setName(intern(parameter.getName()));
+            parameter.setType(intern(parameter.getType()));
+        }));
+        operation.setActions(compactList(operation.getActions(), this::compactActionStep));
+        operation.setSteps(compactList(operation.getSteps(), this::compactActionStep));
+    }
+
+    private void compactActionStep(ActionStep step) {
+        step.setType(intern(step.getType()));
+        step.setTarget(intern(step.getTarget()));
+        step.setAttribute(intern(step.getAttribute()));
+        step.setValue(intern(step.getValue()));
+        step.setMessage(intern(step.getMessage()));
+    }
+
+    private void compactRelationship(Relationship relationship) {
+        relationship.setRelationshipId(intern(relationship.getRelationshipId()));
+        relationship.setDescription(intern(relationship.getDescription()));
+        relationship.setRelationshipType(intern(relationship.getRelationshipType()));
+        relationship.setParticipants(compactList(relationship.getParticipants(), participant -> {
+            participant.setClassName(intern(participant.getClassName()));
+            participant.setRole(intern(participant.getRole()));
+            participant.setMultiplicity(intern(participant.getMultiplicity()));
+        }));
+        AssociationClass associationClass = relationship.getAssociationClass();
+        if (associationClass != null) {
+            associationClass.setName(intern(associationClass.getName()));
+            associationClass.setKeyLetter(intern(associationClass.getKeyLetter()));
+            associationClass.setAttributes(compactList(associationClass.getAttributes(), this::compactAttribute));
+        }
+    }
+
+    /**
+     * Ganti string dengan instance kanonik dari pool lokal. Pool sengaja tidak
+     * memakai String.intern() agar tidak memenuhi string table JVM dan ikut
+     * dibuang bersama compactor.
+     */
+    private String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        strings++;
+        String canonical = pool.putIfAbsent(value, value);
+        if (canonical == null) {
+            return value;
+        }
+        if (canonical != value) {
+            duplicateStrings++;
+            bytesSaved += STRING_OVERHEAD + value.length();
+        }
+        return canonical;
+    }
+
+    private <T> List<T> compactList(List<T> list, Consumer<T> elementCompactor) {
+        lists++;
+        if (list == null || list.isEmpty()) {
+            emptyLists++;
+            if (list != null) {
+                bytesSaved += listSize(list);
+            }
+            return List.of();
+        }
+        for (T element : list) {
+            if (element != null) {
+                elementCompactor.accept(element);
+            }
+        }
+        long before = listSize(list);
+        List<T> compacted = List.copyOf(list);
+        bytesSaved += before - IMMUTABLE_LIST_OVERHEAD - (long) list.size() * REFERENCE_SIZE;
+        return compacted;
+    }
+
+    /**
+     * Perkiraan ukuran list sebelum dipadatkan, termasuk kapasitas cadangan ArrayList
+     */
+    private static long listSize(List<?> list) {
+        if (list instanceof ArrayList<?>) {
+            // Jackson menumbuhkan ArrayList dengan faktor 1.5 dari kapasitas awal 10
+            int capacity = 10;
+            while (capacity < list.size()) {
+                capacity += capacity >> 1;
+            }
+            return ARRAYLIST_OVERHEAD + (long) capacity * REFERENCE_SIZE;
+        }
+        return IMMUTABLE_LIST_OVERHEAD + (long) list.size() * REFERENCE_SIZE;
+    }
+
+    // Statistik pemadatan terakhir
+    public long getStringCount() {
+        return strings;
+    }
+
+    public long getDuplicateStringCount() {
+        return duplicateStrings;
+    }
+
+    public long getListCount() {
+        return lists;
+    }
+
+    public long getEmptyListCount() {
+        return emptyLists;
+    }
+
+    /**
+     * Perkiraan byte heap yang dibebaskan oleh pemadatan
+     */
+    public long getEstimatedBytesSaved() {
+        return bytesSaved;
+    }
+}
@@ -0,0 +1,89 @@
+package kelompok.dua.maven.parser;
+
+import java.io.Serializable;
+
+/**
+ * Satu temuan validasi semantik model xTUML beserta lokasinya
+ */
+public class ModelDiagnostic implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Tingkat keparahan diagnostic; ERROR menggagalkan parsing, INFO hanya
+     * informasi tentang model yang valid (mis. state akhir tanpa transition keluar)
+     */
+    public enum Severity {
+        ERROR,
+        WARNING,
+        INFO
+    }
+
+    private final Severity severity;
+    private final String domain;
+    private final String location;
+    private final String message;
+
+    public ModelDiagnostic(Severity severity, String domain, String location, String message) {
+        this.severity = severity;
+        this.domain = domain;
+        this.location = location;
+        this.message = message;
+    }
+
+    public static ModelDiagnostic error(String domain, String location, String message) {
+        return new ModelDiagnostic(Severity.ERROR, domain, location, message);
+    }
+
+    public static ModelDiagnostic warning(String domain, String location, String message) {
+        return new ModelDiagnostic(Severity.WARNING, domain, location, message);
+    }
+
+    public static ModelDiagnostic info(String domain, String location, String message) {
+        return new ModelDiagnostic(Severity.INFO, domain, location, message);
+    }
+
+    public boolean isError() {
+        return severity == Severity.ERROR;
+    }
+
+    // Getters
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Nama domain tempat temuan berada, atau null untuk temuan tingkat model
+     */
+    public String getDomain() {
+        return domain;
+    }
+
+    /**
+     * Lokasi di dalam domain, mis. "class 'Mahasiswa' > transition 'Aktif' -> 'Cuti'"
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (domain != null) {
+            sb.append("domain '").append(domain).append("'");
+        }
+        if (location != null) {
+            if (sb.length() > 0) {
+                sb.append(" > ");
+            }
+            sb.append(location);
+        }
+        if (sb.length() > 0) {
+            sb.append(": ");
+        }
+        return sb.append(message).toString();
+    }
+}
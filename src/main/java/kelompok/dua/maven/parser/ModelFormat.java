@@ -0,0 +1,120 @@
+package kelompok.dua.maven.parser;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Format encoding file model xTUML. Seluruh format memakai skema XtumlModel
+ * yang sama; Smile dan CBOR adalah encoding biner dari struktur JSON tersebut.
+ */
+public enum ModelFormat {
+    JSON(".json") {
+        @Override
+        JsonFactory createFactory() {
+            return new JsonFactory();
+        }
+    },
+    SMILE(".smile") {
+        @Override
+        JsonFactory createFactory() {
+            // Shared name/value reference membuat key berulang (data_type, attribute_type) cukup ditulis sekali
+            return SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build();
+        }
+    },
+    CBOR(".cbor") {
+        @Override
+        JsonFactory createFactory() {
+            // Tag self-describe agar file CBOR dapat dikenali dari stdin
+            return CBORFactory.builder()
+                    .enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+                    .build();
+        }
+    };
+
+    private final String extension;
+    private volatile JsonFactory factory;
+
+    ModelFormat(String extension) {
+        this.extension = extension;
+    }
+
+    abstract JsonFactory createFactory();
+
+    /**
+     * Ekstensi file untuk format ini (mis. ".smile")
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Factory parser/generator bersama untuk format ini (thread-safe)
+     */
+    public JsonFactory getFactory() {
+        JsonFactory result = factory;
+        if (result == null) {
+            synchronized (this) {
+                result = factory;
+                if (result == null) {
+                    result = createFactory();
+                    factory = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * ObjectMapper baru untuk membaca dan menulis model dalam format ini.
+     * Field null tidak ditulis agar file hasil konversi tetap ringkas.
+     */
+    public ObjectMapper newMapper() {
+        return new ObjectMapper(getFactory()).setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /**
+     * Tentukan format dari ekstensi file (mengabaikan akhiran .gz), atau null jika tidak dikenali
+     */
+    public static ModelFormat fromPath(Path path) {
+        String fileName = ModelInputs.uncompressedName(path).toLowerCase();
+        for (ModelFormat format : values()) {
+            if (fileName.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Kenali format dari header stream tanpa mengonsumsinya. Stream harus
+     * mendukung mark/reset; JSON dipakai jika header tidak dikenali.
+     */
+    public static ModelFormat detect(InputStream input) throws IOException {
+        input.mark(3);
+        int b0 = input.read();
+        int b1 = input.read();
+        int b2 = input.read();
+        input.reset();
+
+        // Header Smile ":)\n", tag self-describe CBOR 0xD9D9F7
+        if (b0 == ':' && b1 == ')' && b2 == '\n') {
+            return SMILE;
+        }
+        if (b0 == 0xD9 && b1 == 0xD9 && b2 == 0xF7) {
+            return CBOR;
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,185 @@
+package kelompok.dua.maven.parser;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Utility untuk menerjemahkan argumen input CLI (file, direktori, atau glob)
+ * menjadi daftar file model yang terurut
+ */
+public final class ModelInputs {
+    /** Argumen input yang berarti membaca model dari standard input */
+    public static final String STDIN = "-";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ModelInputs() {
+    }
+
+    /**
+     * Cek apakah input berarti standard input
+     */
+    public static boolean isStdin(String input) {
+        return STDIN.equals(input);
+    }
+
+    /**
+     * Cek apakah file model terkompresi gzip berdasarkan ekstensinya
+     */
+    public static boolean isCompressed(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(".gz");
+    }
+
+    /**
+     * Nama file tanpa akhiran .gz (mis. model.json.gz menjadi model.json)
+     */
+    public static String uncompressedName(Path path) {
+        String fileName = path.getFileName().toString();
+        return isCompressed(path) ? fileName.substring(0, fileName.length() - 3) : fileName;
+    }
+
+    /**
+     * Buka file model sebagai stream. Konten gzip dikenali dari magic number
+     * dan didekompresi langsung sambil dibaca, tanpa salinan sementara di disk.
+     */
+    public static InputStream open(Path path) throws IOException {
+        return decompressIfNeeded(Files.newInputStream(path));
+    }
+
+    /**
+     * Bungkus stream dengan GZIPInputStream jika diawali magic number gzip.
+     * Stream yang dikembalikan selalu mendukung mark/reset.
+     */
+    public static InputStream decompressIfNeeded(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input, BUFFER_SIZE);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        if (first == (GZIPInputStream.GZIP_MAGIC & 0xFF) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+            // Dibungkus ulang agar header hasil dekompresi tetap dapat di-mark/reset
+            return new BufferedInputStream(new GZIPInputStream(buffered, BUFFER_SIZE), BUFFER_SIZE);
+        }
+        return buffered;
+    }
+
+    /**
+     * Cek apakah input berupa pola glob (mis. models/*.json)
+     */
+    public static boolean isGlob(String input) {
+        return input.indexOf('*') >= 0 || input.indexOf('?') >= 0
+                || input.indexOf('[') >= 0 || input.indexOf('{') >= 0;
+    }
+
+    /**
+     * Cek apakah input terdiri dari beberapa file model (direktori atau glob)
+     */
+    public static boolean isMultiFile(String input) {
+        return isGlob(input) || Files.isDirectory(Paths.get(input));
+    }
+
+    /**
+     * Resolve input menjadi daftar file model, terurut berdasarkan path
+     */
+    public static List<Path> resolve(String input) throws XtumlParseException {
+        try {
+            if (isGlob(input)) {
+                return resolveGlob(input);
+            }
+
+            Path path = Paths.get(input);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.list(path)) {
+                    return files.filter(Files::isRegularFile)
+                            .filter(ModelInputs::isModelFile)
+                            .sorted()
+                            .collect(Collectors.toList());
+                }
+            }
+            if (!Files.exists(path)) {
+                throw new XtumlParseException("File input tidak ditemukan: " + input);
+            }
+            return List.of(path);
+        } catch (IOException e) {
+            throw new XtumlParseException("Error dalam membaca input: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Direktori yang menjadi dasar input (direktori itu sendiri, atau bagian tetap dari glob)
+     */
+    public static Path baseDirectory(String input) {
+        if (isGlob(input)) {
+            return globBase(input);
+        }
+        Path path = Paths.get(input).toAbsolutePath();
+        return Files.isDirectory(path) ? path : path.getParent();
+    }
+
+    /**
+     * Cek apakah file memiliki ekstensi model yang dikenali
+     */
+    public static boolean isModelFile(Path path) {
+        return ModelFormat.fromPath(path) != null;
+    }
+
+    private static List<Path> resolveGlob(String pattern) throws IOException {
+        Path base = globBase(pattern);
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+        // Cocokkan terhadap path relatif dari direktori dasar agar "dir/*.json" dan "./dir/*.json" sama
+        String glob = stripBase(pattern);
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        int depth = glob.contains("**") ? Integer.MAX_VALUE : glob.split("[/\\\\]").length;
+        try (Stream<Path> files = Files.walk(base, depth)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(base.relativize(file)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Bagian path sebelum segmen pertama yang mengandung karakter glob
+     */
+    private static Path globBase(String pattern) {
+        String[] segments = pattern.split("[/\\\\]");
+        StringBuilder base = new StringBuilder();
+        for (String segment : segments) {
+            if (isGlob(segment)) {
+                break;
+            }
+            base.append(segment).append('/');
+        }
+        return base.length() == 0 ? Paths.get(".") : Paths.get(base.toString());
+    }
+
+    private static String stripBase(String pattern) {
+        String[] segments = pattern.split("[/\\\\]");
+        StringBuilder glob = new StringBuilder();
+        boolean inGlob = false;
+        for (String segment : segments) {
+            if (!inGlob && isGlob(segment)) {
+                inGlob = true;
+            }
+            if (inGlob) {
+                if (glob.length() > 0) {
+                    glob.append('/');
+                }
+                glob.append(segment);
+            }
+        }
+        return glob.toString();
+    }
+}
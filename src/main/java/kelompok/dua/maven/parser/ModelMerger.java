@@ -0,0 +1,174 @@
+package kelompok.dua.maven.parser;
+
+import kelompok.dua.maven.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Menggabungkan fragmen model dari beberapa file menjadi satu XtumlModel,
+ * lalu me-resolve referensi inherits_from dan participant antar file
+ */
+class ModelMerger {
+    private static final Logger logger = LoggerFactory.getLogger(ModelMerger.class);
+    private static final String DEFAULT_VERSION = "1.0.0";
+
+    private ModelMerger() {
+    }
+
+    /**
+     * Gabungkan fragmen sesuai urutan file. Domain dengan nama sama digabung
+     * menjadi satu; system_name/version diambil dari fragmen pertama yang
+     * mendefinisikannya.
+     */
+    static XtumlModel merge(List<Path> inputPaths, List<XtumlModel> fragments, String fallbackSystemName)
+            throws XtumlParseException {
+        XtumlModel model = new XtumlModel();
+        Map<String, Domain> domainsByName = new LinkedHashMap<>();
+        List<Domain> domains = new ArrayList<>();
+        Map<Domain, Path> domainSources = new HashMap<>();
+        List<String> errors = new ArrayList<>();
+
+        for (int i = 0; i < fragments.size(); i++) {
+            XtumlModel fragment = fragments.get(i);
+            Path source = inputPaths.get(i);
+
+            mergeHeader(model, fragment, source);
+
+            for (Domain domain : fragment.getDomains()) {
+                Domain existing = domain.getName() != null ? domainsByName.get(domain.getName()) : null;
+                if (existing == null) {
+                    Domain merged = new Domain(domain.getName(), domain.getKeyLetter(),
+                            copyOf(domain.getClasses()), copyOf(domain.getRelationships()));
+                    if (domain.getName() != null) {
+                        domainsByName.put(domain.getName(), merged);
+                    }
+                    domains.add(merged);
+                    domainSources.put(merged, source);
+                    continue;
+                }
+
+                if (!Objects.equals(existing.getKeyLetter(), domain.getKeyLetter())) {
+                    errors.add(source + ": domain '" + domain.getName() + "' memiliki key letter '"
+                            + domain.getKeyLetter() + "', berbeda dengan '" + existing.getKeyLetter() + "' di "
+                            + domainSources.get(existing));
+                    continue;
+                }
+                existing.setClasses(append(existing.getClasses(), domain.getClasses()));
+                existing.setRelationships(append(existing.getRelationships(), domain.getRelationships()));
+                logger.debug("Domain '{}' digabung dari {}", domain.getName(), source);
+            }
+        }
+
+        if (model.getSystemName() == null) {
+            logger.warn("Tidak ada file yang mendefinisikan system_name, menggunakan '{}'", fallbackSystemName);
+            model.setSystemName(fallbackSystemName);
+        }
+        if (model.getVersion() == null) {
+            logger.warn("Tidak ada file yang mendefinisikan version, menggunakan '{}'", DEFAULT_VERSION);
+            model.setVersion(DEFAULT_VERSION);
+        }
+        model.setDomains(domains);
+
+        resolveReferences(domains, domainSources, errors);
+
+        if (!errors.isEmpty()) {
+            throw new XtumlParseException("Error dalam menggabungkan model (" + errors.size() + " masalah):\n  - "
+                    + String.join("\n  - ", errors));
+        }
+        return model;
+    }
+
+    private static void mergeHeader(XtumlModel model, XtumlModel fragment, Path source) {
+        if (fragment.getSystemName() != null) {
+            if (model.getSystemName() == null) {
+                model.setSystemName(fragment.getSystemName());
+            } else if (!model.getSystemName().equals(fragment.getSystemName())) {
+                logger.warn("system_name '{}' di {} diabaikan, menggunakan '{}'", fragment.getSystemName(), source,
+                        model.getSystemName());
+            }
+        }
+        if (fragment.getVersion() != null) {
+            if (model.getVersion() == null) {
+                model.setVersion(fragment.getVersion());
+            } else if (!model.getVersion().equals(fragment.getVersion())) {
+                logger.warn("version '{}' di {} diabaikan, menggunakan '{}'", fragment.getVersion(), source,
+                        model.getVersion());
+            }
+        }
+    }
+
+    /**
+     * Pastikan setiap inherits_from dan participant class_name menunjuk ke class
+     * yang ada di salah satu file
+     */
+    private static void resolveReferences(List<Domain> domains, Map<Domain, Path> domainSources,
+            List<String> errors) {
+        Map<String, List<Domain>> classOwners = new HashMap<>();
+        for (Domain domain : domains) {
+            if (domain.getClasses() == null) {
+                continue;
+            }
+            for (ClassDefinition classDef : domain.getClasses()) {
+                if (classDef.getName() != null) {
+                    classOwners.computeIfAbsent(classDef.getName(), k -> new ArrayList<>()).add(domain);
+                }
+            }
+        }
+
+        for (Map.Entry<String, List<Domain>> entry : classOwners.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                logger.warn("Class '{}' didefinisikan di lebih dari satu domain", entry.getKey());
+            }
+        }
+
+        for (Domain domain : domains) {
+            Path source = domainSources.get(domain);
+            if (domain.getClasses() != null) {
+                for (ClassDefinition classDef : domain.getClasses()) {
+                    String parent = classDef.getInheritsFrom();
+                    if (parent == null) {
+                        continue;
+                    }
+                    List<Domain> owners = classOwners.get(parent);
+                    if (owners == null) {
+                        errors.add(source + ": class '" + classDef.getName() + "' mewarisi '" + parent
+                                + "' yang tidak ditemukan di file manapun");
+                    } else if (!owners.contains(domain)) {
+                        logger.debug("inherits_from '{}' untuk '{}' di-resolve ke domain '{}'", parent,
+                                classDef.getName(), owners.get(0).getName());
+                    }
+                }
+            }
+            if (domain.getRelationships() != null) {
+                for (Relationship relationship : domain.getRelationships()) {
+                    if (relationship.getParticipants() == null) {
+                        continue;
+                    }
+                    for (Participant participant : relationship.getParticipants()) {
+                        if (participant.getClassName() != null && !classOwners.containsKey(participant.getClassName())) {
+                            errors.add(source + ": relationship '" + relationship.getRelationshipId()
+                                    + "' mereferensikan class '" + participant.getClassName()
+                                    + "' yang tidak ditemukan di file manapun");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static <T> List<T> append(List<T> target, List<T> extra) {
+        if (extra == null) {
+            return target;
+        }
+        List<T> result = target == null ? new ArrayList<>() : target;
+        result.addAll(extra);
+        return result;
+    }
+}
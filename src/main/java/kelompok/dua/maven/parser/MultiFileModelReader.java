@@ -0,0 +1,210 @@
+package kelompok.dua.maven.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import kelompok.dua.maven.model.Domain;
+import kelompok.dua.maven.model.XtumlModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Membaca beberapa file model secara paralel. Setiap file boleh berisi model
+ * lengkap (system_name, version, domains) atau satu domain saja, dalam format
+ * apa pun yang didukung ModelFormat.
+ *
+ * Jika cache diaktifkan, fragmen disimpan per path beserta ukuran dan mtime
+ * file sehingga pembacaan berikutnya (mode --watch) hanya mem-parse ulang
+ * file yang berubah. Fragmen yang di-cache tidak boleh dimodifikasi pemanggil.
+ */
+class MultiFileModelReader {
+    private static final Logger logger = LoggerFactory.getLogger(MultiFileModelReader.class);
+
+    private final Function<Path, JsonFactory> factories;
+    private final Map<Path, CachedFragment> cache;
+
+    private record CachedFragment(long size, FileTime lastModified, XtumlModel fragment) {
+    }
+
+    MultiFileModelReader(Function<Path, JsonFactory> factories) {
+        this(factories, false);
+    }
+
+    /**
+     * @param cacheFragments simpan fragmen untuk dipakai ulang selama file tidak berubah
+     */
+    MultiFileModelReader(Function<Path, JsonFactory> factories, boolean cacheFragments) {
+        this.factories = factories;
+        this.cache = cacheFragments ? new HashMap<>() : null;
+    }
+
+    /**
+     * Parse seluruh file secara konkuren; hasil dikembalikan sesuai urutan input
+     */
+    List<XtumlModel> readAll(List<Path> inputPaths) throws XtumlParseException {
+        if (cache == null) {
+            return parseAll(inputPaths);
+        }
+
+        // Hanya file yang ukuran/mtime-nya berubah yang di-parse ulang
+        List<XtumlModel> fragments = new ArrayList<>();
+        List<Path> changed = new ArrayList<>();
+        List<BasicFileAttributes> changedAttributes = new ArrayList<>();
+        for (Path inputPath : inputPaths) {
+            BasicFileAttributes attributes = attributes(inputPath);
+            CachedFragment cached = cache.get(inputPath);
+            if (cached != null && cached.size() == attributes.size()
+                    && cached.lastModified().equals(attributes.lastModifiedTime())) {
+                fragments.add(cached.fragment());
+            } else {
+                fragments.add(null);
+                changed.add(inputPath);
+                changedAttributes.add(attributes);
+            }
+        }
+        cache.keySet().retainAll(inputPaths);
+
+        List<XtumlModel> parsed = changed.isEmpty() ? List.of() : parseAll(changed);
+        for (int i = 0, next = 0; i < fragments.size(); i++) {
+            if (fragments.get(i) == null) {
+                XtumlModel fragment = parsed.get(next);
+                BasicFileAttributes attributes = changedAttributes.get(next++);
+                cache.put(inputPaths.get(i), new CachedFragment(attributes.size(), attributes.lastModifiedTime(), fragment));
+                fragments.set(i, fragment);
+            }
+        }
+        logger.debug("{} file model di-parse ulang, {} dari cache", changed.size(), inputPaths.size() - changed.size());
+        return fragments;
+    }
+
+    private static BasicFileAttributes attributes(Path inputPath) throws XtumlParseException {
+        try {
+            return Files.readAttributes(inputPath, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new XtumlParseException("File input tidak dapat dibaca: " + inputPath, e);
+        }
+    }
+
+    private List<XtumlModel> parseAll(List<Path> inputPaths) throws XtumlParseException {
+        int threads = Math.max(1, Math.min(inputPaths.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "xtuml-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<XtumlModel>> futures = new ArrayList<>();
+            for (Path inputPath : inputPaths) {
+                futures.add(executor.submit(() -> readFragment(inputPath)));
+            }
+
+            // Kumpulkan semua error agar pengguna tidak perlu memperbaiki file satu per satu
+            List<XtumlModel> fragments = new ArrayList<>();
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    fragments.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    String message = cause instanceof JsonProcessingException jpe ? jpe.getOriginalMessage()
+                            : cause.getMessage();
+                    errors.add(inputPaths.get(i) + ": " + message);
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new XtumlParseException("Error dalam parsing " + errors.size() + " file:\n  - "
+                        + String.join("\n  - ", errors));
+            }
+
+            logger.info("Berhasil parsing {} file model dengan {} thread", inputPaths.size(), threads);
+            return fragments;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XtumlParseException("Parsing dibatalkan", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parse satu file menjadi fragmen model. File domain tunggal dibungkus
+     * menjadi model dengan satu domain tanpa system_name/version.
+     */
+    private XtumlModel readFragment(Path inputPath) throws IOException {
+        logger.debug("Parsing fragmen: {}", inputPath);
+        try (JsonParser p = factories.apply(inputPath).createParser(ModelInputs.open(inputPath))) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, "Root model harus berupa object");
+            }
+
+            XtumlModel fragment = new XtumlModel();
+            Domain domain = new Domain();
+            boolean isDomain = false;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "system_name" -> fragment.setSystemName(XtumlModelBinder.readString(p));
+                    case "version" -> fragment.setVersion(XtumlModelBinder.readString(p));
+                    case "domains" -> fragment.setDomains(readDomains(p));
+                    case "name" -> {
+                        domain.setName(XtumlModelBinder.readString(p));
+                        isDomain = true;
+                    }
+                    case "key_letter" -> {
+                        domain.setKeyLetter(XtumlModelBinder.readString(p));
+                        isDomain = true;
+                    }
+                    case "classes" -> {
+                        domain.setClasses(XtumlModelBinder.readClasses(p));
+                        isDomain = true;
+                    }
+                    case "relationships" -> {
+                        domain.setRelationships(XtumlModelBinder.readRelationships(p));
+                        isDomain = true;
+                    }
+                    default -> throw XtumlModelBinder.unknownField(p, field, "XtumlModel/Domain");
+                }
+            }
+
+            if (isDomain) {
+                if (fragment.getDomains() != null) {
+                    throw new JsonParseException(p, "File tidak boleh berisi 'domains' sekaligus field domain tunggal");
+                }
+                fragment.setDomains(new ArrayList<>(List.of(domain)));
+            } else if (fragment.getDomains() == null) {
+                fragment.setDomains(new ArrayList<>());
+            }
+            return fragment;
+        }
+    }
+
+    private List<Domain> readDomains(JsonParser p) throws IOException {
+        List<Domain> domains = new ArrayList<>();
+        if (XtumlModelBinder.startArray(p, "domains")) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                domains.add(XtumlModelBinder.readDomain(p));
+            }
+        }
+        return domains;
+    }
+}
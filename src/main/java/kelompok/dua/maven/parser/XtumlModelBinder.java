@@ -0,0 +1,399 @@
+package kelompok.dua.maven.parser;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import kelompok.dua.maven.model.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binder manual (tanpa reflection) dari token JsonParser ke object model xTUML.
+ * Setiap method mengharapkan parser berada pada token pembuka value yang akan
+ * dibaca, dan meninggalkan parser pada token penutup value tersebut.
+ */
+final class XtumlModelBinder {
+
+    private XtumlModelBinder() {
+    }
+
+    /**
+     * Bind satu class definition
+     */
+    static ClassDefinition readClass(JsonParser p) throws IOException {
+        expectObject(p, "ClassDefinition");
+        ClassDefinition classDef = new ClassDefinition();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "entity_type" -> classDef.setEntityType(readString(p));
+                case "name" -> classDef.setName(readString(p));
+                case "key_letter" -> classDef.setKeyLetter(readString(p));
+                case "inherits_from" -> classDef.setInheritsFrom(readString(p));
+                case "is_abstract" -> classDef.setIsAbstract(readBoolean(p));
+                case "description" -> classDef.setDescription(readString(p));
+                case "attributes" -> classDef.setAttributes(readAttributes(p));
+                case "state_machine" -> classDef.setStateMachine(readStateMachine(p));
+                default -> throw unknownField(p, field, "ClassDefinition");
+            }
+        }
+        return classDef;
+    }
+
+    /**
+     * Bind satu relationship
+     */
+    static Relationship readRelationship(JsonParser p) throws IOException {
+        expectObject(p, "Relationship");
+        Relationship relationship = new Relationship();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "relationship_id" -> relationship.setRelationshipId(readString(p));
+                case "description" -> relationship.setDescription(readString(p));
+                case "relationship_type" -> relationship.setRelationshipType(readString(p));
+                case "participants" -> relationship.setParticipants(readParticipants(p));
+                case "association_class" -> relationship.setAssociationClass(readAssociationClass(p));
+                default -> throw unknownField(p, field, "Relationship");
+            }
+        }
+        return relationship;
+    }
+
+    /**
+     * Bind satu domain secara utuh (termasuk seluruh class dan relationship)
+     */
+    static Domain readDomain(JsonParser p) throws IOException {
+        expectObject(p, "Domain");
+        Domain domain = new Domain();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "name" -> domain.setName(readString(p));
+                case "key_letter" -> domain.setKeyLetter(readString(p));
+                case "classes" -> domain.setClasses(readClasses(p));
+                case "relationships" -> domain.setRelationships(readRelationships(p));
+                default -> throw unknownField(p, field, "Domain");
+            }
+        }
+        return domain;
+    }
+
+    static List<ClassDefinition> readClasses(JsonParser p) throws IOException {
+        if (!startArray(p, "classes")) {
+            return null;
+        }
+        List<ClassDefinition> classes = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            classes.add(readClass(p));
+        }
+        return classes;
+    }
+
+    static List<Relationship> readRelationships(JsonParser p) throws IOException {
+        if (!startArray(p, "relationships")) {
+            return null;
+        }
+        List<Relationship> relationships = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            relationships.add(readRelationship(p));
+        }
+        return relationships;
+    }
+
+    private static List<Attribute> readAttributes(JsonParser p) throws IOException {
+        if (!startArray(p, "attributes")) {
+            return null;
+        }
+        List<Attribute> attributes = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "Attribute");
+            Attribute attr = new Attribute();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "name" -> attr.setName(readString(p));
+                    case "data_type" -> attr.setDataType(readString(p));
+                    case "attribute_type" -> attr.setAttributeType(readString(p));
+                    case "default_value" -> attr.setDefaultValue(readString(p));
+                    default -> throw unknownField(p, field, "Attribute");
+                }
+            }
+            attributes.add(attr);
+        }
+        return attributes;
+    }
+
+    private static StateMachine readStateMachine(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(p, "StateMachine");
+        StateMachine sm = new StateMachine();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "initial_state" -> sm.setInitialState(readString(p));
+                case "states" -> sm.setStates(readStates(p));
+                case "transitions" -> sm.setTransitions(readTransitions(p));
+                default -> throw unknownField(p, field, "StateMachine");
+            }
+        }
+        return sm;
+    }
+
+    private static List<State> readStates(JsonParser p) throws IOException {
+        if (!startArray(p, "states")) {
+            return null;
+        }
+        List<State> states = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "State");
+            State state = new State();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if ("name".equals(field)) {
+                    state.setName(readString(p));
+                } else {
+                    throw unknownField(p, field, "State");
+                }
+            }
+            states.add(state);
+        }
+        return states;
+    }
+
+    private static List<Transition> readTransitions(JsonParser p) throws IOException {
+        if (!startArray(p, "transitions")) {
+            return null;
+        }
+        List<Transition> transitions = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "Transition");
+            Transition transition = new Transition();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "from_state" -> transition.setFromState(readString(p));
+                    case "to_state" -> transition.setToState(readString(p));
+                    case "event" -> transition.setEvent(readString(p));
+                    case "actions" -> transition.setActions(readActions(p));
+                    case "actionLanguage" -> transition.setActionLanguage(readActionLanguage(p));
+                    default -> throw unknownField(p, field, "Transition");
+                }
+            }
+            transitions.add(transition);
+        }
+        return transitions;
+    }
+
+    private static List<Action> readActions(JsonParser p) throws IOException {
+        if (!startArray(p, "actions")) {
+            return null;
+        }
+        List<Action> actions = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "Action");
+            Action action = new Action();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "type" -> action.setType(readString(p));
+                    case "message" -> action.setMessage(readString(p));
+                    case "actionLanguage" -> action.setActionLanguage(readActionLanguage(p));
+                    default -> throw unknownField(p, field, "Action");
+                }
+            }
+            actions.add(action);
+        }
+        return actions;
+    }
+
+    private static ActionLanguage readActionLanguage(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(p, "ActionLanguage");
+        ActionLanguage actionLanguage = new ActionLanguage();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("operations".equals(field)) {
+                actionLanguage.setOperations(readOperations(p));
+            } else {
+                throw unknownField(p, field, "ActionLanguage");
+            }
+        }
+        return actionLanguage;
+    }
+
+    private static List<Operation> readOperations(JsonParser p) throws IOException {
+        if (!startArray(p, "operations")) {
+            return null;
+        }
+        List<Operation> operations = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "Operation");
+            Operation operation = new Operation();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "name" -> operation.setName(readString(p));
+                    case "parameters" -> operation.setParameters(readParameters(p));
+                    case "actions" -> operation.setActions(readActionSteps(p, "actions"));
+                    case "steps" -> operation.setSteps(readActionSteps(p, "steps"));
+                    default -> throw unknownField(p, field, "Operation");
+                }
+            }
+            operations.add(operation);
+        }
+        return operations;
+    }
+
+    private static List<Parameter> readParameters(JsonParser p) throws IOException {
+        if (!startArray(p, "parameters")) {
+            return null;
+        }
+        List<Parameter> parameters = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "Parameter");
+            Parameter param = new Parameter();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "name" -> param.setName(readString(p));
+                    case "type" -> param.setType(readString(p));
+                    default -> throw unknownField(p, field, "Parameter");
+                }
+            }
+            parameters.add(param);
+        }
+        return parameters;
+    }
+
+    private static List<ActionStep> readActionSteps(JsonParser p, String fieldName) throws IOException {
+        if (!startArray(p, fieldName)) {
+            return null;
+        }
+        List<ActionStep> steps = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "ActionStep");
+            ActionStep step = new ActionStep();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "type" -> step.setType(readString(p));
+                    case "target" -> step.setTarget(readString(p));
+                    case "attribute" -> step.setAttribute(readString(p));
+                    case "value" -> step.setValue(readString(p));
+                    case "message" -> step.setMessage(readString(p));
+                    default -> throw unknownField(p, field, "ActionStep");
+                }
+            }
+            steps.add(step);
+        }
+        return steps;
+    }
+
+    private static List<Participant> readParticipants(JsonParser p) throws IOException {
+        if (!startArray(p, "participants")) {
+            return null;
+        }
+        List<Participant> participants = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            expectObject(p, "Participant");
+            Participant participant = new Participant();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "class_name" -> participant.setClassName(readString(p));
+                    case "role" -> participant.setRole(readString(p));
+                    case "multiplicity" -> participant.setMultiplicity(readString(p));
+                    default -> throw unknownField(p, field, "Participant");
+                }
+            }
+            participants.add(participant);
+        }
+        return participants;
+    }
+
+    private static AssociationClass readAssociationClass(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectObject(p, "AssociationClass");
+        AssociationClass assocClass = new AssociationClass();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "name" -> assocClass.setName(readString(p));
+                case "key_letter" -> assocClass.setKeyLetter(readString(p));
+                case "attributes" -> assocClass.setAttributes(readAttributes(p));
+                default -> throw unknownField(p, field, "AssociationClass");
+            }
+        }
+        return assocClass;
+    }
+
+    /**
+     * Baca scalar sebagai String (angka dan boolean dikonversi seperti databind)
+     */
+    static String readString(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(p, "Diharapkan nilai scalar, ditemukan " + token);
+        }
+        return p.getText();
+    }
+
+    private static Boolean readBoolean(JsonParser p) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_STRING -> Boolean.valueOf(p.getText().trim());
+            default -> throw new JsonParseException(p, "Diharapkan nilai boolean, ditemukan " + p.currentToken());
+        };
+    }
+
+    /**
+     * Pastikan token saat ini adalah awal array; null diperlakukan sebagai list kosong yang absen
+     */
+    static boolean startArray(JsonParser p, String fieldName) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(p, "Field '" + fieldName + "' harus berupa array");
+        }
+        return true;
+    }
+
+    static void expectObject(JsonParser p, String typeName) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(p, "Diharapkan object " + typeName + ", ditemukan " + p.currentToken());
+        }
+    }
+
+    static JsonParseException unknownField(JsonParser p, String field, String typeName) {
+        return new JsonParseException(p, "Field tidak dikenal '" + field + "' pada " + typeName);
+    }
+}
@@ -0,0 +1,42 @@
+package kelompok.dua.maven.parser;
+
+import kelompok.dua.maven.model.ClassDefinition;
+import kelompok.dua.maven.model.Relationship;
+
+/**
+ * Callback untuk XtumlStreamingReader. Setiap class dan relationship
+ * dikirimkan segera setelah selesai di-bind, sehingga pemanggil dapat
+ * memprosesnya lalu melepaskannya tanpa menahan seluruh model di memori.
+ */
+public interface XtumlModelHandler {
+
+    /**
+     * Dipanggil saat reader memasuki object domain baru
+     */
+    default void onDomainStart() {
+    }
+
+    /**
+     * Dipanggil untuk setiap class dalam domain yang sedang dibaca
+     */
+    void onClass(ClassDefinition classDef);
+
+    /**
+     * Dipanggil untuk setiap relationship dalam domain yang sedang dibaca
+     */
+    default void onRelationship(Relationship relationship) {
+    }
+
+    /**
+     * Dipanggil saat object domain selesai dibaca. Nama dan key letter baru
+     * dijamin tersedia di titik ini karena urutan field JSON bebas.
+     */
+    default void onDomainEnd(String name, String keyLetter) {
+    }
+
+    /**
+     * Dipanggil setelah root object selesai dibaca
+     */
+    default void onModelInfo(String systemName, String version) {
+    }
+}
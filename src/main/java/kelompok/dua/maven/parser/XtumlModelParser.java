@@ -1,24 +1,50 @@
 package kelompok.dua.maven.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import kelompok.dua.maven.model.Domain;
 import kelompok.dua.maven.model.XtumlModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
- * Parser untuk membaca dan memvalidasi model xTUML dari file JSON
+ * Parser untuk membaca dan memvalidasi model xTUML dari file JSON, atau
+ * encoding biner Smile/CBOR dengan skema yang sama
  */
 public class XtumlModelParser {
     private static final Logger logger = LoggerFactory.getLogger(XtumlModelParser.class);
+    // ObjectMapper thread-safe; dibagi antar parser agar proses berumur panjang (daemon,
+    // --watch) memakai ulang cache deserializer yang sudah panas
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final Map<ModelFormat, ObjectMapper> BINARY_MAPPERS = new EnumMap<>(ModelFormat.class);
     private final ObjectMapper objectMapper;
+    private final ModelFormat format;
+    private List<ModelDiagnostic> diagnostics = List.of();
+    private MultiFileModelReader multiFileReader; // Dipertahankan antar panggilan jika reuseUnchangedFiles
+    private boolean reuseUnchangedFiles;
 
     public XtumlModelParser() {
-        this.objectMapper = new ObjectMapper();
+        this(null);
+    }
+
+    /**
+     * @param format Format input yang dipaksakan, atau null untuk menentukan
+     *               format dari ekstensi file (default JSON)
+     */
+    public XtumlModelParser(ModelFormat format) {
+        this.objectMapper = JSON_MAPPER;
+        this.format = format;
     }
 
     /**
@@ -29,21 +55,190 @@ public class XtumlModelParser {
      * @throws XtumlParseException jika terjadi error dalam parsing
      */
     public XtumlModel parseFromFile(Path inputPath) throws XtumlParseException {
-        if (!Files.exists(inputPath)) {
-            throw new XtumlParseException("File input tidak ditemukan: " + inputPath);
+        checkInputFile(inputPath);
+
+        try (InputStream input = ModelInputs.open(inputPath)) {
+            ModelFormat inputFormat = formatFor(inputPath);
+            logger.info("Memulai parsing file: {} ({})", inputPath, inputFormat);
+            XtumlModel model = mapperFor(inputFormat).readValue(input, XtumlModel.class);
+
+            validateModel(model);
+
+            logger.info("Berhasil parsing model: {}", model.getSystemName());
+            return model;
+
+        } catch (JsonMappingException e) {
+            throw new XtumlParseException("Error dalam mapping JSON ke model object: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new XtumlParseException("Error dalam membaca file: " + e.getMessage(), e);
         }
+    }
 
-        if (!Files.isRegularFile(inputPath)) {
-            throw new XtumlParseException("Path yang diberikan bukan file: " + inputPath);
+    /**
+     * Parse model xTUML yang terpecah ke beberapa file secara paralel, lalu
+     * gabungkan menjadi satu model. Setiap file boleh berisi model lengkap
+     * atau satu domain.
+     * 
+     * @param inputPaths Daftar file JSON input
+     * @return XtumlModel gabungan yang telah divalidasi
+     * @throws XtumlParseException jika ada file yang gagal diparsing atau referensi tidak ter-resolve
+     */
+    public XtumlModel parseFromFiles(List<Path> inputPaths) throws XtumlParseException {
+        if (inputPaths.isEmpty()) {
+            throw new XtumlParseException("Tidak ada file model yang ditemukan");
+        }
+        for (Path inputPath : inputPaths) {
+            checkInputFile(inputPath);
+        }
+
+        logger.info("Memulai parsing {} file model", inputPaths.size());
+        if (multiFileReader == null || !reuseUnchangedFiles) {
+            multiFileReader = new MultiFileModelReader(path -> mapperFor(formatFor(path)).getFactory(),
+                    reuseUnchangedFiles);
+        }
+        List<XtumlModel> fragments = multiFileReader.readAll(inputPaths);
+
+        Path parent = inputPaths.get(0).toAbsolutePath().getParent();
+        String fallbackSystemName = parent != null && parent.getFileName() != null
+                ? parent.getFileName().toString()
+                : "xtuml-system";
+        XtumlModel model = ModelMerger.merge(inputPaths, fragments, fallbackSystemName);
+        validateModel(model);
+
+        logger.info("Berhasil parsing model: {}", model.getSystemName());
+        return model;
+    }
+
+    /**
+     * Parse hanya domain tertentu dari file JSON, ditambah class dari domain
+     * lain yang diwarisi (langsung maupun tidak langsung) oleh domain tersebut.
+     * Posisi domain diambil dari DomainIndex sehingga domain lain tidak dibaca sama sekali.
+     * 
+     * @param inputPath   Path ke file JSON input
+     * @param domainNames Nama domain yang diminta
+     * @return XtumlModel parsial yang berisi domain yang diminta dan parent class-nya
+     * @throws XtumlParseException jika domain tidak ditemukan atau terjadi error dalam parsing
+     */
+    public XtumlModel parseDomains(Path inputPath, Collection<String> domainNames) throws XtumlParseException {
+        checkInputFile(inputPath);
+        if (ModelInputs.isCompressed(inputPath) || formatFor(inputPath) != ModelFormat.JSON) {
+            throw new XtumlParseException("Mode domain selektif membutuhkan file JSON tidak terkompresi: " + inputPath);
+        }
+
+        try {
+            DomainIndex index = DomainIndex.loadOrBuild(inputPath, objectMapper.getFactory());
+            for (String domainName : domainNames) {
+                if (index.getDomain(domainName) == null) {
+                    throw new XtumlParseException("Domain '" + domainName + "' tidak ditemukan. Domain tersedia: "
+                            + index.getDomains().stream().map(DomainIndex.Entry::getName).toList());
+                }
+            }
+
+            // Hitung closure inheritance: class dari domain lain yang dibutuhkan sebagai parent
+            Map<String, DomainIndex.Entry> classOwners = new HashMap<>();
+            Map<String, String> parents = new HashMap<>();
+            for (DomainIndex.Entry entry : index.getDomains()) {
+                for (DomainIndex.ClassEntry classEntry : entry.getClasses()) {
+                    classOwners.putIfAbsent(classEntry.getName(), entry);
+                    parents.putIfAbsent(classEntry.getName(), classEntry.getInheritsFrom());
+                }
+            }
+            Map<DomainIndex.Entry, Set<String>> inheritedClasses = new HashMap<>();
+            for (String domainName : domainNames) {
+                for (DomainIndex.ClassEntry classEntry : index.getDomain(domainName).getClasses()) {
+                    String parent = classEntry.getInheritsFrom();
+                    Set<String> visited = new HashSet<>();
+                    while (parent != null && visited.add(parent)) {
+                        DomainIndex.Entry owner = classOwners.get(parent);
+                        if (owner == null) {
+                            break;
+                        }
+                        if (!domainNames.contains(owner.getName())) {
+                            inheritedClasses.computeIfAbsent(owner, k -> new HashSet<>()).add(parent);
+                        }
+                        parent = parents.get(parent);
+                    }
+                }
+            }
+
+            List<Domain> domains = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(inputPath, StandardOpenOption.READ)) {
+                for (DomainIndex.Entry entry : index.getDomains()) {
+                    boolean requested = domainNames.contains(entry.getName());
+                    Set<String> needed = inheritedClasses.get(entry);
+                    if (!requested && needed == null) {
+                        continue;
+                    }
+
+                    Domain domain = readDomainAt(channel, entry);
+                    if (!requested) {
+                        // Domain ini hanya menyumbang parent class
+                        domain.setClasses(domain.getClasses().stream()
+                                .filter(c -> needed.contains(c.getName()))
+                                .collect(Collectors.toList()));
+                        domain.setRelationships(null);
+                    }
+                    domains.add(domain);
+                }
+            }
+
+            // Class di domain yang dilewati tetap valid sebagai target referensi
+            Set<String> externalClasses = new HashSet<>(classOwners.keySet());
+            for (Domain domain : domains) {
+                if (domain.getClasses() != null) {
+                    domain.getClasses().forEach(c -> externalClasses.remove(c.getName()));
+                }
+            }
+
+            XtumlModel model = new XtumlModel(index.getSystemName(), index.getVersion(), domains);
+            validateModel(model, externalClasses);
+
+            logger.info("Berhasil parsing {} domain dari model: {}", domains.size(), model.getSystemName());
+            return model;
+
+        } catch (IOException e) {
+            throw new XtumlParseException("Error dalam membaca domain: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Baca dan bind satu domain langsung dari rentang byte-nya
+     */
+    private Domain readDomainAt(FileChannel channel, DomainIndex.Entry entry) throws IOException {
+        long length = entry.getEndOffset() - entry.getStartOffset();
+        if (length <= 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("Rentang domain '" + entry.getName() + "' tidak valid");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        long position = entry.getStartOffset();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("File berakhir sebelum domain '" + entry.getName() + "' selesai");
+            }
         }
 
-        if (!inputPath.toString().toLowerCase().endsWith(".json")) {
-            logger.warn("File yang diberikan tidak berekstensi .json: {}", inputPath);
+        try (JsonParser p = objectMapper.getFactory().createParser(buffer.array())) {
+            p.nextToken();
+            return XtumlModelBinder.readDomain(p);
         }
+    }
 
+    /**
+     * Parse model xTUML dari stream (mis. standard input). Stream gzip
+     * dikenali otomatis dan didekompresi sambil dibaca; format Smile/CBOR
+     * dikenali dari header-nya jika format tidak ditentukan.
+     * 
+     * @param input Stream berisi JSON model
+     * @return XtumlModel object yang telah diparsing
+     * @throws XtumlParseException jika terjadi error dalam parsing
+     */
+    public XtumlModel parseFromStream(InputStream input) throws XtumlParseException {
         try {
-            logger.info("Memulai parsing file: {}", inputPath);
-            XtumlModel model = objectMapper.readValue(inputPath.toFile(), XtumlModel.class);
+            InputStream decoded = ModelInputs.decompressIfNeeded(input);
+            ModelFormat inputFormat = format != null ? format : ModelFormat.detect(decoded);
+            logger.info("Memulai parsing dari stream ({})", inputFormat);
+            XtumlModel model = mapperFor(inputFormat).readValue(decoded, XtumlModel.class);
 
             validateModel(model);
 
@@ -53,7 +248,7 @@ public class XtumlModelParser {
         } catch (JsonMappingException e) {
             throw new XtumlParseException("Error dalam mapping JSON ke model object: " + e.getMessage(), e);
         } catch (IOException e) {
-            throw new XtumlParseException("Error dalam membaca file: " + e.getMessage(), e);
+            throw new XtumlParseException("Error dalam membaca stream: " + e.getMessage(), e);
         }
     }
 
@@ -86,44 +281,89 @@ public class XtumlModelParser {
     }
 
     /**
-     * Validasi model yang telah diparsing
-     * 
-     * @param model Model yang akan divalidasi
-     * @throws XtumlParseException jika model tidak valid
+     * Validasi keberadaan dan jenis file input
      */
-    private void validateModel(XtumlModel model) throws XtumlParseException {
-        if (model == null) {
-            throw new XtumlParseException("Model tidak boleh null");
+    private void checkInputFile(Path inputPath) throws XtumlParseException {
+        if (!Files.exists(inputPath)) {
+            throw new XtumlParseException("File input tidak ditemukan: " + inputPath);
+        }
+
+        if (!Files.isRegularFile(inputPath)) {
+            throw new XtumlParseException("Path yang diberikan bukan file: " + inputPath);
         }
 
-        if (model.getSystemName() == null || model.getSystemName().trim().isEmpty()) {
-            throw new XtumlParseException("System name tidak boleh null atau kosong");
+        if (format == null && ModelFormat.fromPath(inputPath) == null) {
+            logger.warn("File yang diberikan tidak berekstensi .json, .smile, atau .cbor: {}", inputPath);
         }
+    }
 
-        if (model.getVersion() == null || model.getVersion().trim().isEmpty()) {
-            throw new XtumlParseException("Version tidak boleh null atau kosong");
+    /**
+     * Format sebuah file input: format yang dipaksakan, atau dari ekstensinya
+     */
+    private ModelFormat formatFor(Path inputPath) {
+        if (format != null) {
+            return format;
         }
+        ModelFormat detected = ModelFormat.fromPath(inputPath);
+        return detected != null ? detected : ModelFormat.JSON;
+    }
 
-        if (model.getDomains() == null || model.getDomains().isEmpty()) {
-            throw new XtumlParseException("Model harus memiliki minimal satu domain");
+    private ObjectMapper mapperFor(ModelFormat inputFormat) {
+        if (inputFormat == ModelFormat.JSON) {
+            return objectMapper;
+        }
+        synchronized (BINARY_MAPPERS) {
+            return BINARY_MAPPERS.computeIfAbsent(inputFormat, ModelFormat::newMapper);
         }
+    }
 
-        // Validasi setiap domain
-        for (int i = 0; i < model.getDomains().size(); i++) {
-            var domain = model.getDomains().get(i);
-            if (domain.getName() == null || domain.getName().trim().isEmpty()) {
-                throw new XtumlParseException("Domain ke-" + (i + 1) + " tidak memiliki nama");
-            }
+    /**
+     * Jika aktif, parseFromFiles menyimpan fragmen setiap file dan hanya mem-parse
+     * ulang file yang ukuran atau mtime-nya berubah sejak panggilan sebelumnya.
+     * Model hasil parse berbagi objek dengan cache sehingga tidak boleh dimodifikasi
+     * (mis. dengan ModelCompactor).
+     */
+    public void setReuseUnchangedFiles(boolean reuseUnchangedFiles) {
+        this.reuseUnchangedFiles = reuseUnchangedFiles;
+    }
 
-            if (domain.getKeyLetter() == null || domain.getKeyLetter().trim().isEmpty()) {
-                throw new XtumlParseException("Domain '" + domain.getName() + "' tidak memiliki key letter");
-            }
+    public boolean isReuseUnchangedFiles() {
+        return reuseUnchangedFiles;
+    }
+
+    /**
+     * Diagnostic (warning dan info) dari validasi semantik parsing terakhir
+     */
+    public List<ModelDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    private void validateModel(XtumlModel model) throws XtumlParseException {
+        validateModel(model, Set.of());
+    }
 
-            if (domain.getClasses() == null || domain.getClasses().isEmpty()) {
-                throw new XtumlParseException("Domain '" + domain.getName() + "' harus memiliki minimal satu class");
+    /**
+     * Validasi semantik model yang telah diparsing. Seluruh error dikumpulkan
+     * lalu dilempar sekaligus; warning dan info disimpan untuk getDiagnostics().
+     * 
+     * @param model           Model yang akan divalidasi
+     * @param externalClasses Class yang ada di luar model parsial ini
+     * @throws XtumlValidationException jika model mengandung error
+     */
+    private void validateModel(XtumlModel model, Set<String> externalClasses) throws XtumlParseException {
+        List<ModelDiagnostic> found = new XtumlModelValidator(externalClasses).validate(model);
+        if (found.stream().anyMatch(ModelDiagnostic::isError)) {
+            throw new XtumlValidationException(found);
+        }
+        for (ModelDiagnostic diagnostic : found) {
+            if (diagnostic.getSeverity() == ModelDiagnostic.Severity.INFO) {
+                logger.info("{}", diagnostic);
+            } else {
+                logger.warn("{}", diagnostic);
             }
         }
+        diagnostics = found;
 
         logger.info("Model berhasil divalidasi");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,379 @@
+package kelompok.dua.maven.parser;
+
+import kelompok.dua.maven.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Validasi semantik model xTUML. Seluruh temuan dikumpulkan dalam satu kali
+ * jalan, bukan berhenti di error pertama. Indeks class global dibangun sekali,
+ * lalu setiap domain divalidasi secara paralel dengan lookup hash sehingga
+ * biaya totalnya linear terhadap ukuran model.
+ */
+public class XtumlModelValidator {
+    private static final Logger logger = LoggerFactory.getLogger(XtumlModelValidator.class);
+
+    /** Di bawah jumlah class ini validasi dijalankan di thread pemanggil */
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    private final Set<String> externalClasses;
+
+    public XtumlModelValidator() {
+        this(Set.of());
+    }
+
+    /**
+     * @param externalClasses Nama class yang diketahui ada di luar model yang
+     *                        divalidasi (mis. domain yang dilewati pada mode
+     *                        --domain), sehingga referensi ke class tersebut
+     *                        tidak dilaporkan sebagai error
+     */
+    public XtumlModelValidator(Set<String> externalClasses) {
+        this.externalClasses = externalClasses;
+    }
+
+    /**
+     * Validasi model dan kembalikan seluruh diagnostic, terurut sesuai urutan domain
+     */
+    public List<ModelDiagnostic> validate(XtumlModel model) {
+        List<ModelDiagnostic> diagnostics = new ArrayList<>();
+        if (model == null) {
+            diagnostics.add(ModelDiagnostic.error(null, null, "Model tidak boleh null"));
+            return diagnostics;
+        }
+
+        if (isBlank(model.getSystemName())) {
+            diagnostics.add(ModelDiagnostic.error(null, null, "System name tidak boleh null atau kosong"));
+        }
+        if (isBlank(model.getVersion())) {
+            diagnostics.add(ModelDiagnostic.error(null, null, "Version tidak boleh null atau kosong"));
+        }
+        List<Domain> domains = model.getDomains();
+        if (domains == null || domains.isEmpty()) {
+            diagnostics.add(ModelDiagnostic.error(null, null, "Model harus memiliki minimal satu domain"));
+            return diagnostics;
+        }
+
+        ClassIndex index = buildIndex(domains, diagnostics);
+        checkInheritance(index, diagnostics);
+
+        List<List<ModelDiagnostic>> perDomain = validateDomains(domains, index);
+        for (List<ModelDiagnostic> domainDiagnostics : perDomain) {
+            diagnostics.addAll(domainDiagnostics);
+        }
+
+        logger.info("Validasi semantik selesai: {} diagnostic untuk {} class", diagnostics.size(),
+                index.classDomains.size());
+        return diagnostics;
+    }
+
+    /**
+     * Indeks global nama class -> domain pemilik dan parent-nya
+     */
+    private static class ClassIndex {
+        final Map<String, String> classDomains = new HashMap<>();
+        final Map<String, String> parents = new HashMap<>();
+        int classCount;
+    }
+
+    private ClassIndex buildIndex(List<Domain> domains, List<ModelDiagnostic> diagnostics) {
+        ClassIndex index = new ClassIndex();
+        Set<String> domainNames = new HashSet<>();
+        Set<String> domainKeyLetters = new HashSet<>();
+
+        for (Domain domain : domains) {
+            if (domain.getName() != null && !domainNames.add(domain.getName())) {
+                diagnostics.add(ModelDiagnostic.error(domain.getName(), null, "Nama domain didefinisikan lebih dari sekali"));
+            }
+            if (domain.getKeyLetter() != null && !domainKeyLetters.add(domain.getKeyLetter())) {
+                diagnostics.add(ModelDiagnostic.warning(domain.getName(), null,
+                        "Key letter domain '" + domain.getKeyLetter() + "' dipakai oleh lebih dari satu domain"));
+            }
+            if (domain.getClasses() == null) {
+                continue;
+            }
+            for (ClassDefinition classDef : domain.getClasses()) {
+                index.classCount++;
+                String name = classDef.getName();
+                if (name == null) {
+                    continue;
+                }
+                String owner = index.classDomains.putIfAbsent(name, domain.getName());
+                if (owner == null) {
+                    index.parents.put(name, classDef.getInheritsFrom());
+                } else if (!Objects.equals(owner, domain.getName())) {
+                    diagnostics.add(ModelDiagnostic.warning(domain.getName(), "class '" + name + "'",
+                            "Class juga didefinisikan di domain '" + owner + "'"));
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Laporkan parent yang tidak ada dan siklus inheritance. Setiap class
+     * dikunjungi paling banyak sekali (pewarnaan putih/abu/hitam).
+     */
+    private void checkInheritance(ClassIndex index, List<ModelDiagnostic> diagnostics) {
+        Map<String, Boolean> done = new HashMap<>(); // false = sedang ditelusuri, true = selesai
+        for (String start : index.parents.keySet()) {
+            List<String> path = new ArrayList<>();
+            String current = start;
+            while (current != null && !done.containsKey(current)) {
+                done.put(current, Boolean.FALSE);
+                path.add(current);
+
+                String parent = index.parents.get(current);
+                if (parent != null && !index.classDomains.containsKey(parent)) {
+                    if (!externalClasses.contains(parent)) {
+                        diagnostics.add(ModelDiagnostic.error(index.classDomains.get(current), "class '" + current + "'",
+                                "inherits_from '" + parent + "' tidak ditemukan"));
+                    }
+                    parent = null;
+                }
+                if (parent != null && Boolean.FALSE.equals(done.get(parent))) {
+                    List<String> cycle = new ArrayList<>(path.subList(path.indexOf(parent), path.size()));
+                    cycle.add(parent);
+                    diagnostics.add(ModelDiagnostic.error(index.classDomains.get(parent), "class '" + parent + "'",
+                            "Siklus inheritance: " + String.join(" -> ", cycle)));
+                    parent = null;
+                }
+                current = parent;
+            }
+            for (String visited : path) {
+                done.put(visited, Boolean.TRUE);
+            }
+        }
+    }
+
+    private List<List<ModelDiagnostic>> validateDomains(List<Domain> domains, ClassIndex index) {
+        List<List<ModelDiagnostic>> results = new ArrayList<>();
+        if (domains.size() == 1 || index.classCount < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < domains.size(); i++) {
+                results.add(validateDomain(domains.get(i), i, index));
+            }
+            return results;
+        }
+
+        int threads = Math.min(domains.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "xtuml-validator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<List<ModelDiagnostic>>> futures = new ArrayList<>();
+            for (int i = 0; i < domains.size(); i++) {
+                Domain domain = domains.get(i);
+                int position = i;
+                futures.add(executor.submit(() -> validateDomain(domain, position, index)));
+            }
+            for (Future<List<ModelDiagnostic>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Validasi dibatalkan", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Validasi domain gagal: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<ModelDiagnostic> validateDomain(Domain domain, int position, ClassIndex index) {
+        List<ModelDiagnostic> diagnostics = new ArrayList<>();
+        String domainName = isBlank(domain.getName()) ? "#" + (position + 1) : domain.getName();
+
+        if (isBlank(domain.getName())) {
+            diagnostics.add(ModelDiagnostic.error(null, null, "Domain ke-" + (position + 1) + " tidak memiliki nama"));
+        }
+        if (isBlank(domain.getKeyLetter())) {
+            diagnostics.add(ModelDiagnostic.error(domainName, null, "Domain tidak memiliki key letter"));
+        }
+        if (domain.getClasses() == null || domain.getClasses().isEmpty()) {
+            diagnostics.add(ModelDiagnostic.error(domainName, null, "Domain harus memiliki minimal satu class"));
+        } else {
+            validateClasses(domainName, domain.getClasses(), diagnostics);
+        }
+        if (domain.getRelationships() != null) {
+            validateRelationships(domainName, domain.getRelationships(), index, diagnostics);
+        }
+        return diagnostics;
+    }
+
+    private void validateClasses(String domainName, List<ClassDefinition> classes, List<ModelDiagnostic> diagnostics) {
+        Set<String> names = new HashSet<>();
+        Map<String, String> keyLetters = new HashMap<>();
+        for (int i = 0; i < classes.size(); i++) {
+            ClassDefinition classDef = classes.get(i);
+            if (isBlank(classDef.getName())) {
+                diagnostics.add(ModelDiagnostic.error(domainName, "class ke-" + (i + 1), "Class tidak memiliki nama"));
+                continue;
+            }
+            String location = "class '" + classDef.getName() + "'";
+            if (!names.add(classDef.getName())) {
+                diagnostics.add(ModelDiagnostic.error(domainName, location, "Nama class didefinisikan lebih dari sekali"));
+            }
+            if (isBlank(classDef.getKeyLetter())) {
+                diagnostics.add(ModelDiagnostic.warning(domainName, location, "Class tidak memiliki key letter"));
+            } else {
+                String other = keyLetters.putIfAbsent(classDef.getKeyLetter(), classDef.getName());
+                if (other != null && !other.equals(classDef.getName())) {
+                    diagnostics.add(ModelDiagnostic.warning(domainName, location,
+                            "Key letter '" + classDef.getKeyLetter() + "' juga dipakai oleh class '" + other + "'"));
+                }
+            }
+            validateAttributes(domainName, location, classDef.getAttributes(), diagnostics);
+            if (classDef.getStateMachine() != null) {
+                validateStateMachine(domainName, location, classDef.getStateMachine(), diagnostics);
+            }
+        }
+    }
+
+    private void validateAttributes(String domainName, String owner, List<Attribute> attributes,
+            List<ModelDiagnostic> diagnostics) {
+        if (attributes == null) {
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < attributes.size(); i++) {
+            Attribute attribute = attributes.get(i);
+            if (isBlank(attribute.getName())) {
+                diagnostics.add(ModelDiagnostic.error(domainName, owner + " > attribute ke-" + (i + 1),
+                        "Attribute tidak memiliki nama"));
+                continue;
+            }
+            String location = owner + " > attribute '" + attribute.getName() + "'";
+            if (!names.add(attribute.getName())) {
+                diagnostics.add(ModelDiagnostic.error(domainName, location, "Nama attribute didefinisikan lebih dari sekali"));
+            }
+            if (isBlank(attribute.getDataType())) {
+                diagnostics.add(ModelDiagnostic.warning(domainName, location, "Attribute tidak memiliki data_type"));
+            }
+        }
+    }
+
+    private void validateStateMachine(String domainName, String owner, StateMachine stateMachine,
+            List<ModelDiagnostic> diagnostics) {
+        String location = owner + " > state_machine";
+        CompiledStateMachine compiled = CompiledStateMachine.compile(stateMachine);
+        if (stateMachine.getStates() == null || stateMachine.getStates().isEmpty()) {
+            diagnostics.add(ModelDiagnostic.error(domainName, location, "State machine tidak memiliki state"));
+        } else {
+            for (State state : stateMachine.getStates()) {
+                if (isBlank(state.getName())) {
+                    diagnostics.add(ModelDiagnostic.error(domainName, location, "State tidak memiliki nama"));
+                }
+            }
+            for (String duplicate : compiled.getDuplicateStates()) {
+                diagnostics.add(ModelDiagnostic.error(domainName, location,
+                        "State '" + duplicate + "' didefinisikan lebih dari sekali"));
+            }
+        }
+
+        if (isBlank(stateMachine.getInitialState())) {
+            diagnostics.add(ModelDiagnostic.warning(domainName, location, "initial_state tidak ditentukan"));
+        } else if (compiled.getInitialState() == CompiledStateMachine.NONE) {
+            diagnostics.add(ModelDiagnostic.error(domainName, location,
+                    "initial_state '" + stateMachine.getInitialState() + "' bukan state yang terdefinisi"));
+        }
+
+        for (int t = 0; t < compiled.getTransitionCount(); t++) {
+            Transition transition = compiled.getTransition(t);
+            String transitionLocation = transitionLocation(location, transition);
+            if (compiled.getFromState(t) == CompiledStateMachine.NONE) {
+                diagnostics.add(ModelDiagnostic.error(domainName, transitionLocation,
+                        "from_state '" + transition.getFromState() + "' bukan state yang terdefinisi"));
+            }
+            if (compiled.getToState(t) == CompiledStateMachine.NONE) {
+                diagnostics.add(ModelDiagnostic.error(domainName, transitionLocation,
+                        "to_state '" + transition.getToState() + "' bukan state yang terdefinisi"));
+            }
+            if (compiled.getEvent(t) == CompiledStateMachine.NONE) {
+                diagnostics.add(ModelDiagnostic.warning(domainName, transitionLocation,
+                        "Transition tidak memiliki event sehingga tidak menghasilkan method"));
+            }
+        }
+
+        // Analisis atas tabel transition hasil kompilasi
+        for (String state : compiled.getUnreachableStates()) {
+            diagnostics.add(ModelDiagnostic.warning(domainName, location,
+                    "State '" + state + "' tidak dapat dicapai dari initial_state"));
+        }
+        for (CompiledStateMachine.Conflict conflict : compiled.getConflicts()) {
+            String transitionLocation = transitionLocation(location, compiled.getTransition(conflict.getSecondTransition()));
+            if (conflict.isNondeterministic()) {
+                diagnostics.add(ModelDiagnostic.error(domainName, transitionLocation, "Event '" + conflict.getEventName()
+                        + "' dari state '" + conflict.getStateName() + "' menuju lebih dari satu state (nondeterministik)"));
+            } else {
+                diagnostics.add(ModelDiagnostic.warning(domainName, transitionLocation, "Transition duplikat untuk event '"
+                        + conflict.getEventName() + "' dari state '" + conflict.getStateName() + "'"));
+            }
+        }
+        if (compiled.getInitialState() != CompiledStateMachine.NONE) {
+            for (String state : compiled.getDeadEndStates()) {
+                diagnostics.add(ModelDiagnostic.info(domainName, location,
+                        "State '" + state + "' tidak memiliki transition keluar (dead-end)"));
+            }
+        }
+    }
+
+    private static String transitionLocation(String location, Transition transition) {
+        return location + " > transition '" + transition.getFromState() + "' -> '" + transition.getToState() + "'";
+    }
+
+    private void validateRelationships(String domainName, List<Relationship> relationships, ClassIndex index,
+            List<ModelDiagnostic> diagnostics) {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < relationships.size(); i++) {
+            Relationship relationship = relationships.get(i);
+            if (isBlank(relationship.getRelationshipId())) {
+                diagnostics.add(ModelDiagnostic.error(domainName, "relationship ke-" + (i + 1),
+                        "Relationship tidak memiliki relationship_id"));
+                continue;
+            }
+            String location = "relationship '" + relationship.getRelationshipId() + "'";
+            if (!ids.add(relationship.getRelationshipId())) {
+                diagnostics.add(ModelDiagnostic.error(domainName, location, "relationship_id didefinisikan lebih dari sekali"));
+            }
+
+            List<Participant> participants = relationship.getParticipants();
+            if (participants == null || participants.size() < 2) {
+                diagnostics.add(ModelDiagnostic.warning(domainName, location, "Relationship memiliki kurang dari dua participant"));
+            }
+            if (participants != null) {
+                for (Participant participant : participants) {
+                    String className = participant.getClassName();
+                    if (isBlank(className)) {
+                        diagnostics.add(ModelDiagnostic.error(domainName, location, "Participant tidak memiliki class_name"));
+                    } else if (!index.classDomains.containsKey(className) && !externalClasses.contains(className)) {
+                        diagnostics.add(ModelDiagnostic.error(domainName, location,
+                                "Participant mereferensikan class '" + className + "' yang tidak ditemukan"));
+                    }
+                }
+            }
+
+            AssociationClass associationClass = relationship.getAssociationClass();
+            if (associationClass != null) {
+                if (isBlank(associationClass.getName())) {
+                    diagnostics.add(ModelDiagnostic.error(domainName, location, "Association class tidak memiliki nama"));
+                } else {
+                    validateAttributes(domainName, location + " > association class '" + associationClass.getName() + "'",
+                            associationClass.getAttributes(), diagnostics);
+                }
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,190 @@
+package kelompok.dua.maven.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import kelompok.dua.maven.model.ClassDefinition;
+import kelompok.dua.maven.model.Domain;
+import kelompok.dua.maven.model.Relationship;
+import kelompok.dua.maven.model.XtumlModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader berbasis token JsonParser untuk model xTUML berukuran besar.
+ * Model dibaca satu class/relationship pada satu waktu dan dikirim ke
+ * XtumlModelHandler. Handler yang langsung melepaskan setiap elemen membuat
+ * puncak heap sebanding dengan class terbesar; readModel() sebaliknya
+ * merakit seluruh model sehingga hanya menghemat refleksi databind.
+ */
+public class XtumlStreamingReader {
+    private static final Logger logger = LoggerFactory.getLogger(XtumlStreamingReader.class);
+    private final JsonFactory jsonFactory;
+
+    public XtumlStreamingReader() {
+        this(new JsonFactory());
+    }
+
+    public XtumlStreamingReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Baca file model dan kirim setiap elemen ke handler
+     */
+    public void read(Path inputPath, XtumlModelHandler handler) throws XtumlParseException {
+        logger.info("Memulai streaming file: {}", inputPath);
+        try (JsonParser p = jsonFactory.createParser(ModelInputs.open(inputPath))) {
+            read(p, handler);
+        } catch (JsonProcessingException e) {
+            throw new XtumlParseException("Error dalam parsing JSON: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new XtumlParseException("Error dalam membaca file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Baca model dari stream dan kirim setiap elemen ke handler
+     */
+    public void read(InputStream input, XtumlModelHandler handler) throws XtumlParseException {
+        try (JsonParser p = jsonFactory.createParser(input)) {
+            read(p, handler);
+        } catch (JsonProcessingException e) {
+            throw new XtumlParseException("Error dalam parsing JSON: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new XtumlParseException("Error dalam membaca stream: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Baca file dan rakit kembali menjadi XtumlModel utuh
+     */
+    public XtumlModel readModel(Path inputPath) throws XtumlParseException {
+        ModelAssembler assembler = new ModelAssembler();
+        read(inputPath, assembler);
+        return assembler.getModel();
+    }
+
+    /**
+     * Baca stream dan rakit kembali menjadi XtumlModel utuh
+     */
+    public XtumlModel readModel(InputStream input) throws XtumlParseException {
+        ModelAssembler assembler = new ModelAssembler();
+        read(input, assembler);
+        return assembler.getModel();
+    }
+
+    private void read(JsonParser p, XtumlModelHandler handler) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(p, "Root model harus berupa object");
+        }
+
+        String systemName = null;
+        String version = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "system_name" -> systemName = XtumlModelBinder.readString(p);
+                case "version" -> version = XtumlModelBinder.readString(p);
+                case "domains" -> readDomains(p, handler);
+                default -> throw XtumlModelBinder.unknownField(p, field, "XtumlModel");
+            }
+        }
+        handler.onModelInfo(systemName, version);
+    }
+
+    private void readDomains(JsonParser p, XtumlModelHandler handler) throws IOException {
+        if (!XtumlModelBinder.startArray(p, "domains")) {
+            return;
+        }
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            XtumlModelBinder.expectObject(p, "Domain");
+            handler.onDomainStart();
+
+            String name = null;
+            String keyLetter = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "name" -> name = XtumlModelBinder.readString(p);
+                    case "key_letter" -> keyLetter = XtumlModelBinder.readString(p);
+                    case "classes" -> {
+                        if (XtumlModelBinder.startArray(p, "classes")) {
+                            while (p.nextToken() != JsonToken.END_ARRAY) {
+                                handler.onClass(XtumlModelBinder.readClass(p));
+                            }
+                        }
+                    }
+                    case "relationships" -> {
+                        if (XtumlModelBinder.startArray(p, "relationships")) {
+                            while (p.nextToken() != JsonToken.END_ARRAY) {
+                                handler.onRelationship(XtumlModelBinder.readRelationship(p));
+                            }
+                        }
+                    }
+                    default -> throw XtumlModelBinder.unknownField(p, field, "Domain");
+                }
+            }
+            handler.onDomainEnd(name, keyLetter);
+        }
+    }
+
+    /**
+     * Handler yang merakit kembali seluruh elemen menjadi XtumlModel
+     */
+    private static class ModelAssembler implements XtumlModelHandler {
+        private final XtumlModel model = new XtumlModel();
+        private final List<Domain> domains = new ArrayList<>();
+        private Domain currentDomain;
+
+        @Override
+        public void onDomainStart() {
+            currentDomain = new Domain();
+        }
+
+        @Override
+        public void onClass(ClassDefinition classDef) {
+            if (currentDomain.getClasses() == null) {
+                currentDomain.setClasses(new ArrayList<>());
+            }
+            currentDomain.getClasses().add(classDef);
+        }
+
+        @Override
+        public void onRelationship(Relationship relationship) {
+            if (currentDomain.getRelationships() == null) {
+                currentDomain.setRelationships(new ArrayList<>());
+            }
+            currentDomain.getRelationships().add(relationship);
+        }
+
+        @Override
+        public void onDomainEnd(String name, String keyLetter) {
+            currentDomain.setName(name);
+            currentDomain.setKeyLetter(keyLetter);
+            domains.add(currentDomain);
+            currentDomain = null;
+        }
+
+        @Override
+        public void onModelInfo(String systemName, String version) {
+            model.setSystemName(systemName);
+            model.setVersion(version);
+            model.setDomains(domains);
+        }
+
+        XtumlModel getModel() {
+            return model;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kelompok.dua.maven.parser;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Exception yang dilemparkan ketika model lolos parsing tetapi validasi
+ * semantiknya menemukan satu atau lebih error. Seluruh diagnostic (termasuk
+ * warning) tersedia melalui getDiagnostics().
+ */
+public class XtumlValidationException extends XtumlParseException {
+    private static final long serialVersionUID = 1L;
+
+    // List.copyOf dan ModelDiagnostic keduanya serializable
+    private final List<ModelDiagnostic> diagnostics;
+
+    public XtumlValidationException(List<ModelDiagnostic> diagnostics) {
+        super(buildMessage(diagnostics));
+        this.diagnostics = List.copyOf(diagnostics);
+    }
+
+    public List<ModelDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * Jumlah diagnostic bertingkat ERROR
+     */
+    public long getErrorCount() {
+        return diagnostics.stream().filter(ModelDiagnostic::isError).count();
+    }
+
+    private static String buildMessage(List<ModelDiagnostic> diagnostics) {
+        List<ModelDiagnostic> errors = diagnostics.stream().filter(ModelDiagnostic::isError)
+                .collect(Collectors.toList());
+        return "Validasi model gagal (" + errors.size() + " error):\n  - "
+                + errors.stream().map(ModelDiagnostic::toString).collect(Collectors.joining("\n  - "));
+    }
+}
@@ -0,0 +1,43 @@
+package kelompok.dua.maven.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Konstanta dan helper bersama untuk format snapshot model (.xtmc).
+ *
+ * Layout file (big-endian):
+ * <pre>
+ * header   : magic, formatVersion, sourceSize, sourceModified, systemName, version,
+ *            stringTableOffset, domainTableOffset
+ * records  : record class dan relationship, string direferensikan lewat id
+ * strings  : count, offset[count + 1], UTF-8 bytes
+ * domains  : count, lalu per domain: name, keyLetter, classCount, classOffset[],
+ *            relationshipCount, relationshipOffset[]
+ * </pre>
+ * Id string -1 dan jumlah list -1 menandakan null.
+ */
+final class ModelSnapshotFormat {
+    static final int MAGIC = 0x58544D43; // "XTMC"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 40;
+    static final int NULL_ID = -1;
+
+    static final int OFFSET_SOURCE_SIZE = 8;
+    static final int OFFSET_SOURCE_MODIFIED = 16;
+    static final int OFFSET_SYSTEM_NAME = 24;
+    static final int OFFSET_VERSION = 28;
+    static final int OFFSET_STRING_TABLE = 32;
+    static final int OFFSET_DOMAIN_TABLE = 36;
+
+    private ModelSnapshotFormat() {
+    }
+
+    /**
+     * Ukuran dan waktu modifikasi file sumber, dipakai untuk mendeteksi snapshot basi
+     */
+    static long[] sourceStamp(Path inputPath) throws IOException {
+        return new long[] { Files.size(inputPath), Files.getLastModifiedTime(inputPath).toMillis() };
+    }
+}
@@ -0,0 +1,336 @@
+package kelompok.dua.maven.snapshot;
+
+import kelompok.dua.maven.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import static kelompok.dua.maven.snapshot.ModelSnapshotFormat.*;
+
+/**
+ * Memuat snapshot model (.xtmc) melalui memory-mapped FileChannel.
+ * Hanya header dan tabel domain yang dibaca saat load; record class,
+ * relationship dan string di-decode saat pertama kali diakses.
+ */
+public class ModelSnapshotReader {
+    private static final Logger logger = LoggerFactory.getLogger(ModelSnapshotReader.class);
+
+    private final ByteBuffer buffer;
+    private final int stringTableOffset;
+    private final int stringCount;
+    private final AtomicReferenceArray<String> stringCache;
+
+    private ModelSnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.stringTableOffset = buffer.getInt(OFFSET_STRING_TABLE);
+        this.stringCount = buffer.getInt(stringTableOffset);
+        this.stringCache = new AtomicReferenceArray<>(stringCount);
+    }
+
+    /**
+     * Cek apakah snapshot ada, formatnya dikenali, dan masih sesuai dengan file sumber
+     */
+    public static boolean isFresh(Path snapshotPath, Path inputPath) {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return false;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // baca sampai header lengkap
+            }
+            long[] stamp = sourceStamp(inputPath);
+            return header.getInt(0) == MAGIC
+                    && header.getInt(4) == FORMAT_VERSION
+                    && header.getLong(OFFSET_SOURCE_SIZE) == stamp[0]
+                    && header.getLong(OFFSET_SOURCE_MODIFIED) == stamp[1];
+        } catch (IOException e) {
+            logger.debug("Snapshot tidak dapat dibaca: {}", snapshotPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * Muat snapshot sebagai XtumlModel dengan class dan relationship yang di-decode secara lazy
+     */
+    public static XtumlModel load(Path snapshotPath) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (mapped.limit() < HEADER_SIZE || mapped.getInt(0) != MAGIC) {
+            throw new IOException("File bukan snapshot xTUML yang valid: " + snapshotPath);
+        }
+        if (mapped.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Versi format snapshot tidak didukung: " + mapped.getInt(4));
+        }
+
+        ModelSnapshotReader reader = new ModelSnapshotReader(mapped);
+        XtumlModel model = reader.readModel();
+        logger.info("Snapshot dimuat: {} ({} domain)", snapshotPath, model.getDomains().size());
+        return model;
+    }
+
+    private XtumlModel readModel() {
+        XtumlModel model = new XtumlModel();
+        model.setSystemName(string(buffer.getInt(OFFSET_SYSTEM_NAME)));
+        model.setVersion(string(buffer.getInt(OFFSET_VERSION)));
+
+        Cursor c = new Cursor(buffer.getInt(OFFSET_DOMAIN_TABLE));
+        int domainCount = c.readInt();
+        List<Domain> domains = new ArrayList<>(domainCount);
+        for (int i = 0; i < domainCount; i++) {
+            Domain domain = new Domain();
+            domain.setName(string(c.readInt()));
+            domain.setKeyLetter(string(c.readInt()));
+            domain.setClasses(lazyRecords(c, this::readClass));
+            domain.setRelationships(lazyRecords(c, this::readRelationship));
+            domains.add(domain);
+        }
+        model.setDomains(domains);
+        return model;
+    }
+
+    /**
+     * Buat list lazy dari tabel offset pada posisi cursor, lalu majukan cursor melewati tabel tersebut
+     */
+    private <T> List<T> lazyRecords(Cursor c, IntFunction<T> decoder) {
+        int count = c.readInt();
+        if (count == NULL_ID) {
+            return null;
+        }
+        int tablePosition = c.position;
+        c.position += count * 4;
+        return new LazyRecordList<>(count, i -> decoder.apply(buffer.getInt(tablePosition + i * 4)));
+    }
+
+    private ClassDefinition readClass(int offset) {
+        Cursor c = new Cursor(offset);
+        ClassDefinition classDef = new ClassDefinition();
+        classDef.setEntityType(c.readString());
+        classDef.setName(c.readString());
+        classDef.setKeyLetter(c.readString());
+        classDef.setInheritsFrom(c.readString());
+        byte isAbstract = c.readByte();
+        classDef.setIsAbstract(isAbstract == 0 ? null : isAbstract == 2);
+        classDef.setDescription(c.readString());
+        classDef.setAttributes(readAttributes(c));
+
+        if (c.readBoolean()) {
+            StateMachine sm = new StateMachine();
+            sm.setInitialState(c.readString());
+            int stateCount = c.readInt();
+            if (stateCount != NULL_ID) {
+                List<State> states = new ArrayList<>(stateCount);
+                for (int i = 0; i < stateCount; i++) {
+                    states.add(new State(c.readString()));
+                }
+                sm.setStates(states);
+            }
+            int transitionCount = c.readInt();
+            if (transitionCount != NULL_ID) {
+                List<Transition> transitions = new ArrayList<>(transitionCount);
+                for (int i = 0; i < transitionCount; i++) {
+                    transitions.add(readTransition(c));
+                }
+                sm.setTransitions(transitions);
+            }
+            classDef.setStateMachine(sm);
+        }
+        return classDef;
+    }
+
+    private Transition readTransition(Cursor c) {
+        Transition transition = new Transition();
+        transition.setFromState(c.readString());
+        transition.setToState(c.readString());
+        transition.setEvent(c.readString());
+        int actionCount = c.readInt();
+        if (actionCount != NULL_ID) {
+            List<Action> actions = new ArrayList<>(actionCount);
+            for (int i = 0; i < actionCount; i++) {
+                Action action = new Action();
+                action.setType(c.readString());
+                action.setMessage(c.readString());
+                action.setActionLanguage(readActionLanguage(c));
+                actions.add(action);
+            }
+            transition.setActions(actions);
+        }
+        transition.setActionLanguage(readActionLanguage(c));
+        return transition;
+    }
+
+    private ActionLanguage readActionLanguage(Cursor c) {
+        if (!c.readBoolean()) {
+            return null;
+        }
+        ActionLanguage actionLanguage = new ActionLanguage();
+        int operationCount = c.readInt();
+        if (operationCount != NULL_ID) {
+            List<Operation> operations = new ArrayList<>(operationCount);
+            for (int i = 0; i < operationCount; i++) {
+                Operation operation = new Operation();
+                operation.setName(c.readString());
+                int paramCount = c.readInt();
+                if (paramCount != NULL_ID) {
+                    List<Parameter> parameters = new ArrayList<>(paramCount);
+                    for (int j = 0; j < paramCount; j++) {
+                        parameters.add(new Parameter(c.readString(), c.readString()));
+                    }
+                    operation.setParameters(parameters);
+                }
+                operation.setActions(readSteps(c));
+                operation.setSteps(readSteps(c));
+                operations.add(operation);
+            }
+            actionLanguage.setOperations(operations);
+        }
+        return actionLanguage;
+    }
+
+    private List<ActionStep> readSteps(Cursor c) {
+        int count = c.readInt();
+        if (count == NULL_ID) {
+            return null;
+        }
+        List<ActionStep> steps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            steps.add(new ActionStep(c.readString(), c.readString(), c.readString(), c.readString(),
+                    c.readString()));
+        }
+        return steps;
+    }
+
+    private Relationship readRelationship(int offset) {
+        Cursor c = new Cursor(offset);
+        Relationship relationship = new Relationship();
+        relationship.setRelationshipId(c.readString());
+        relationship.setDescription(c.readString());
+        relationship.setRelationshipType(c.readString());
+        int participantCount = c.readInt();
+        if (participantCount != NULL_ID) {
+            List<Participant> participants = new ArrayList<>(participantCount);
+            for (int i = 0; i < participantCount; i++) {
+                participants.add(new Participant(c.readString(), c.readString(), c.readString()));
+            }
+            relationship.setParticipants(participants);
+        }
+        if (c.readBoolean()) {
+            AssociationClass assocClass = new AssociationClass();
+            assocClass.setName(c.readString());
+            assocClass.setKeyLetter(c.readString());
+            assocClass.setAttributes(readAttributes(c));
+            relationship.setAssociationClass(assocClass);
+        }
+        return relationship;
+    }
+
+    private List<Attribute> readAttributes(Cursor c) {
+        int count = c.readInt();
+        if (count == NULL_ID) {
+            return null;
+        }
+        List<Attribute> attributes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            attributes.add(new Attribute(c.readString(), c.readString(), c.readString(), c.readString()));
+        }
+        return attributes;
+    }
+
+    /**
+     * Decode string berdasarkan id, dengan cache agar setiap string hanya di-decode sekali
+     */
+    private String string(int id) {
+        if (id == NULL_ID) {
+            return null;
+        }
+        if (id < 0 || id >= stringCount) {
+            throw new IllegalStateException("Id string snapshot tidak valid: " + id);
+        }
+        String cached = stringCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        int start = buffer.getInt(stringTableOffset + 4 + id * 4);
+        int end = buffer.getInt(stringTableOffset + 8 + id * 4);
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        stringCache.compareAndSet(id, null, value);
+        return stringCache.get(id);
+    }
+
+    /**
+     * Posisi baca relatif di atas buffer bersama (hanya memakai absolute get agar aman antar thread)
+     */
+    private class Cursor {
+        private int position;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += 4;
+            return value;
+        }
+
+        byte readByte() {
+            return buffer.get(position++);
+        }
+
+        boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        String readString() {
+            return string(readInt());
+        }
+    }
+
+    /**
+     * List read-only yang men-decode elemen saat pertama kali diakses lalu menyimpannya
+     */
+    private static class LazyRecordList<T> extends AbstractList<T> {
+        private final AtomicReferenceArray<T> elements;
+        private final IntFunction<T> decoder;
+
+        LazyRecordList(int size, IntFunction<T> decoder) {
+            this.elements = new AtomicReferenceArray<>(size);
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(int index) {
+            T element = elements.get(index);
+            if (element == null) {
+                elements.compareAndSet(index, null, decoder.apply(index));
+                element = elements.get(index);
+            }
+            return element;
+        }
+
+        @Override
+        public int size() {
+            return elements.length();
+        }
+    }
+}
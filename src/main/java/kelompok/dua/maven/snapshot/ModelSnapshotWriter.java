@@ -0,0 +1,291 @@
+package kelompok.dua.maven.snapshot;
+
+import kelompok.dua.maven.model.*;
+import kelompok.dua.maven.parser.ModelInputs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static kelompok.dua.maven.snapshot.ModelSnapshotFormat.*;
+
+/**
+ * Menulis XtumlModel yang sudah divalidasi ke file snapshot biner (.xtmc)
+ */
+public class ModelSnapshotWriter {
+    private static final Logger logger = LoggerFactory.getLogger(ModelSnapshotWriter.class);
+
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream records = new DataOutputStream(recordBytes);
+
+    /**
+     * Path snapshot default untuk sebuah file input (di direktori yang sama)
+     */
+    public static Path snapshotPathFor(Path inputPath) {
+        String fileName = ModelInputs.uncompressedName(inputPath);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return inputPath.resolveSibling(baseName + ".xtmc");
+    }
+
+    private ModelSnapshotWriter() {
+    }
+
+    /**
+     * Tulis snapshot untuk model yang berasal dari inputPath
+     */
+    public static void write(XtumlModel model, Path inputPath, Path snapshotPath) throws IOException {
+        new ModelSnapshotWriter().writeSnapshot(model, inputPath, snapshotPath);
+    }
+
+    private void writeSnapshot(XtumlModel model, Path inputPath, Path snapshotPath) throws IOException {
+        long[] stamp = sourceStamp(inputPath);
+
+        List<int[]> classOffsets = new ArrayList<>();
+        List<int[]> relationshipOffsets = new ArrayList<>();
+        for (Domain domain : model.getDomains()) {
+            classOffsets.add(writeClasses(domain.getClasses()));
+            relationshipOffsets.add(writeRelationships(domain.getRelationships()));
+        }
+        int systemNameId = id(model.getSystemName());
+        int versionId = id(model.getVersion());
+        int[] domainNameIds = new int[model.getDomains().size()];
+        int[] domainKeyLetterIds = new int[model.getDomains().size()];
+        for (int i = 0; i < domainNameIds.length; i++) {
+            domainNameIds[i] = id(model.getDomains().get(i).getName());
+            domainKeyLetterIds[i] = id(model.getDomains().get(i).getKeyLetter());
+        }
+        records.flush();
+
+        // String table
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        int stringTableOffset = HEADER_SIZE + recordBytes.size();
+        int stringDataStart = stringTableOffset + 4 + (strings.size() + 1) * 4;
+        ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+        DataOutputStream table = new DataOutputStream(stringTable);
+        table.writeInt(strings.size());
+        for (String s : strings) {
+            table.writeInt(stringDataStart + stringBytes.size());
+            stringBytes.write(s.getBytes(StandardCharsets.UTF_8));
+        }
+        table.writeInt(stringDataStart + stringBytes.size());
+        stringBytes.writeTo(table);
+        table.flush();
+
+        // Domain table
+        int domainTableOffset = stringTableOffset + stringTable.size();
+        ByteArrayOutputStream domainTable = new ByteArrayOutputStream();
+        DataOutputStream domains = new DataOutputStream(domainTable);
+        domains.writeInt(domainNameIds.length);
+        for (int i = 0; i < domainNameIds.length; i++) {
+            domains.writeInt(domainNameIds[i]);
+            domains.writeInt(domainKeyLetterIds[i]);
+            writeOffsets(domains, classOffsets.get(i));
+            writeOffsets(domains, relationshipOffsets.get(i));
+        }
+        domains.flush();
+
+        long totalSize = (long) domainTableOffset + domainTable.size();
+        if (totalSize > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot melebihi batas 2 GB: " + totalSize + " bytes");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(stamp[0])
+                .putLong(stamp[1])
+                .putInt(systemNameId)
+                .putInt(versionId)
+                .putInt(stringTableOffset)
+                .putInt(domainTableOffset);
+
+        // Tulis ke file sementara lalu pindahkan agar reader tidak melihat snapshot setengah jadi
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempPath)) {
+            out.write(header.array());
+            recordBytes.writeTo(out);
+            stringTable.writeTo(out);
+            domainTable.writeTo(out);
+        }
+        Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Snapshot ditulis: {} ({} bytes, {} strings)", snapshotPath, totalSize, strings.size());
+    }
+
+    private static void writeOffsets(DataOutputStream out, int[] offsets) throws IOException {
+        if (offsets == null) {
+            out.writeInt(NULL_ID);
+            return;
+        }
+        out.writeInt(offsets.length);
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+    }
+
+    private int[] writeClasses(List<ClassDefinition> classes) throws IOException {
+        if (classes == null) {
+            return null;
+        }
+        int[] offsets = new int[classes.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = position();
+            writeClass(classes.get(i));
+        }
+        return offsets;
+    }
+
+    private int[] writeRelationships(List<Relationship> relationships) throws IOException {
+        if (relationships == null) {
+            return null;
+        }
+        int[] offsets = new int[relationships.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = position();
+            writeRelationship(relationships.get(i));
+        }
+        return offsets;
+    }
+
+    private void writeClass(ClassDefinition classDef) throws IOException {
+        writeString(classDef.getEntityType());
+        writeString(classDef.getName());
+        writeString(classDef.getKeyLetter());
+        writeString(classDef.getInheritsFrom());
+        records.writeByte(classDef.getIsAbstract() == null ? 0 : classDef.getIsAbstract() ? 2 : 1);
+        writeString(classDef.getDescription());
+        writeAttributes(classDef.getAttributes());
+
+        StateMachine sm = classDef.getStateMachine();
+        records.writeBoolean(sm != null);
+        if (sm != null) {
+            writeString(sm.getInitialState());
+            if (writeCount(sm.getStates())) {
+                for (State state : sm.getStates()) {
+                    writeString(state.getName());
+                }
+            }
+            if (writeCount(sm.getTransitions())) {
+                for (Transition transition : sm.getTransitions()) {
+                    writeTransition(transition);
+                }
+            }
+        }
+    }
+
+    private void writeTransition(Transition transition) throws IOException {
+        writeString(transition.getFromState());
+        writeString(transition.getToState());
+        writeString(transition.getEvent());
+        if (writeCount(transition.getActions())) {
+            for (Action action : transition.getActions()) {
+                writeString(action.getType());
+                writeString(action.getMessage());
+                writeActionLanguage(action.getActionLanguage());
+            }
+        }
+        writeActionLanguage(transition.getActionLanguage());
+    }
+
+    private void writeActionLanguage(ActionLanguage actionLanguage) throws IOException {
+        records.writeBoolean(actionLanguage != null);
+        if (actionLanguage == null || !writeCount(actionLanguage.getOperations())) {
+            return;
+        }
+        for (Operation operation : actionLanguage.getOperations()) {
+            writeString(operation.getName());
+            if (writeCount(operation.getParameters())) {
+                for (Parameter param : operation.getParameters()) {
+                    writeString(param.getName());
+                    writeString(param.getType());
+                }
+            }
+            writeSteps(operation.getActions());
+            writeSteps(operation.getSteps());
+        }
+    }
+
+    private void writeSteps(List<ActionStep> steps) throws IOException {
+        if (writeCount(steps)) {
+            for (ActionStep step : steps) {
+                writeString(step.getType());
+                writeString(step.getTarget());
+                writeString(step.getAttribute());
+                writeString(step.getValue());
+                writeString(step.getMessage());
+            }
+        }
+    }
+
+    private void writeRelationship(Relationship relationship) throws IOException {
+        writeString(relationship.getRelationshipId());
+        writeString(relationship.getDescription());
+        writeString(relationship.getRelationshipType());
+        if (writeCount(relationship.getParticipants())) {
+            for (Participant participant : relationship.getParticipants()) {
+                writeString(participant.getClassName());
+                writeString(participant.getRole());
+                writeString(participant.getMultiplicity());
+            }
+        }
+        AssociationClass assocClass = relationship.getAssociationClass();
+        records.writeBoolean(assocClass != null);
+        if (assocClass != null) {
+            writeString(assocClass.getName());
+            writeString(assocClass.getKeyLetter());
+            writeAttributes(assocClass.getAttributes());
+        }
+    }
+
+    private void writeAttributes(List<Attribute> attributes) throws IOException {
+        if (writeCount(attributes)) {
+            for (Attribute attr : attributes) {
+                writeString(attr.getName());
+                writeString(attr.getDataType());
+                writeString(attr.getAttributeType());
+                writeString(attr.getDefaultValue());
+            }
+        }
+    }
+
+    private boolean writeCount(List<?> list) throws IOException {
+        records.writeInt(list == null ? NULL_ID : list.size());
+        return list != null;
+    }
+
+    private void writeString(String value) throws IOException {
+        records.writeInt(id(value));
+    }
+
+    private int id(String value) {
+        if (value == null) {
+            return NULL_ID;
+        }
+        return stringIds.computeIfAbsent(value, s -> {
+            strings.add(s);
+            return strings.size() - 1;
+        });
+    }
+
+    private int position() throws IOException {
+        records.flush();
+        if (recordBytes.size() > Integer.MAX_VALUE - HEADER_SIZE) {
+            throw new IOException("Snapshot melebihi batas 2 GB");
+        }
+        return HEADER_SIZE + recordBytes.size();
+    }
+}
@@ -0,0 +1,142 @@
+package kelompok.dua.maven.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Memantau perubahan file lewat WatchService. Rentetan event (editor biasanya
+ * menulis file temporary, rename, lalu mengubah atribut) dikumpulkan sampai
+ * tidak ada event baru selama jendela debounce, lalu dilaporkan sekaligus.
+ */
+public final class FileWatcher implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(FileWatcher.class);
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final boolean recursive;
+    private final Predicate<Path> filter;
+    private final long debounceMillis;
+
+    /**
+     * @param roots     direktori yang dipantau
+     * @param recursive pantau juga subdirektori (termasuk yang dibuat belakangan)
+     * @param filter    hanya perubahan pada path yang lolos filter yang dilaporkan
+     * @param debounce  lama jeda tanpa event sebelum perubahan dilaporkan
+     */
+    public FileWatcher(Collection<Path> roots, boolean recursive, Predicate<Path> filter, Duration debounce)
+            throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.recursive = recursive;
+        this.filter = filter;
+        this.debounceMillis = debounce.toMillis();
+        for (Path root : roots) {
+            register(root.toAbsolutePath().normalize());
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        if (recursive) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+                    registerOne(path);
+                }
+            }
+        } else {
+            registerOne(directory);
+        }
+    }
+
+    private void registerOne(Path directory) throws IOException {
+        WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        directories.put(key, directory);
+        logger.debug("Memantau direktori: {}", directory);
+    }
+
+    /**
+     * Tunggu sampai ada perubahan yang relevan, lalu kumpulkan event berikutnya
+     * hingga tenang selama jendela debounce.
+     *
+     * @return path yang berubah (terurut); pada overflow berisi direktori yang dipantau
+     */
+    public Set<Path> awaitChanges() throws InterruptedException {
+        Set<Path> changed = new TreeSet<>();
+        while (changed.isEmpty()) {
+            collect(take(), changed);
+        }
+        WatchKey key;
+        while ((key = poll()) != null) {
+            collect(key, changed);
+        }
+        return changed;
+    }
+
+    private WatchKey take() throws InterruptedException {
+        try {
+            return watchService.take();
+        } catch (ClosedWatchServiceException e) {
+            throw new InterruptedException("Watcher ditutup");
+        }
+    }
+
+    private WatchKey poll() throws InterruptedException {
+        try {
+            return watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        } catch (ClosedWatchServiceException e) {
+            throw new InterruptedException("Watcher ditutup");
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Event hilang; anggap seluruh direktori berubah
+                changed.add(directory);
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (recursive && event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    register(path);
+                } catch (IOException e) {
+                    logger.warn("Gagal memantau direktori baru {}: {}", path, e.getMessage());
+                }
+            }
+            if (filter.test(path)) {
+                changed.add(path);
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
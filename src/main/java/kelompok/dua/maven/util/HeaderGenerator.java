@@ -4,22 +4,32 @@ import kelompok.dua.maven.model.ClassDefinition;
 import kelompok.dua.maven.model.Domain;
 import kelompok.dua.maven.model.XtumlModel;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Utility untuk menghasilkan header komentar profesional dan compact
  */
 public class HeaderGenerator {
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     /**
      * Generate header untuk file interface
      */
     public static String generateInterfaceHeader(ClassDefinition classDef, Domain domain, XtumlModel model) {
+        return generateInterfaceHeader(classDef, domain, model, getCurrentTimestamp());
+    }
+
+    /**
+     * @param generatedAt timestamp di header, atau null untuk menghilangkannya (output reproducible)
+     */
+    public static String generateInterfaceHeader(ClassDefinition classDef, Domain domain, XtumlModel model, String generatedAt) {
         return String.format("""
                 /**
                  * %s Interface - %s v%s
-                 * Generated by xTUML TypeScript Compiler v1.1.0 on %s
+                 * %s
                  *
                  * Entity: %s (%s) | Domain: %s | State Machine: %s
                  * %s
@@ -28,7 +38,7 @@ public class HeaderGenerator {
                 classDef.getName(),
                 model.getSystemName(),
                 model.getVersion(),
-                getCurrentTimestamp(),
+                generatedBy(generatedAt),
                 classDef.getName(),
                 classDef.getKeyLetter(),
                 domain.getName(),
@@ -40,6 +50,13 @@ public class HeaderGenerator {
      * Generate header untuk file class
      */
     public static String generateClassHeader(ClassDefinition classDef, Domain domain, XtumlModel model) {
+        return generateClassHeader(classDef, domain, model, getCurrentTimestamp());
+    }
+
+    /**
+     * Varian dengan timestamp eksplisit (null = tanpa timestamp)
+     */
+    public static String generateClassHeader(ClassDefinition classDef, Domain domain, XtumlModel model, String generatedAt) {
         String inheritanceInfo = classDef.getInheritsFrom() != null ? " extends " + classDef.getInheritsFrom() : "";
         String abstractInfo = Boolean.TRUE.equals(classDef.getIsAbstract()) ? "Abstract " : "";
         String stateMachineInfo = classDef.getStateMachine() != null ? " | State Machine" : "";
@@ -47,7 +64,7 @@ public class HeaderGenerator {
         return String.format("""
                 /**
                  * %s%s Class%s - %s v%s
-                 * Generated by xTUML TypeScript Compiler v1.1.0 on %s
+                 * %s
                  *
                  * Entity: %s (%s) | Domain: %s%s%s
                  * %s
@@ -58,7 +75,7 @@ public class HeaderGenerator {
                 inheritanceInfo,
                 model.getSystemName(),
                 model.getVersion(),
-                getCurrentTimestamp(),
+                generatedBy(generatedAt),
                 classDef.getName(),
                 classDef.getKeyLetter(),
                 domain.getName(),
@@ -71,13 +88,20 @@ public class HeaderGenerator {
      * Generate header untuk file index domain
      */
     public static String generateDomainIndexHeader(Domain domain, XtumlModel model) {
+        return generateDomainIndexHeader(domain, model, getCurrentTimestamp());
+    }
+
+    /**
+     * Varian dengan timestamp eksplisit (null = tanpa timestamp)
+     */
+    public static String generateDomainIndexHeader(Domain domain, XtumlModel model, String generatedAt) {
         int classCount = domain.getClasses() != null ? domain.getClasses().size() : 0;
         int relCount = domain.getRelationships() != null ? domain.getRelationships().size() : 0;
 
         return String.format("""
                 /**
                  * %s Domain Index - %s v%s
-                 * Generated by xTUML TypeScript Compiler v1.1.0 on %s
+                 * %s
                  *
                  * Domain: %s (%s) | Classes: %d | Relationships: %d
                  * Auto-generated exports for all domain entities
@@ -86,7 +110,7 @@ public class HeaderGenerator {
                 domain.getName(),
                 model.getSystemName(),
                 model.getVersion(),
-                getCurrentTimestamp(),
+                generatedBy(generatedAt),
                 domain.getName(),
                 domain.getKeyLetter(),
                 classCount,
@@ -97,6 +121,13 @@ public class HeaderGenerator {
      * Generate header untuk main index file
      */
     public static String generateMainIndexHeader(XtumlModel model) {
+        return generateMainIndexHeader(model, getCurrentTimestamp());
+    }
+
+    /**
+     * Varian dengan timestamp eksplisit (null = tanpa timestamp)
+     */
+    public static String generateMainIndexHeader(XtumlModel model, String generatedAt) {
         int totalClasses = model.getDomains().stream()
                 .mapToInt(d -> d.getClasses() != null ? d.getClasses().size() : 0)
                 .sum();
@@ -107,7 +138,7 @@ public class HeaderGenerator {
         return String.format("""
                 /**
                  * %s System Index v%s
-                 * Generated by xTUML TypeScript Compiler v1.1.0 on %s
+                 * %s
                  *
                  * Domains: %d | Classes: %d | Relationships: %d
                  * Complete type-safe exports for all system entities
@@ -115,16 +146,48 @@ public class HeaderGenerator {
                 """,
                 model.getSystemName(),
                 model.getVersion(),
-                getCurrentTimestamp(),
+                generatedBy(generatedAt),
                 model.getDomains().size(),
                 totalClasses,
                 totalRelationships);
     }
 
+    private static String generatedBy(String generatedAt) {
+        return generatedAt != null ? "Generated by xTUML TypeScript Compiler v1.1.0 on " + generatedAt
+                : "Generated by xTUML TypeScript Compiler v1.1.0";
+    }
+
     /**
      * Get current timestamp
      */
-    private static String getCurrentTimestamp() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    public static String getCurrentTimestamp() {
+        return LocalDateTime.now().format(TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * Timestamp dari SOURCE_DATE_EPOCH (detik sejak epoch), selalu dalam UTC
+     */
+    public static String formatSourceDateEpoch(long epochSeconds) {
+        return TIMESTAMP_FORMAT.format(Instant.ofEpochSecond(epochSeconds).atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * Parse nilai SOURCE_DATE_EPOCH; null atau kosong berarti tidak diset
+     *
+     * @throws IllegalArgumentException jika bukan bilangan bulat non-negatif
+     */
+    public static Long parseSourceDateEpoch(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            long epochSeconds = Long.parseLong(value.trim());
+            if (epochSeconds >= 0) {
+                return epochSeconds;
+            }
+        } catch (NumberFormatException e) {
+            // dilaporkan di bawah
+        }
+        throw new IllegalArgumentException("SOURCE_DATE_EPOCH tidak valid: " + value);
     }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package kelompok.dua.maven.util;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache hasil konversi nama identifier (PascalCase, camelCase, kebab-case,
+ * nama interface) yang aman dipakai dari banyak thread.
+ *
+ * Setiap jenis konversi memiliki map sendiri sehingga lookup tidak perlu
+ * membuat key gabungan. Cache dibatasi per jenis dan memakai eviction CLOCK
+ * (second chance): hit hanya menandai entry tanpa lock, dan saat penuh entry
+ * yang tidak dipakai sejak putaran jarum terakhir diganti dengan hasil baru.
+ * Dengan begitu cache tetap mengikuti nama yang sedang aktif, misalnya saat
+ * daemon mengkompilasi model yang berbeda dari request sebelumnya.
+ */
+public final class NameCache {
+    public static final int DEFAULT_MAX_ENTRIES = 65_536;
+
+    /**
+     * Jenis konversi yang di-cache
+     */
+    public enum Kind {
+        PASCAL_CASE, CAMEL_CASE, KEBAB_CASE, INTERFACE_NAME
+    }
+
+    private final int maxEntries;
+    private final Map<Kind, Segment> caches = new EnumMap<>(Kind.class);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public NameCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public NameCache(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries tidak boleh negatif: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        for (Kind kind : Kind.values()) {
+            caches.put(kind, new Segment(maxEntries, evictions));
+        }
+    }
+
+    /**
+     * Ambil hasil konversi dari cache atau hitung dengan converter.
+     * Input null tidak di-cache dan langsung diteruskan ke converter.
+     */
+    public String get(Kind kind, String input, UnaryOperator<String> converter) {
+        if (input == null) {
+            return converter.apply(null);
+        }
+        Segment cache = caches.get(kind);
+        String cached = cache.get(input);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        String converted = converter.apply(input);
+        return converted != null ? cache.put(input, converted) : null;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Jumlah entry yang dikeluarkan untuk memberi tempat hasil baru
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Jumlah entry tersimpan di seluruh jenis konversi
+     */
+    public int size() {
+        int size = 0;
+        for (Segment cache : caches.values()) {
+            size += cache.size();
+        }
+        return size;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Kosongkan seluruh entry dan reset counter
+     */
+    public void clear() {
+        for (Segment cache : caches.values()) {
+            cache.clear();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        long hitRate = total == 0 ? 0 : Math.round(hitCount * 100.0 / total);
+        return hitCount + " hit, " + getMisses() + " miss (" + hitRate + "%), " + size() + " entry, "
+                + getEvictions() + " eviction";
+    }
+
+    /**
+     * Cache satu jenis konversi. Lookup berjalan tanpa lock di atas
+     * ConcurrentHashMap; penambahan dan eviction diserialkan karena hanya
+     * terjadi saat miss. Ring menyimpan urutan slot untuk jarum CLOCK.
+     */
+    private static final class Segment {
+        private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+        private final int maxEntries;
+        private final LongAdder evictions;
+        private String[] ring;
+        private int count;
+        private int hand;
+
+        Segment(int maxEntries, LongAdder evictions) {
+            this.maxEntries = maxEntries;
+            this.evictions = evictions;
+            this.ring = new String[Math.min(maxEntries, 1024)];
+        }
+
+        String get(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            // Hindari write berulang ke cache line yang sama untuk entry yang sering dipakai
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+
+        /**
+         * Simpan hasil konversi dan kembalikan nilai yang tersimpan (milik thread lain jika kalah cepat)
+         */
+        synchronized String put(String key, String value) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing.value;
+            }
+            if (maxEntries == 0) {
+                return value;
+            }
+            if (count < maxEntries) {
+                if (count == ring.length) {
+                    ring = Arrays.copyOf(ring, Math.min(maxEntries, ring.length * 2));
+                }
+                ring[count++] = key;
+            } else {
+                // Jarum berputar sampai menemukan entry yang tidak dipakai sejak putaran sebelumnya
+                while (true) {
+                    Entry candidate = entries.get(ring[hand]);
+                    if (!candidate.referenced) {
+                        break;
+                    }
+                    candidate.referenced = false;
+                    hand = (hand + 1) % maxEntries;
+                }
+                entries.remove(ring[hand]);
+                evictions.increment();
+                ring[hand] = key;
+                hand = (hand + 1) % maxEntries;
+            }
+            entries.put(key, new Entry(value));
+            return value;
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            ring = new String[Math.min(maxEntries, 1024)];
+            count = 0;
+            hand = 0;
+        }
+    }
+
+    private static final class Entry {
+        final String value;
+        volatile boolean referenced;
+
+        Entry(String value) {
+            this.value = value;
+        }
+    }
+}
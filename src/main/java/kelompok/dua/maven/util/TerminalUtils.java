@@ -3,6 +3,7 @@ package kelompok.dua.maven.util;
 import org.fusesource.jansi.Ansi;
 import org.fusesource.jansi.AnsiConsole;
 
+import java.io.PrintStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -37,32 +38,54 @@ public class TerminalUtils {
     public static final String BRIGHT_MAGENTA = Ansi.ansi().fgBrightMagenta().toString();
     public static final String BRIGHT_WHITE = Ansi.ansi().fgBrightDefault().toString();
 
+    // Tujuan output per thread; daemon mengarahkan output setiap request ke client-nya
+    private static final ThreadLocal<PrintStream> OUTPUT = new ThreadLocal<>();
+
+    /**
+     * Arahkan output thread ini ke stream lain (mis. koneksi client daemon)
+     */
+    public static void setOutput(PrintStream stream) {
+        OUTPUT.set(stream);
+    }
+
+    /**
+     * Kembalikan output thread ini ke System.out
+     */
+    public static void resetOutput() {
+        OUTPUT.remove();
+    }
+
+    private static PrintStream out() {
+        PrintStream stream = OUTPUT.get();
+        return stream != null ? stream : System.out;
+    }
+
     /**
      * Print success message dengan green color
      */
     public static void printSuccess(String message) {
-        System.out.println(GREEN + "[OK] " + message + RESET);
+        out().println(GREEN + "[OK] " + message + RESET);
     }
 
     /**
      * Print error message dengan red color
      */
     public static void printError(String message) {
-        System.out.println(RED + "[ERROR] " + message + RESET);
+        out().println(RED + "[ERROR] " + message + RESET);
     }
 
     /**
      * Print warning message dengan yellow color
      */
     public static void printWarning(String message) {
-        System.out.println(YELLOW + "[WARNING] " + message + RESET);
+        out().println(YELLOW + "[WARNING] " + message + RESET);
     }
 
     /**
      * Print info message dengan blue color
      */
     public static void printInfo(String message) {
-        System.out.println(BLUE + "[INFO] " + message + RESET);
+        out().println(BLUE + "[INFO] " + message + RESET);
     }
 
     /**
@@ -70,17 +93,17 @@ public class TerminalUtils {
      */
     public static void printHeader(String title) {
         String border = "═".repeat(60);
-        System.out.println(BRIGHT_CYAN + border + RESET);
-        System.out.println(BRIGHT_CYAN + "  " + BOLD + title + RESET + BRIGHT_CYAN + RESET);
-        System.out.println(BRIGHT_CYAN + border + RESET);
+        out().println(BRIGHT_CYAN + border + RESET);
+        out().println(BRIGHT_CYAN + "  " + BOLD + title + RESET + BRIGHT_CYAN + RESET);
+        out().println(BRIGHT_CYAN + border + RESET);
     }
 
     /**
      * Print subheader dengan styling
      */
     public static void printSubHeader(String title) {
-        System.out.println(BRIGHT_BLUE + "\n📂 " + BOLD + title + RESET);
-        System.out.println(BRIGHT_BLUE + "─".repeat(title.length() + 3) + RESET);
+        out().println(BRIGHT_BLUE + "\n📂 " + BOLD + title + RESET);
+        out().println(BRIGHT_BLUE + "─".repeat(title.length() + 3) + RESET);
     }
 
     /**
@@ -89,9 +112,9 @@ public class TerminalUtils {
     public static void printProgress(String message, int current, int total) {
         int percentage = (current * 100) / total;
         String progressBar = createProgressBar(percentage);
-        System.out.print("\r" + BRIGHT_YELLOW + "🔄 " + message + " " + progressBar + " " + percentage + "%" + RESET);
+        out().print("\r" + BRIGHT_YELLOW + "🔄 " + message + " " + progressBar + " " + percentage + "%" + RESET);
         if (current == total) {
-            System.out.println(); // New line when complete
+            out().println(); // New line when complete
         }
     }
 
@@ -100,21 +123,21 @@ public class TerminalUtils {
      */
     public static void printFileGenerated(String fileName, String type) {
         String icon = getFileIcon(type);
-        System.out.println(GREEN + "  " + icon + " " + fileName + RESET + CYAN + " (" + type + ")" + RESET);
+        out().println(GREEN + "  " + icon + " " + fileName + RESET + CYAN + " (" + type + ")" + RESET);
     }
 
     /**
      * Print summary dengan styling
      */
     public static void printSummary(String title, String content) {
-        System.out.println(BRIGHT_MAGENTA + "📊 " + BOLD + title + ": " + RESET + BRIGHT_WHITE + content + RESET);
+        out().println(BRIGHT_MAGENTA + "📊 " + BOLD + title + ": " + RESET + BRIGHT_WHITE + content + RESET);
     }
 
     /**
      * Print banner dengan ASCII art
      */
     public static void printBanner() {
-        System.out.println(BRIGHT_CYAN + """
+        out().println(BRIGHT_CYAN + """
                 ╔═══════════════════════════════════════════════════════════╗
                 ║                                                           ║
                 ║    xTUML TypeScript Compiler v1.1.0                      ║
@@ -178,7 +201,7 @@ public class TerminalUtils {
      * Print separator line
      */
     public static void printSeparator() {
-        System.out.println(CYAN + "─".repeat(60) + RESET);
+        out().println(CYAN + "─".repeat(60) + RESET);
     }
 
     /**
@@ -187,10 +210,10 @@ public class TerminalUtils {
     public static void showProgress(String task, int percentage) {
         String bar = createProgressBar(percentage);
         // Clear line first, then print progress
-        System.out.print("\r\033[K" + BLUE + task + ": " + bar + " " + percentage + "%" + RESET);
-        System.out.flush();
+        out().print("\r\033[K" + BLUE + task + ": " + bar + " " + percentage + "%" + RESET);
+        out().flush();
         if (percentage >= 100) {
-            System.out.println(); // New line when complete
+            out().println(); // New line when complete
         }
     }
 
@@ -199,16 +222,16 @@ public class TerminalUtils {
      */
     public static void printBanner(String title, String version) {
         String border = "═".repeat(60);
-        System.out.println();
-        System.out.println(BRIGHT_CYAN + border + RESET);
-        System.out.println(BRIGHT_CYAN + "║" + RESET +
+        out().println();
+        out().println(BRIGHT_CYAN + border + RESET);
+        out().println(BRIGHT_CYAN + "║" + RESET +
                 centerText(title + " " + version, 58) +
                 BRIGHT_CYAN + "║" + RESET);
-        System.out.println(BRIGHT_CYAN + "║" + RESET +
+        out().println(BRIGHT_CYAN + "║" + RESET +
                 centerText("xTUML Model Compiler", 58) +
                 BRIGHT_CYAN + "║" + RESET);
-        System.out.println(BRIGHT_CYAN + border + RESET);
-        System.out.println();
+        out().println(BRIGHT_CYAN + border + RESET);
+        out().println();
     }
 
     /**
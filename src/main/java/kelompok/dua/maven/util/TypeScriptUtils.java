@@ -1,9 +1,39 @@
 package kelompok.dua.maven.util;
 
+import java.util.Locale;
+
 /**
  * Utility class untuk konversi tipe data dan nama
  */
 public class TypeScriptUtils {
+    private static final NameCache NAME_CACHE = new NameCache();
+
+    private static final int MAX_BUILDER_CAPACITY = 1024;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private static final String[] KEYWORDS = {
+            "abstract", "any", "as", "asserts", "boolean", "break", "case", "catch", "class",
+            "const", "continue", "debugger", "declare", "default", "delete", "do", "else",
+            "enum", "export", "extends", "false", "finally", "for", "from", "function",
+            "get", "if", "implements", "import", "in", "instanceof", "interface", "is",
+            "keyof", "let", "module", "namespace", "never", "new", "null", "number",
+            "object", "package", "private", "protected", "public", "readonly", "require",
+            "return", "set", "static", "string", "super", "switch", "symbol", "this",
+            "throw", "true", "try", "type", "typeof", "undefined", "unique", "unknown",
+            "var", "void", "while", "with", "yield"
+    };
+
+    // Seed dipilih agar setiap keyword menempati slot berbeda (perfect hash); diverifikasi saat class dimuat
+    private static final int KEYWORD_SEED = 944;
+    private static final int KEYWORD_TABLE_SIZE = 256;
+    private static final String[] KEYWORD_TABLE = buildKeywordTable();
+
+    /**
+     * Cache bersama untuk konversi nama (PascalCase, camelCase, kebab-case, interface)
+     */
+    public static NameCache getNameCache() {
+        return NAME_CACHE;
+    }
 
     /**
      * Konversi tipe data dari xTUML ke TypeScript
@@ -55,28 +85,35 @@ public class TypeScriptUtils {
      * Konversi nama class ke format TypeScript (PascalCase)
      */
     public static String toPascalCase(String input) {
+        return NAME_CACHE.get(NameCache.Kind.PASCAL_CASE, input, TypeScriptUtils::computePascalCase);
+    }
+
+    static String computePascalCase(String input) {
         if (input == null || input.isEmpty()) {
             return input;
         }
-
-        // Check if already in PascalCase (starts with uppercase and has mixed case)
-        if (Character.isUpperCase(input.charAt(0)) && !input.equals(input.toUpperCase())
-                && !input.equals(input.toLowerCase())) {
-            // Already in PascalCase or camelCase, just ensure first letter is uppercase
-            return Character.toUpperCase(input.charAt(0)) + input.substring(1);
+        if (!isAsciiSafe(input)) {
+            return legacyPascalCase(input);
         }
 
-        // Remove special characters and split by space, underscore, or hyphen
-        String[] words = input.split("[\\s_-]+");
-        StringBuilder result = new StringBuilder();
+        // Sudah PascalCase/camelCase (huruf pertama kapital dan ada huruf kecil): kembalikan apa adanya
+        char first = input.charAt(0);
+        if (isAsciiUpper(first) && containsAsciiLower(input)) {
+            return input;
+        }
 
-        for (String word : words) {
-            if (word.length() > 0) {
-                result.append(Character.toUpperCase(word.charAt(0)))
-                        .append(word.substring(1).toLowerCase());
+        // Satu kali scan: pemisah [\s_-] memulai kata baru, huruf pertama kata kapital, sisanya huruf kecil
+        StringBuilder result = builder();
+        boolean wordStart = true;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (isSeparator(c) || c == '-') {
+                wordStart = true;
+            } else {
+                result.append(wordStart ? toAsciiUpper(c) : toAsciiLower(c));
+                wordStart = false;
             }
         }
-
         return result.toString();
     }
 
@@ -84,13 +121,22 @@ public class TypeScriptUtils {
      * Konversi nama property ke format TypeScript (camelCase)
      */
     public static String toCamelCase(String input) {
+        return NAME_CACHE.get(NameCache.Kind.CAMEL_CASE, input, TypeScriptUtils::computeCamelCase);
+    }
+
+    static String computeCamelCase(String input) {
         if (input == null || input.isEmpty()) {
             return input;
         }
 
         String pascalCase = toPascalCase(input);
         if (pascalCase.length() > 0) {
-            return Character.toLowerCase(pascalCase.charAt(0)) + pascalCase.substring(1);
+            char first = pascalCase.charAt(0);
+            char lower = Character.toLowerCase(first);
+            if (lower == first) {
+                return pascalCase;
+            }
+            return builder().append(lower).append(pascalCase, 1, pascalCase.length()).toString();
         }
 
         return pascalCase;
@@ -100,37 +146,50 @@ public class TypeScriptUtils {
      * Konversi nama ke format kebab-case untuk nama file dan folder
      */
     public static String toKebabCase(String input) {
+        return NAME_CACHE.get(NameCache.Kind.KEBAB_CASE, input, TypeScriptUtils::computeKebabCase);
+    }
+
+    static String computeKebabCase(String input) {
         if (input == null || input.isEmpty()) {
             return input;
         }
+        if (!isAsciiSafe(input)) {
+            return legacyKebabCase(input);
+        }
 
-        // First, handle camelCase/PascalCase by inserting hyphens before uppercase
-        // letters
-        String result = input.replaceAll("([a-z])([A-Z])", "$1-$2");
-
-        // Handle consecutive uppercase letters (like "XMLParser" -> "XML-Parser")
-        result = result.replaceAll("([A-Z]+)([A-Z][a-z])", "$1-$2");
-
-        // Replace spaces, underscores with hyphens
-        result = result.replaceAll("[\\s_]+", "-");
-
-        // Convert to lowercase
-        result = result.toLowerCase();
-
-        // Remove multiple consecutive hyphens
-        result = result.replaceAll("-+", "-");
-
-        // Remove leading/trailing hyphens
-        result = result.replaceAll("^-+|-+$", "");
-
-        return result;
+        // Satu kali scan yang setara dengan rangkaian replaceAll versi lama:
+        // "aB" -> "a-B", "XMLParser" -> "XML-Parser", [\s_-]+ -> satu "-",
+        // huruf kecil semua, tanpa "-" di awal/akhir
+        StringBuilder result = builder();
+        boolean pendingHyphen = false;
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (isSeparator(c) || c == '-') {
+                pendingHyphen = true;
+                continue;
+            }
+            if (isAsciiUpper(c) && i > 0) {
+                char previous = input.charAt(i - 1);
+                if (isAsciiLower(previous)
+                        || (isAsciiUpper(previous) && i + 1 < length && isAsciiLower(input.charAt(i + 1)))) {
+                    pendingHyphen = true;
+                }
+            }
+            if (pendingHyphen && result.length() > 0) {
+                result.append('-');
+            }
+            pendingHyphen = false;
+            result.append(toAsciiLower(c));
+        }
+        return result.toString();
     }
 
     /**
      * Konversi nama interface ke format TypeScript dengan prefix 'I'
      */
     public static String toInterfaceName(String className) {
-        return "I" + toPascalCase(className);
+        return NAME_CACHE.get(NameCache.Kind.INTERFACE_NAME, className, name -> "I" + toPascalCase(name));
     }
 
     /**
@@ -183,32 +242,20 @@ public class TypeScriptUtils {
     }
 
     /**
-     * Check apakah nama merupakan reserved keyword di TypeScript
+     * Check apakah nama merupakan reserved keyword di TypeScript (tanpa membedakan huruf besar/kecil)
      */
     public static boolean isReservedKeyword(String name) {
         if (name == null) {
             return false;
         }
-
-        String[] keywords = {
-                "abstract", "any", "as", "asserts", "boolean", "break", "case", "catch", "class",
-                "const", "continue", "debugger", "declare", "default", "delete", "do", "else",
-                "enum", "export", "extends", "false", "finally", "for", "from", "function",
-                "get", "if", "implements", "import", "in", "instanceof", "interface", "is",
-                "keyof", "let", "module", "namespace", "never", "new", "null", "number",
-                "object", "package", "private", "protected", "public", "readonly", "require",
-                "return", "set", "static", "string", "super", "switch", "symbol", "this",
-                "throw", "true", "try", "type", "typeof", "undefined", "unique", "unknown",
-                "var", "void", "while", "with", "yield"
-        };
-
-        for (String keyword : keywords) {
-            if (keyword.equals(name.toLowerCase())) {
-                return true;
-            }
+        if (!isAsciiSafe(name)) {
+            String lower = name.toLowerCase();
+            return lower.equals(KEYWORD_TABLE[keywordSlot(lower)]);
         }
 
-        return false;
+        // Hash dihitung atas huruf kecil tanpa membuat string baru
+        String keyword = KEYWORD_TABLE[keywordSlot(name)];
+        return keyword != null && keyword.equalsIgnoreCase(name);
     }
 
     /**
@@ -220,4 +267,116 @@ public class TypeScriptUtils {
         }
         return name;
     }
-}
\ No newline at end of file
+
+    /**
+     * Builder per thread yang dipakai ulang oleh konverter nama
+     */
+    private static StringBuilder builder() {
+        StringBuilder builder = BUILDER.get();
+        if (builder.capacity() > MAX_BUILDER_CAPACITY) {
+            builder = new StringBuilder(64);
+            BUILDER.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    /**
+     * Jalur cepat hanya untuk input ASCII di luar locale tr/az, karena
+     * String.toLowerCase()/toUpperCase() versi lama bergantung pada locale default
+     */
+    private static boolean isAsciiSafe(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        String language = Locale.getDefault().getLanguage();
+        return !"tr".equals(language) && !"az".equals(language);
+    }
+
+    /**
+     * Karakter yang dicocokkan \s atau '_' pada regex versi lama
+     */
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '_' || (c >= '\t' && c <= '\r');
+    }
+
+    private static boolean isAsciiUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static char toAsciiUpper(char c) {
+        return isAsciiLower(c) ? (char) (c - 32) : c;
+    }
+
+    private static char toAsciiLower(char c) {
+        return isAsciiUpper(c) ? (char) (c + 32) : c;
+    }
+
+    private static boolean containsAsciiLower(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (isAsciiLower(input.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int keywordSlot(String name) {
+        int hash = KEYWORD_SEED;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            hash = hash * 31 + (c < 0x80 ? toAsciiLower(c) : c);
+        }
+        hash ^= hash >>> 15;
+        hash *= 0x2c1b3c6d;
+        hash ^= hash >>> 12;
+        return hash & (KEYWORD_TABLE_SIZE - 1);
+    }
+
+    private static String[] buildKeywordTable() {
+        String[] table = new String[KEYWORD_TABLE_SIZE];
+        for (String keyword : KEYWORDS) {
+            int slot = keywordSlot(keyword);
+            if (table[slot] != null) {
+                throw new IllegalStateException("Tabel keyword tidak perfect: " + keyword + " bentrok dengan " + table[slot]);
+            }
+            table[slot] = keyword;
+        }
+        return table;
+    }
+
+    /**
+     * Implementasi berbasis regex untuk input non-ASCII atau locale tr/az
+     */
+    private static String legacyPascalCase(String input) {
+        if (Character.isUpperCase(input.charAt(0)) && !input.equals(input.toUpperCase())
+                && !input.equals(input.toLowerCase())) {
+            return Character.toUpperCase(input.charAt(0)) + input.substring(1);
+        }
+
+        String[] words = input.split("[\\s_-]+");
+        StringBuilder result = new StringBuilder();
+        for (String word : words) {
+            if (word.length() > 0) {
+                result.append(Character.toUpperCase(word.charAt(0)))
+                        .append(word.substring(1).toLowerCase());
+            }
+        }
+        return result.toString();
+    }
+
+    private static String legacyKebabCase(String input) {
+        String result = input.replaceAll("([a-z])([A-Z])", "$1-$2");
+        result = result.replaceAll("([A-Z]+)([A-Z][a-z])", "$1-$2");
+        result = result.replaceAll("[\\s_]+", "-");
+        result = result.toLowerCase();
+        result = result.replaceAll("-+", "-");
+        return result.replaceAll("^-+|-+$", "");
+    }
+}
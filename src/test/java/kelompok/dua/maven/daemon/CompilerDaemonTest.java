@@ -0,0 +1,68 @@
+package kelompok.dua.maven.daemon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Unit test untuk CompilerDaemon dan DaemonClient
+ */
+public class CompilerDaemonTest {
+
+  @Test
+  @DisplayName("Client meneruskan argumen ke daemon dan menerima output serta exit code")
+  void testForwardsRequestToDaemon(@TempDir Path tempDir) throws Exception {
+    String socket = tempDir.resolve("daemon.sock").toString();
+    CompilerDaemon daemon = CompilerDaemon.bind(socket, 2, (request, out, err) -> {
+      out.println("\u001b[32m" + String.join(",", request.arguments()) + "\u001b[0m");
+      err.println("cwd=" + request.workingDirectory());
+      return 7;
+    });
+    Thread server = new Thread(() -> {
+      try {
+        daemon.serve();
+      } catch (Exception e) {
+        // Ditutup di akhir test
+      }
+    });
+    server.start();
+
+    PrintStream originalOut = System.out;
+    PrintStream originalErr = System.err;
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+    int exitCode;
+    try {
+      System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+      System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+      exitCode = DaemonClient.forward(socket, new String[] { "model.json", "-o", "out" });
+    } finally {
+      System.setOut(originalOut);
+      System.setErr(originalErr);
+      daemon.close();
+      server.join(10_000);
+    }
+
+    assertEquals(7, exitCode);
+    // Output client bukan terminal sehingga kode warna dibuang
+    assertEquals("model.json,-o,out", out.toString(StandardCharsets.UTF_8).trim());
+    assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("cwd=" + Path.of("").toAbsolutePath()));
+    assertFalse(DaemonClient.isRunning(socket));
+  }
+
+  @Test
+  @DisplayName("Tanpa daemon, client mengembalikan NOT_HANDLED agar kompilasi berjalan di proses sendiri")
+  void testNotHandledWithoutDaemon(@TempDir Path tempDir) {
+    assertEquals(DaemonClient.NOT_HANDLED,
+        DaemonClient.forward(tempDir.resolve("missing.sock").toString(), new String[] { "model.json" }));
+    assertFalse(DaemonClient.isForwardable(new String[] { "-", "-o", "out" }));
+    assertFalse(DaemonClient.isForwardable(new String[] { "model.json", "--watch" }));
+    assertTrue(DaemonClient.isForwardable(new String[] { "model.json", "-o", "out" }));
+  }
+}
@@ -0,0 +1,158 @@
+package kelompok.dua.maven.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import kelompok.dua.maven.model.XtumlModel;
+import kelompok.dua.maven.parser.XtumlModelParser;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Unit test untuk ArchiveOutputSink
+ */
+public class ArchiveOutputSinkTest {
+
+  @Test
+  @DisplayName("Arsip zip di-stream sesuai urutan generate, isinya sama dengan generate in-memory dan identik antar run")
+  void testZipStreamsInGenerationOrder(@TempDir Path tempDir) throws Exception {
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    TypeScriptGenerator memory = new TypeScriptGenerator(model);
+    memory.setReproducible(true);
+    SortedMap<String, String> expected = memory.generateInMemory().getFiles();
+
+    Path first = generateArchive(model, tempDir.resolve("first.zip"), 4);
+    Path second = generateArchive(model, tempDir.resolve("second.zip"), 1);
+    assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    assertFalse(Files.exists(tempDir.resolve("first.zip.tmp")));
+    assertEquals(1, maxPending(model, tempDir.resolve("serial.zip")));
+
+    List<String> names = new ArrayList<>();
+    Map<String, String> files = new LinkedHashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(first))) {
+      for (ZipEntry entry; (entry = zip.getNextEntry()) != null;) {
+        names.add(entry.getName());
+        if (!entry.isDirectory()) {
+          files.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+      }
+    }
+    // Direktori, class sesuai urutan model, index domain, lalu index utama
+    assertEquals("manajemen-akademik/", names.get(0));
+    assertEquals("manajemen-akademik/index.ts", names.get(names.size() - 2));
+    assertEquals("index.ts", names.get(names.size() - 1));
+    assertEquals(expected, new TreeMap<>(files));
+  }
+
+  @Test
+  @DisplayName("Arsip tar memakai header ustar dengan prefix atau PAX untuk path panjang, dan discard tidak meninggalkan arsip")
+  void testTarLongPaths(@TempDir Path tempDir) throws Exception {
+    String nested = "domain/" + "a".repeat(120) + ".ts";
+    String tooLong = "b".repeat(200) + ".ts";
+    Path archive = tempDir.resolve("out.tar");
+    try (ArchiveOutputSink sink = new ArchiveOutputSink(archive, ArchiveOutputSink.Format.TAR, 0)) {
+      sink.write(tooLong, "long");
+      sink.write(nested, "nested");
+      sink.write("index.ts", "index");
+      sink.createDirectory("domain");
+    }
+
+    Map<String, String> entries = readTar(archive);
+    assertEquals(List.of(tooLong, "domain/", nested, "index.ts"), List.copyOf(entries.keySet()));
+    assertEquals("nested", entries.get(nested));
+    assertEquals("long", entries.get(tooLong));
+    assertEquals(0, Files.size(archive) % 10240);
+
+    Path failed = tempDir.resolve("failed.tar.gz");
+    ArchiveOutputSink sink = new ArchiveOutputSink(failed, ArchiveOutputSink.Format.TAR_GZ, 0);
+    sink.write("index.ts", "index");
+    sink.discard();
+    assertFalse(Files.exists(failed));
+    assertFalse(Files.exists(tempDir.resolve("failed.tar.gz.tmp")));
+  }
+
+  /**
+   * Generate serial: setiap file langsung ditulis, hanya direktori yang menunggu plan
+   */
+  private static int maxPending(XtumlModel model, Path archive) throws Exception {
+    TypeScriptGenerator generator = new TypeScriptGenerator(model);
+    generator.setThreads(1);
+    ArchiveOutputSink sink = new ArchiveOutputSink(archive, ArchiveOutputSink.Format.ZIP,
+        ArchiveOutputSink.DEFAULT_TIMESTAMP);
+    generator.generate(sink);
+    sink.close();
+    return sink.getMaxPendingEntries();
+  }
+
+  private static Path generateArchive(XtumlModel model, Path archive, int threads) throws Exception {
+    TypeScriptGenerator generator = new TypeScriptGenerator(model);
+    generator.setReproducible(true);
+    generator.setThreads(threads);
+    ArchiveOutputSink sink = new ArchiveOutputSink(archive, ArchiveOutputSink.Format.ZIP,
+        ArchiveOutputSink.DEFAULT_TIMESTAMP);
+    GenerationResult result = generator.generate(sink);
+    sink.close();
+    assertEquals(result.getFileCount() + model.getDomains().size(), sink.getEntryCount());
+    assertEquals(Files.size(archive), sink.getArchiveBytes());
+    return archive;
+  }
+
+  /**
+   * Pembaca tar minimal untuk memeriksa header: name, prefix, dan record PAX "path"
+   */
+  private static Map<String, String> readTar(Path archive) throws Exception {
+    Map<String, String> entries = new LinkedHashMap<>();
+    try (InputStream in = Files.newInputStream(archive)) {
+      String paxPath = null;
+      while (true) {
+        byte[] header = in.readNBytes(512);
+        if (header.length < 512 || header[0] == 0) {
+          return entries;
+        }
+        int checksum = 0;
+        for (int i = 0; i < 512; i++) {
+          checksum += i >= 148 && i < 156 ? ' ' : header[i] & 0xff;
+        }
+        assertEquals(checksum, Integer.parseInt(field(header, 148, 7), 8));
+        assertEquals("ustar", field(header, 257, 6));
+
+        int size = Integer.parseInt(field(header, 124, 12), 8);
+        byte[] data = in.readNBytes(size);
+        in.skipNBytes((512 - size % 512) % 512);
+        String prefix = field(header, 345, 155);
+        String name = prefix.isEmpty() ? field(header, 0, 100) : prefix + "/" + field(header, 0, 100);
+        if (header[156] == 'x') {
+          String record = new String(data, StandardCharsets.UTF_8);
+          assertEquals(data.length, Integer.parseInt(record.substring(0, record.indexOf(' '))));
+          paxPath = record.substring(record.indexOf("path=") + 5, record.length() - 1);
+          continue;
+        }
+        entries.put(paxPath != null ? paxPath : name, new String(data, StandardCharsets.UTF_8));
+        paxPath = null;
+      }
+    }
+  }
+
+  private static String field(byte[] header, int offset, int length) {
+    byte[] bytes = Arrays.copyOfRange(header, offset, offset + length);
+    int end = 0;
+    while (end < bytes.length && bytes[end] != 0) {
+      end++;
+    }
+    return new String(bytes, 0, end, StandardCharsets.UTF_8).trim();
+  }
+}
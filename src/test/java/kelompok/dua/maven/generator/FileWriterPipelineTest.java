@@ -0,0 +1,71 @@
+package kelompok.dua.maven.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Unit test untuk FileWriterPipeline
+ */
+public class FileWriterPipelineTest {
+
+  @Test
+  @DisplayName("Semua file tertulis saat close walaupun antrean kecil, dan metrik tercatat")
+  void testWritesAllFilesWithBoundedQueue(@TempDir Path tempDir) throws Exception {
+    FileWriterPipeline pipeline = new FileWriterPipeline(2, 1);
+    for (int i = 0; i < 200; i++) {
+      pipeline.submit(tempDir.resolve("file" + i + ".ts"), "export const n = " + i + ";\n");
+    }
+    pipeline.close();
+
+    for (int i = 0; i < 200; i++) {
+      assertEquals("export const n = " + i + ";\n", Files.readString(tempDir.resolve("file" + i + ".ts")));
+    }
+    FileWriterPipeline.Metrics metrics = pipeline.getMetrics();
+    assertEquals(200, metrics.getFiles());
+    assertTrue(metrics.getBytes() > 0);
+    assertEquals(1, metrics.getCapacity());
+    assertTrue(metrics.getMaxQueueDepth() <= 1);
+    assertEquals(2, metrics.getWriterThreads());
+    assertTrue(metrics.getWriterUtilization() >= 0 && metrics.getWriterUtilization() <= 1);
+    assertThrows(IllegalStateException.class, () -> pipeline.submit(tempDir.resolve("late.ts"), ""));
+  }
+
+  @Test
+  @DisplayName("Mode skipUnchanged tidak menulis ulang file yang isinya sama")
+  void testSkipsUnchangedFiles(@TempDir Path tempDir) throws Exception {
+    Path same = tempDir.resolve("same.ts");
+    Path changed = tempDir.resolve("changed.ts");
+    Files.writeString(same, "export {};\n");
+    Files.writeString(changed, "export {};\n");
+    FileTime oldTime = FileTime.fromMillis(1_000_000_000L);
+    Files.setLastModifiedTime(same, oldTime);
+
+    FileWriterPipeline pipeline = new FileWriterPipeline(1, 4, true);
+    pipeline.submit(same, "export {};\n");
+    pipeline.submit(changed, "export const x = 1;\n");
+    pipeline.submit(tempDir.resolve("new.ts"), "export {};\n");
+    pipeline.close();
+
+    assertEquals(oldTime, Files.getLastModifiedTime(same));
+    assertEquals("export const x = 1;\n", Files.readString(changed));
+    assertTrue(Files.exists(tempDir.resolve("new.ts")));
+    assertEquals(2, pipeline.getMetrics().getFiles());
+    assertEquals(1, pipeline.getMetrics().getSkipped());
+  }
+
+  @Test
+  @DisplayName("Kegagalan tulis dilempar ke pemanggil saat close")
+  void testPropagatesWriteFailure(@TempDir Path tempDir) throws Exception {
+    FileWriterPipeline pipeline = new FileWriterPipeline(1, 4);
+    pipeline.submit(tempDir.resolve("tidak-ada").resolve("a.ts"), "x");
+    assertThrows(IOException.class, pipeline::close);
+    assertEquals(0, pipeline.getMetrics().getFiles());
+  }
+}
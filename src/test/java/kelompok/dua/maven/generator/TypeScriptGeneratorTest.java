@@ -0,0 +1,295 @@
+package kelompok.dua.maven.generator;
+
+import kelompok.dua.maven.model.Attribute;
+import kelompok.dua.maven.model.ClassDefinition;
+import kelompok.dua.maven.model.Domain;
+import kelompok.dua.maven.model.XtumlModel;
+import kelompok.dua.maven.parser.XtumlModelParser;
+import kelompok.dua.maven.util.HeaderGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit test untuk TypeScriptGenerator
+ */
+public class TypeScriptGeneratorTest {
+
+  @Test
+  @DisplayName("Generate paralel menghasilkan file dan diagnostik yang identik dengan generate serial")
+  void testParallelMatchesSerial(@TempDir Path tempDir) throws Exception {
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+
+    TypeScriptGenerator serial = new TypeScriptGenerator(model, tempDir.resolve("serial"));
+    serial.generateAll();
+    TypeScriptGenerator parallel = new TypeScriptGenerator(model, tempDir.resolve("parallel"));
+    parallel.setThreads(4);
+    parallel.generateAll();
+
+    List<Path> files = listFiles(tempDir.resolve("serial"));
+    assertFalse(files.isEmpty());
+    assertEquals(files, listFiles(tempDir.resolve("parallel")));
+    for (Path file : files) {
+      assertEquals(Files.readString(tempDir.resolve("serial").resolve(file)),
+          Files.readString(tempDir.resolve("parallel").resolve(file)), file.toString());
+    }
+    assertEquals(serial.getDiagnostics().toString(), parallel.getDiagnostics().toString());
+    assertThrows(IllegalArgumentException.class, () -> parallel.setThreads(0));
+  }
+
+  @Test
+  @DisplayName("Mode skipUnchanged menghapus file lama setelah generate dan menyisakan pohon yang sama")
+  void testSkipUnchangedDeletesStaleFiles(@TempDir Path tempDir) throws Exception {
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    new TypeScriptGenerator(model, tempDir.resolve("expected")).generateAll();
+
+    Path output = tempDir.resolve("output");
+    Files.createDirectories(output.resolve("domain-lama"));
+    Files.writeString(output.resolve("domain-lama").resolve("kelas-lama.ts"), "export {};\n");
+    Files.writeString(output.resolve("catatan.txt"), "lama");
+
+    TypeScriptGenerator generator = new TypeScriptGenerator(model, output);
+    generator.setSkipUnchanged(true);
+    generator.generateAll();
+
+    assertEquals(2, generator.getDeletedFiles());
+    assertFalse(Files.exists(output.resolve("domain-lama")));
+    assertEquals(listFiles(tempDir.resolve("expected")), listFiles(output));
+    FileWriterPipeline.Metrics metrics = generator.getWriterMetrics();
+    assertEquals(listFiles(output).size(), metrics.getFiles() + metrics.getSkipped());
+  }
+
+  @Test
+  @DisplayName("Mode reproducible menghasilkan pohon output identik byte per byte untuk model yang sama")
+  void testReproducibleOutputIsByteIdentical(@TempDir Path tempDir) throws Exception {
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    XtumlModel sameModel = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+
+    TypeScriptGenerator first = new TypeScriptGenerator(model, tempDir.resolve("first"));
+    first.setReproducible(true);
+    first.generateAll();
+    TypeScriptGenerator second = new TypeScriptGenerator(sameModel, tempDir.resolve("second"));
+    second.setReproducible(true);
+    second.setThreads(4);
+    second.generateAll();
+
+    List<Path> files = listFiles(tempDir.resolve("first"));
+    assertEquals(files, listFiles(tempDir.resolve("second")));
+    for (Path file : files) {
+      byte[] content = Files.readAllBytes(tempDir.resolve("first").resolve(file));
+      assertArrayEquals(content, Files.readAllBytes(tempDir.resolve("second").resolve(file)), file.toString());
+      assertFalse(new String(content, StandardCharsets.UTF_8).contains("v1.1.0 on "), file.toString());
+    }
+
+    // Generate ulang ke direktori yang sama tidak mengubah file apa pun
+    second.setSkipUnchanged(true);
+    second.generateAll();
+    assertEquals(0, second.getWriterMetrics().getFiles());
+    assertEquals(files.size(), second.getWriterMetrics().getSkipped());
+  }
+
+  @Test
+  @DisplayName("SOURCE_DATE_EPOCH menjadi timestamp tetap (UTC) di header")
+  void testSourceDateEpochTimestamp(@TempDir Path tempDir) throws Exception {
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    TypeScriptGenerator generator = new TypeScriptGenerator(model, tempDir);
+    generator.setReproducible(true);
+    generator.setSourceDateEpoch(HeaderGenerator.parseSourceDateEpoch("1700000000"));
+    generator.generateAll();
+
+    assertTrue(Files.readString(tempDir.resolve("index.ts")).contains("v1.1.0 on 2023-11-14 22:13:20"));
+    assertNull(HeaderGenerator.parseSourceDateEpoch(" "));
+    assertThrows(IllegalArgumentException.class, () -> HeaderGenerator.parseSourceDateEpoch("kemarin"));
+    assertThrows(IllegalArgumentException.class, () -> HeaderGenerator.parseSourceDateEpoch("-1"));
+  }
+
+  @Test
+  @DisplayName("Build incremental pertama tanpa manifest menghapus file lama yang tidak dihasilkan")
+  void testFirstIncrementalBuildRemovesStaleFiles(@TempDir Path tempDir) throws Exception {
+    Path output = tempDir.resolve("output");
+    Files.createDirectories(output.resolve("old"));
+    Files.writeString(output.resolve("old").resolve("stale.ts"), "export {};\n");
+    Files.writeString(output.resolve("stale.ts"), "export {};\n");
+
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    TypeScriptGenerator first = new TypeScriptGenerator(model, output);
+    first.setIncremental(true);
+    first.generateAll();
+    assertEquals(2, first.getDeletedFiles());
+    assertFalse(Files.exists(output.resolve("old")));
+    assertFalse(Files.exists(output.resolve("stale.ts")));
+    assertTrue(Files.exists(output.resolve(BuildManifest.FILE_NAME)));
+
+    // Manifest dengan pengaturan berbeda tidak berlaku, jadi output juga dibersihkan
+    Files.writeString(output.resolve("stale.ts"), "export {};\n");
+    TypeScriptGenerator second = new TypeScriptGenerator(model, output);
+    second.setReproducible(true);
+    second.setIncremental(true);
+    second.generateAll();
+    assertEquals(0, second.getReusedFiles());
+    assertEquals(1, second.getDeletedFiles());
+    assertFalse(Files.exists(output.resolve("stale.ts")));
+    assertTrue(Files.exists(output.resolve("index.ts")));
+  }
+
+  @Test
+  @DisplayName("Mode incremental hanya generate ulang class yang berubah beserta turunannya dan menghapus file yatim")
+  void testIncrementalRegeneratesOnlyAffectedFiles(@TempDir Path tempDir) throws Exception {
+    Path output = tempDir.resolve("output");
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    TypeScriptGenerator first = new TypeScriptGenerator(model, output);
+    first.setReproducible(true);
+    first.setIncremental(true);
+    first.generateAll();
+    assertTrue(Files.exists(output.resolve(BuildManifest.FILE_NAME)));
+    assertEquals(0, first.getReusedFiles());
+
+    // Tambah attribute di Person (parent Mahasiswa dan Dosen) dan hapus MataKuliah
+    XtumlModel changed = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    Domain domain = changed.getDomains().get(0);
+    ClassDefinition person = domain.getClasses().stream().filter(c -> c.getName().equals("Person")).findFirst().get();
+    List<Attribute> attributes = new ArrayList<>(person.getAttributes());
+    attributes.add(new Attribute("NomorTelepon", "string", "descriptive"));
+    person.setAttributes(attributes);
+    domain.setClasses(domain.getClasses().stream().filter(c -> !c.getName().equals("MataKuliah")).toList());
+
+    TypeScriptGenerator second = new TypeScriptGenerator(changed, output);
+    second.setReproducible(true);
+    second.setIncremental(true);
+    second.generateAll();
+
+    // Person, Mahasiswa, Dosen, index domain, dan index utama; KRS dan JadwalAjar dipakai ulang
+    assertEquals(5, second.getWriterMetrics().getFiles());
+    assertEquals(2, second.getReusedFiles());
+    assertEquals(1, second.getDeletedFiles());
+    assertFalse(Files.exists(output.resolve("manajemen-akademik").resolve("mata-kuliah.ts")));
+
+    BuildManifest manifest = BuildManifest.read(output);
+    assertEquals(List.of("class:Manajemen Akademik/Person"),
+        manifest.getEntry("manajemen-akademik/mahasiswa.ts").getDependencies());
+    assertEquals(List.of("relationship:Manajemen Akademik/R1"),
+        manifest.getEntry("manajemen-akademik/krs.ts").getDependencies());
+    assertTrue(manifest.getEntry("manajemen-akademik/index.ts").getDependencies()
+        .contains("manajemen-akademik/mahasiswa.ts"));
+    assertEquals(List.of("manajemen-akademik/index.ts"), manifest.getEntry("index.ts").getDependencies());
+    assertNull(manifest.getEntry("manajemen-akademik/mata-kuliah.ts"));
+
+    TypeScriptGenerator full = new TypeScriptGenerator(changed, tempDir.resolve("full"));
+    full.setReproducible(true);
+    full.generateAll();
+    List<Path> files = listFiles(tempDir.resolve("full"));
+    assertEquals(files, listFiles(output).stream().filter(p -> !p.endsWith(BuildManifest.FILE_NAME)).toList());
+    for (Path file : files) {
+      assertEquals(Files.readString(tempDir.resolve("full").resolve(file)), Files.readString(output.resolve(file)));
+    }
+  }
+
+  @Test
+  @DisplayName("Generate in-memory menghasilkan isi dan statistik yang sama dengan output di disk")
+  void testGenerateInMemoryMatchesDisk(@TempDir Path tempDir) throws Exception {
+    XtumlModel model = new XtumlModelParser().parseFromFile(Path.of("xtuml-model.json"));
+    TypeScriptGenerator disk = new TypeScriptGenerator(model, tempDir);
+    disk.setReproducible(true);
+    GenerationResult diskResult = disk.generateAll();
+
+    TypeScriptGenerator memory = new TypeScriptGenerator(model);
+    memory.setReproducible(true);
+    memory.setThreads(4);
+    GenerationResult result = memory.generateInMemory();
+
+    List<Path> files = listFiles(tempDir);
+    assertEquals(files.stream().map(p -> p.toString().replace('\\', '/')).toList(),
+        List.copyOf(result.getFiles().keySet()));
+    long bytes = 0;
+    for (Path file : files) {
+      String content = Files.readString(tempDir.resolve(file));
+      assertEquals(content, result.getFile(file.toString().replace('\\', '/')));
+      bytes += content.getBytes(StandardCharsets.UTF_8).length;
+    }
+    assertEquals(files.size(), result.getFileCount());
+    assertEquals(bytes, result.getBytes());
+    assertEquals(diskResult.getFileCount(), result.getFileCount());
+    assertEquals(diskResult.getClassCount(), result.getClassCount());
+    assertTrue(result.getStateMachineCount() > 0);
+    assertTrue(diskResult.getFiles().isEmpty());
+    assertEquals(List.of("classes", "indexes"), List.copyOf(result.getPhaseTimings().keySet()));
+    assertEquals(List.of("classes", "indexes", "output", "cleanup"), List.copyOf(diskResult.getPhaseTimings().keySet()));
+  }
+
+  @Test
+  @DisplayName("Diagnostic tidak menumpuk saat generator yang sama dijalankan berulang")
+  void testDiagnosticsResetBetweenRuns() throws Exception {
+    String json = Files.readString(Path.of("xtuml-model.json"))
+        .replace("Mahasiswa ${self.NIM} mengajukan", "Mahasiswa ${self.TidakAda} mengajukan");
+    XtumlModel model = new XtumlModelParser().parseFromString(json);
+    TypeScriptGenerator generator = new TypeScriptGenerator(model);
+
+    GenerationResult first = generator.generateInMemory();
+    assertEquals(1, first.getDiagnostics().size());
+    assertTrue(first.getDiagnostics().get(0).toString().contains("self.TidakAda"));
+    GenerationResult second = generator.generateInMemory();
+    assertEquals(first.getDiagnostics().size(), second.getDiagnostics().size());
+    assertEquals(1, generator.getDiagnostics().size());
+  }
+
+  @Test
+  @DisplayName("Event yang berlaku dari beberapa state menjadi satu method dengan satu cabang per state")
+  void testStateMachineMethodsPerEvent() throws Exception {
+    String json = """
+        {
+          "system_name": "Perizinan",
+          "version": "1.0.0",
+          "domains": [
+            {
+              "name": "Akademik",
+              "key_letter": "AK",
+              "classes": [
+                { "name": "Pengajuan", "key_letter": "PG",
+                  "state_machine": {
+                    "initial_state": "Draft",
+                    "states": [ { "name": "Draft" }, { "name": "Diajukan" }, { "name": "Revisi" }, { "name": "Disetujui" } ],
+                    "transitions": [
+                      { "from_state": "Draft", "to_state": "Diajukan", "event": "ajukan" },
+                      { "from_state": "Diajukan", "to_state": "Revisi", "event": "tolak" },
+                      { "from_state": "Revisi", "to_state": "Diajukan", "event": "ajukan" },
+                      { "from_state": "Diajukan", "to_state": "Disetujui", "event": "setujui" }
+                    ]
+                  } }
+              ]
+            }
+          ]
+        }
+        """;
+    XtumlModel model = new XtumlModelParser().parseFromString(json);
+    String content = new TypeScriptGenerator(model).generateInMemory().getFiles().get("akademik/pengajuan.ts");
+
+    assertTrue(content.contains("  public ajukan(): boolean {\n"
+        + "    if (this.state === 'Draft') {\n"
+        + "      this.state = 'Diajukan';\n"
+        + "      return true;\n"
+        + "    }\n"
+        + "    if (this.state === 'Revisi') {\n"
+        + "      this.state = 'Diajukan';\n"
+        + "      return true;\n"
+        + "    }\n"
+        + "    return false;\n"
+        + "  }\n"), content);
+    assertEquals(1, content.split("public ajukan\\(", -1).length - 1);
+    assertTrue(content.indexOf("public ajukan(") < content.indexOf("public tolak(")
+        && content.indexOf("public tolak(") < content.indexOf("public setujui("));
+  }
+
+  private static List<Path> listFiles(Path root) throws Exception {
+    try (Stream<Path> paths = Files.walk(root)) {
+      return paths.filter(Files::isRegularFile).map(root::relativize).sorted().toList();
+    }
+  }
+}
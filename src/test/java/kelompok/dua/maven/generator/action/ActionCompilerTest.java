@@ -0,0 +1,113 @@
+package kelompok.dua.maven.generator.action;
+
+import kelompok.dua.maven.model.ActionStep;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit test untuk ActionCompiler dan pass optimasinya
+ */
+public class ActionCompilerTest {
+  private static final TemplateInterpolator TEMPLATES = new TemplateInterpolator(Map.of("Nama", "nama", "IPK", "ipk"));
+
+  private static final ActionContext CONTEXT = new ActionContext() {
+    @Override
+    public String propertyName(String attribute) {
+      return attribute.toLowerCase();
+    }
+
+    @Override
+    public String attributeType(String attribute) {
+      return Map.of("Nama", "string", "NIM", "string", "IPK", "number", "Aktif", "boolean").get(attribute);
+    }
+
+    @Override
+    public boolean hasStateMachine() {
+      return true;
+    }
+
+    @Override
+    public List<TemplatePart> interpolate(String message) {
+      return TEMPLATES.parse(message, Map.of(), reference -> { });
+    }
+  };
+
+  @Test
+  @DisplayName("Pass optimasi melipat konstanta dan menghapus store mati serta update duplikat")
+  void testOptimizationPasses() {
+    ActionCompiler compiler = new ActionCompiler();
+    List<ActionNode> nodes = compiler.compile(List.of(
+        update("Nama", "Budi"),
+        log("Halo ${self.Nama}"),
+        update("Nama", "Budi"),
+        update("IPK", "3.50"),
+        update("IPK", "007"),
+        update("Status", "Cuti"),
+        update("Alamat", "Jl. Merdeka"),
+        new ActionStep("hapus", "this", null, null, null)), CONTEXT);
+
+    assertTrue(ActionCompiler.assignsState(nodes));
+    StringBuilder content = new StringBuilder();
+    new TypeScriptActionEmitter("  ").emit(compiler.optimize(nodes), content);
+
+    assertEquals("  this.nama = 'Budi';\n"
+        + "  console.log('Halo Budi');\n"
+        + "  this.ipk = 7;\n"
+        + "  this.state = 'Cuti';\n"
+        + "  // Update Alamat to Jl. Merdeka\n"
+        + "  // this.alamat = 'Jl. Merdeka';\n"
+        + "  // Action type 'hapus' not implemented\n", content.toString());
+  }
+
+  @Test
+  @DisplayName("Nilai angka untuk attribute string dan state tetap literal string apa adanya")
+  void testStringValuesKeepLeadingZeros() {
+    ActionCompiler compiler = new ActionCompiler();
+    List<ActionNode> nodes = compiler.compile(List.of(
+        update("NIM", "007"),
+        log("NIM ${self.NIM}"),
+        update("Nama", "true"),
+        update("Aktif", "true"),
+        update("IPK", "04.0"),
+        update("Status", "2")), CONTEXT);
+
+    StringBuilder content = new StringBuilder();
+    new TypeScriptActionEmitter("").emit(compiler.optimize(nodes), content);
+    assertEquals("this.nim = '007';\n"
+        + "console.log('NIM 007');\n"
+        + "this.nama = 'true';\n"
+        + "this.aktif = true;\n"
+        + "this.ipk = 4;\n"
+        + "this.state = '2';\n", content.toString());
+  }
+
+  @Test
+  @DisplayName("Tipe step baru didaftarkan lewat handler dan menjadi batas optimasi")
+  void testCustomHandler() {
+    ActionCompiler compiler = new ActionCompiler()
+        .register("emit", (step, context) -> new RawCodeNode(List.of("this.events.push('" + step.getValue() + "');")));
+    List<ActionNode> nodes = new ArrayList<>(compiler.compile(List.of(
+        update("Nama", "A"),
+        new ActionStep("emit", "this", null, "diubah", null),
+        update("Nama", "B")), CONTEXT));
+    nodes.add(AssignNode.state("Aktif"));
+
+    StringBuilder content = new StringBuilder();
+    new TypeScriptActionEmitter("").emit(compiler.optimize(nodes), content);
+    assertEquals("this.nama = 'A';\nthis.events.push('diubah');\nthis.nama = 'B';\nthis.state = 'Aktif';\n",
+        content.toString());
+  }
+
+  private static ActionStep update(String attribute, String value) {
+    return new ActionStep("update", "this", attribute, value, null);
+  }
+
+  private static ActionStep log(String message) {
+    return new ActionStep("log", null, null, null, message);
+  }
+}
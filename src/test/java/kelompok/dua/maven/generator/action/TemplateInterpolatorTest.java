@@ -0,0 +1,34 @@
+package kelompok.dua.maven.generator.action;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit test untuk TemplateInterpolator
+ */
+public class TemplateInterpolatorTest {
+
+  @Test
+  @DisplayName("Referensi self dan parameter di-resolve, referensi tak dikenal dilaporkan")
+  void testInterpolate() {
+    TemplateInterpolator interpolator = new TemplateInterpolator(Map.of("Nama", "nama", "NamaLengkap", "namaLengkap"));
+    Map<String, String> parameters = Map.of("TanggalLulus", "tanggallulus");
+    List<String> unresolved = new ArrayList<>();
+
+    assertEquals("`${this.namaLengkap} lulus ${tanggallulus}, NIM ${this.nim}`",
+        interpolator.interpolate("${self.NamaLengkap} lulus ${TanggalLulus}, NIM ${self.NIM}", parameters, unresolved::add));
+    assertEquals("'this.nama berubah, myself.Nama tetap'",
+        interpolator.interpolate("self.Nama berubah, myself.Nama tetap", parameters, unresolved::add));
+    assertTrue(unresolved.isEmpty());
+
+    assertEquals("`${self.Umur} ${x} ${this.nama + 1}`",
+        interpolator.interpolate("${self.Umur} ${x} ${self.Nama + 1}", parameters, unresolved::add));
+    assertEquals(List.of("self.Umur", "x"), unresolved);
+    assertEquals("''", interpolator.interpolate(null, parameters, unresolved::add));
+  }
+}
@@ -0,0 +1,56 @@
+package kelompok.dua.maven.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit test untuk CompiledStateMachine
+ */
+public class CompiledStateMachineTest {
+
+  @Test
+  @DisplayName("Tabel transition mendeteksi state tak tercapai, dead-end, dan event nondeterministik")
+  void testAnalysis() {
+    StateMachine stateMachine = new StateMachine("Aktif",
+        List.of(new State("Aktif"), new State("Cuti"), new State("Lulus"), new State("Arsip"), new State("Cuti")),
+        List.of(
+            new Transition("Aktif", "Cuti", "ajukanCuti", null),
+            new Transition("Cuti", "Aktif", "aktifKembali", null),
+            new Transition("Aktif", "Lulus", "lulus", null),
+            new Transition("Aktif", "Arsip", "ajukanCuti", null),
+            new Transition("Lulus", "Lulus", "lulus", null),
+            new Transition("Lulus", "Lulus", "lulus", null),
+            new Transition("Arsip", "Hilang", "hapus", null)));
+
+    CompiledStateMachine compiled = CompiledStateMachine.compile(stateMachine);
+
+    assertEquals(List.of("Aktif", "Cuti", "Lulus", "Arsip"), compiled.getStateNames());
+    assertEquals(List.of("Cuti"), compiled.getDuplicateStates());
+    assertEquals(4, compiled.getEventCount());
+    assertEquals(CompiledStateMachine.NONE, compiled.getToState(6));
+    assertEquals(0, compiled.findTransition(compiled.getStateId("Aktif"), compiled.getEventId("ajukanCuti")));
+    assertEquals(CompiledStateMachine.NONE, compiled.findTransition(compiled.getStateId("Cuti"), compiled.getEventId("lulus")));
+
+    // Arsip tercapai lewat transition nondeterministik, tidak ada state yang terputus
+    assertTrue(compiled.getUnreachableStates().isEmpty());
+    assertEquals(List.of(), compiled.getDeadEndStates());
+
+    List<CompiledStateMachine.Conflict> conflicts = compiled.getConflicts();
+    assertEquals(2, conflicts.size());
+    assertEquals("ajukanCuti", conflicts.get(0).getEventName());
+    assertTrue(conflicts.get(0).isNondeterministic());
+    assertEquals("Lulus", conflicts.get(1).getStateName());
+    assertFalse(conflicts.get(1).isNondeterministic());
+
+    // Tanpa transition keluar dari Lulus dan tanpa jalur ke Arsip
+    List<Transition> linear = new ArrayList<>(stateMachine.getTransitions().subList(0, 3));
+    CompiledStateMachine simple = CompiledStateMachine.compile(new StateMachine("Aktif", stateMachine.getStates(), linear));
+    assertEquals(List.of("Arsip"), simple.getUnreachableStates());
+    assertEquals(List.of("Lulus", "Arsip"), simple.getDeadEndStates());
+    assertTrue(simple.getConflicts().isEmpty());
+  }
+}
@@ -0,0 +1,73 @@
+package kelompok.dua.maven.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit test untuk ModelIndex
+ */
+public class ModelIndexTest {
+
+  @Test
+  @DisplayName("Indeks membedakan class bernama sama di domain berbeda dan mengindeks association class")
+  void testLookupsAcrossDomains() {
+    ClassDefinition basePerson = classDef("Person", null, "Nama");
+    ClassDefinition hrPerson = classDef("Person", null, "NIP");
+    ClassDefinition employee = classDef("Employee", "Person", "Gaji");
+    Relationship relationship = new Relationship("R1", "", List.of(new Participant("Employee", "bekerja", "1")));
+    relationship.setAssociationClass(new AssociationClass("Kontrak", "KTR",
+        List.of(new Attribute("Mulai", "date", "descriptive", null))));
+
+    Domain base = new Domain("Base", "B", List.of(basePerson), null);
+    Domain hr = new Domain("HR", "H", List.of(hrPerson, employee), List.of(relationship));
+    ModelIndex index = ModelIndex.build(new XtumlModel("Index", "1.0.0", List.of(base, hr)));
+
+    assertSame(base, index.getDomain(basePerson));
+    assertSame(hr, index.getDomain(employee));
+    assertSame(hrPerson, index.getClass("HR", "Person"));
+    assertSame(basePerson, index.getClass("Person"));
+
+    // Parent di domain sendiri didahulukan
+    assertSame(hrPerson, index.getParent(employee));
+    assertNotNull(index.getAttribute(employee, "Gaji"));
+    assertNull(index.getAttribute(employee, "NIP"));
+
+    ClassDefinition kontrak = index.getAssociationClass(relationship);
+    assertEquals("Kontrak", kontrak.getName());
+    assertSame(hr, index.getDomain(kontrak));
+    assertNotNull(index.getAttribute(kontrak, "Mulai"));
+    assertEquals(4, index.getClassCount());
+  }
+
+  @Test
+  @DisplayName("Inheritance multi-level diratakan dalam urutan topologis dan siklus terdeteksi")
+  void testResolvedInheritance() {
+    ClassDefinition person = classDef("Person", null, "ID");
+    ClassDefinition student = classDef("Student", "Person", "NIM");
+    ClassDefinition assistant = classDef("Assistant", "Student", "Kode");
+    Domain domain = new Domain("Akademik", "AK", List.of(assistant, student, person), null);
+    ModelIndex index = ModelIndex.build(new XtumlModel("Index", "1.0.0", List.of(domain)));
+
+    ResolvedClass resolved = index.getResolved(assistant);
+    assertEquals(List.of(person, student), resolved.getAncestors());
+    assertEquals(List.of("ID", "NIM"), resolved.getInheritedNamingAttributes().stream().map(Attribute::getName).toList());
+    assertEquals(List.of("ID", "NIM", "Kode"), resolved.getNamingAttributes().stream().map(Attribute::getName).toList());
+    assertNotNull(resolved.getAttribute("ID"));
+    assertEquals(List.of(person, student, assistant), index.getTopologicalOrder());
+
+    person.setInheritsFrom("Assistant");
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> ModelIndex.build(new XtumlModel("Index", "1.0.0", List.of(domain))));
+    assertTrue(exception.getMessage().contains("Siklus inheritance"));
+  }
+
+  private static ClassDefinition classDef(String name, String parent, String attribute) {
+    ClassDefinition classDef = new ClassDefinition("class", name, name.substring(0, 1));
+    classDef.setInheritsFrom(parent);
+    classDef.setAttributes(List.of(new Attribute(attribute, "string", "naming", null)));
+    return classDef;
+  }
+}
@@ -0,0 +1,52 @@
+package kelompok.dua.maven.parser;
+
+import kelompok.dua.maven.model.Attribute;
+import kelompok.dua.maven.model.ClassDefinition;
+import kelompok.dua.maven.model.XtumlModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit test untuk ModelCompactor
+ */
+public class ModelCompactorTest {
+
+  @Test
+  @DisplayName("Pemadatan men-dedup string dan mengganti list dengan list immutable")
+  void testCompactLargeSyntheticModel() throws Exception {
+    StringBuilder json = new StringBuilder("""
+        { "system_name": "Large", "version": "1.0.0", "domains": [ { "name": "D", "key_letter": "D", "classes": [
+        """);
+    for (int c = 0; c < 2000; c++) {
+      json.append(c > 0 ? "," : "").append("{ \"name\": \"C").append(c).append("\", \"key_letter\": \"K").append(c)
+          .append("\", \"attributes\": [");
+      for (int a = 0; a < 5; a++) {
+        json.append(a > 0 ? "," : "").append("{ \"name\": \"attr").append(a)
+            .append("\", \"data_type\": \"string\", \"attribute_type\": \"descriptive\" }");
+      }
+      json.append("] }");
+    }
+    json.append("] } ] }");
+
+    XtumlModel model = new XtumlModelParser().parseFromString(json.toString());
+    ModelCompactor compactor = new ModelCompactor();
+    compactor.compact(model);
+
+    List<ClassDefinition> classes = model.getDomains().get(0).getClasses();
+    Attribute first = classes.get(0).getAttributes().get(0);
+    Attribute last = classes.get(1999).getAttributes().get(4);
+    assertSame(first.getDataType(), last.getDataType());
+    assertSame(first.getAttributeType(), last.getAttributeType());
+
+    // Collection yang tidak ada berbagi satu instance kosong
+    assertSame(List.of(), model.getDomains().get(0).getRelationships());
+    assertThrows(UnsupportedOperationException.class, () -> classes.add(new ClassDefinition()));
+
+    // 2000 class x 5 attribute x (name, data_type, attribute_type), dikurangi instance pertama masing-masing
+    assertTrue(compactor.getDuplicateStringCount() >= 2000 * 5 * 3 - 7, "dedup: " + compactor.getDuplicateStringCount());
+    assertTrue(compactor.getEstimatedBytesSaved() > 1_000_000, "saved: " + compactor.getEstimatedBytesSaved());
+  }
+}
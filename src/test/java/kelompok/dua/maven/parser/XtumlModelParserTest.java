@@ -4,10 +4,17 @@ import kelompok.dua.maven.model.XtumlModel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Test class untuk XtumlModelParser
@@ -112,4 +119,141 @@ class XtumlModelParserTest {
     assertTrue(exception.getMessage().contains("JSON content tidak boleh null atau kosong"));
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("Parse model dari beberapa file domain dan resolve inheritance antar file")
+  void testParseMultipleFiles(@TempDir Path tempDir) throws Exception {
+    Files.writeString(tempDir.resolve("a-header.json"), """
+        { "system_name": "MultiSystem", "version": "2.0.0", "domains": [] }
+        """);
+    Files.writeString(tempDir.resolve("b-base.json"), """
+        { "name": "Base", "key_letter": "B",
+          "classes": [ { "name": "Person", "attributes": [ { "name": "ID", "attribute_type": "naming" } ] } ] }
+        """);
+    Files.writeString(tempDir.resolve("c-app.json"), """
+        { "name": "App", "key_letter": "A",
+          "classes": [ { "name": "Student", "inherits_from": "Person" } ] }
+        """);
+
+    List<Path> inputs = ModelInputs.resolve(tempDir.toString());
+    XtumlModel model = parser.parseFromFiles(inputs);
+
+    assertEquals(3, inputs.size());
+    assertEquals("MultiSystem", model.getSystemName());
+    assertEquals("2.0.0", model.getVersion());
+    assertEquals(List.of("Base", "App"), model.getDomains().stream().map(d -> d.getName()).toList());
+  }
+
+  @Test
+  @DisplayName("Dengan reuseUnchangedFiles, hanya file yang berubah yang di-parse ulang")
+  void testParseMultipleFilesReusesUnchangedFragments(@TempDir Path tempDir) throws Exception {
+    Files.writeString(tempDir.resolve("base.json"), """
+        { "name": "Base", "key_letter": "B",
+          "classes": [ { "name": "Person", "attributes": [ { "name": "ID", "attribute_type": "naming" } ] } ] }
+        """);
+    Path app = tempDir.resolve("app.json");
+    Files.writeString(app, """
+        { "name": "App", "key_letter": "A",
+          "classes": [ { "name": "Student", "inherits_from": "Person" } ] }
+        """);
+    parser.setReuseUnchangedFiles(true);
+    List<Path> inputs = ModelInputs.resolve(tempDir.toString());
+
+    XtumlModel first = parser.parseFromFiles(inputs);
+    Files.writeString(app, """
+        { "name": "App", "key_letter": "A",
+          "classes": [ { "name": "Student", "inherits_from": "Person" }, { "name": "Lecturer", "inherits_from": "Person" } ] }
+        """);
+    XtumlModel second = parser.parseFromFiles(inputs);
+
+    // Domain Base tidak berubah: objek class yang sama dipakai ulang
+    assertSame(first.getDomains().get(1).getClasses().get(0), second.getDomains().get(1).getClasses().get(0));
+    assertEquals(2, second.getDomains().get(0).getClasses().size());
+    assertNotSame(first.getDomains().get(0).getClasses().get(0), second.getDomains().get(0).getClasses().get(0));
+  }
+
+  @Test
+  @DisplayName("Parse beberapa file gagal dan melaporkan semua referensi yang tidak ter-resolve")
+  void testParseMultipleFilesUnresolved(@TempDir Path tempDir) throws Exception {
+    Files.writeString(tempDir.resolve("app.json"), """
+        { "name": "App", "key_letter": "A",
+          "classes": [ { "name": "Student", "inherits_from": "Missing" } ],
+          "relationships": [ { "relationship_id": "R1", "participants": [ { "class_name": "Ghost" } ] } ] }
+        """);
+
+    XtumlParseException exception = assertThrows(
+        XtumlParseException.class,
+        () -> parser.parseFromFiles(ModelInputs.resolve(tempDir.toString())));
+
+    assertTrue(exception.getMessage().contains("Missing"));
+    assertTrue(exception.getMessage().contains("Ghost"));
+  }
+
+  @Test
+  @DisplayName("Parse domain tertentu saja beserta parent class dari domain lain")
+  void testParseSelectedDomains(@TempDir Path tempDir) throws Exception {
+    Path input = tempDir.resolve("model.json");
+    Files.writeString(input, """
+        {
+          "system_name": "Selective",
+          "version": "1.0.0",
+          "domains": [
+            { "name": "Base", "key_letter": "B",
+              "classes": [ { "name": "Person" }, { "name": "Unused" } ] },
+            { "name": "App", "key_letter": "A",
+              "classes": [ { "name": "Student", "inherits_from": "Person" } ] },
+            { "name": "Other", "key_letter": "O",
+              "classes": [ { "name": "Room" } ] }
+          ]
+        }
+        """);
+
+    XtumlModel model = parser.parseDomains(input, List.of("App"));
+
+    assertTrue(Files.exists(DomainIndex.indexPathFor(input)));
+    assertEquals(List.of("Base", "App"), model.getDomains().stream().map(d -> d.getName()).toList());
+    assertEquals(List.of("Person"),
+        model.getDomains().get(0).getClasses().stream().map(c -> c.getName()).toList());
+    assertThrows(XtumlParseException.class, () -> parser.parseDomains(input, List.of("Missing")));
+  }
+
+  @Test
+  @DisplayName("Parse model dari file .json.gz dan dari stream terkompresi")
+  void testParseGzipInput(@TempDir Path tempDir) throws Exception {
+    Path input = tempDir.resolve("model.json.gz");
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(input))) {
+      Files.copy(Paths.get("xtuml-model.json"), out);
+    }
+
+    XtumlModel expected = parser.parseFromFile(Paths.get("xtuml-model.json"));
+    XtumlModel fromFile = parser.parseFromFile(input);
+    assertEquals(expected.getSystemName(), fromFile.getSystemName());
+    assertEquals(expected.getDomains().size(), fromFile.getDomains().size());
+
+    try (InputStream in = Files.newInputStream(input)) {
+      XtumlModel fromStream = parser.parseFromStream(in);
+      assertEquals(expected.getDomains().get(0).getClasses().size(),
+          fromStream.getDomains().get(0).getClasses().size());
+    }
+  }
+
+  @Test
+  @DisplayName("Parse model dalam format Smile dan CBOR menghasilkan model yang sama dengan JSON")
+  void testParseBinaryFormats(@TempDir Path tempDir) throws Exception {
+    XtumlModel expected = parser.parseFromFile(Paths.get("xtuml-model.json"));
+
+    for (ModelFormat format : List.of(ModelFormat.SMILE, ModelFormat.CBOR)) {
+      Path input = tempDir.resolve("model" + format.getExtension());
+      format.newMapper().writeValue(input.toFile(), expected);
+
+      XtumlModel fromFile = parser.parseFromFile(input);
+      assertEquals(expected.getSystemName(), fromFile.getSystemName());
+      assertEquals(expected.getDomains().get(0).getClasses().size(),
+          fromFile.getDomains().get(0).getClasses().size());
+
+      try (InputStream in = Files.newInputStream(input)) {
+        assertEquals(format, ModelFormat.detect(new BufferedInputStream(in)));
+      }
+    }
+  }
+
+}
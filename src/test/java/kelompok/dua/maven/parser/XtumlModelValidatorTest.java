@@ -0,0 +1,135 @@
+package kelompok.dua.maven.parser;
+
+import kelompok.dua.maven.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit test untuk XtumlModelValidator
+ */
+public class XtumlModelValidatorTest {
+
+  @Test
+  @DisplayName("Parser melaporkan seluruh referensi rusak dalam satu exception")
+  void testReportsAllDiagnostics() throws Exception {
+    String json = """
+        {
+          "system_name": "Broken",
+          "version": "1.0.0",
+          "domains": [
+            {
+              "name": "Akademik",
+              "key_letter": "AK",
+              "classes": [
+                { "name": "Person", "key_letter": "P" },
+                { "name": "Student", "key_letter": "S", "inherits_from": "Persn",
+                  "state_machine": {
+                    "initial_state": "Aktif",
+                    "states": [ { "name": "Aktif" }, { "name": "Cuti" } ],
+                    "transitions": [ { "from_state": "Aktif", "to_state": "Libur", "event": "libur" } ]
+                  } }
+              ],
+              "relationships": [
+                { "relationship_id": "R1",
+                  "participants": [ { "class_name": "Student" }, { "class_name": "Course" } ] }
+              ]
+            }
+          ]
+        }
+        """;
+
+    XtumlValidationException exception = assertThrows(XtumlValidationException.class,
+        () -> new XtumlModelParser().parseFromString(json));
+
+    List<String> messages = exception.getDiagnostics().stream().filter(ModelDiagnostic::isError)
+        .map(ModelDiagnostic::toString).toList();
+    assertEquals(3, messages.size(), messages.toString());
+    assertTrue(messages.get(0).contains("Persn"));
+    assertTrue(messages.get(1).contains("Libur"));
+    assertTrue(messages.get(2).contains("Course"));
+
+    // Exception beserta seluruh diagnostic-nya dapat diserialisasi
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(exception);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      XtumlValidationException copy = (XtumlValidationException) in.readObject();
+      assertEquals(exception.getDiagnostics().toString(), copy.getDiagnostics().toString());
+      assertEquals(3, copy.getErrorCount());
+    }
+  }
+
+  @Test
+  @DisplayName("State tanpa transition keluar dilaporkan sebagai info tanpa menggagalkan parsing")
+  void testDeadEndStatesReportedAsInfo() throws Exception {
+    String json = """
+        {
+          "system_name": "Akademik",
+          "version": "1.0.0",
+          "domains": [
+            {
+              "name": "Akademik",
+              "key_letter": "AK",
+              "classes": [
+                { "name": "Student", "key_letter": "S",
+                  "state_machine": {
+                    "initial_state": "Aktif",
+                    "states": [ { "name": "Aktif" }, { "name": "Cuti" }, { "name": "Lulus" }, { "name": "Arsip" } ],
+                    "transitions": [
+                      { "from_state": "Aktif", "to_state": "Cuti", "event": "cuti" },
+                      { "from_state": "Cuti", "to_state": "Aktif", "event": "kembali" },
+                      { "from_state": "Aktif", "to_state": "Lulus", "event": "lulus" }
+                    ]
+                  } }
+              ]
+            }
+          ]
+        }
+        """;
+
+    XtumlModelParser parser = new XtumlModelParser();
+    parser.parseFromString(json);
+
+    List<ModelDiagnostic> infos = parser.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getSeverity() == ModelDiagnostic.Severity.INFO).toList();
+    assertEquals(2, infos.size(), infos.toString());
+    assertTrue(infos.get(0).getMessage().contains("'Lulus'"));
+    assertTrue(infos.get(1).getMessage().contains("'Arsip'"));
+    assertEquals("class 'Student' > state_machine", infos.get(0).getLocation());
+    assertTrue(parser.getDiagnostics().stream().anyMatch(diagnostic -> diagnostic.getMessage().contains("tidak dapat dicapai")));
+  }
+
+  @Test
+  @DisplayName("Validasi mendeteksi siklus inheritance dan tetap linear pada model besar")
+  void testInheritanceCycleOnLargeModel() {
+    List<Domain> domains = new ArrayList<>();
+    for (int d = 0; d < 10; d++) {
+      List<ClassDefinition> classes = new ArrayList<>();
+      for (int c = 0; c < 1000; c++) {
+        ClassDefinition classDef = new ClassDefinition();
+        classDef.setName("C" + d + "_" + c);
+        classDef.setKeyLetter("K" + c);
+        classDef.setInheritsFrom(c > 0 ? "C" + d + "_" + (c - 1) : null);
+        classes.add(classDef);
+      }
+      domains.add(new Domain("D" + d, "D" + d, classes, null));
+    }
+    domains.get(3).getClasses().get(0).setInheritsFrom("C3_999");
+
+    List<ModelDiagnostic> diagnostics = new XtumlModelValidator()
+        .validate(new XtumlModel("Large", "1.0.0", domains));
+
+    List<ModelDiagnostic> errors = diagnostics.stream().filter(ModelDiagnostic::isError).toList();
+    assertEquals(1, errors.size(), errors.toString());
+    assertTrue(errors.get(0).getMessage().startsWith("Siklus inheritance"));
+  }
+}
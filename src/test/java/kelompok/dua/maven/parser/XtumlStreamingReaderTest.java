@@ -0,0 +1,82 @@
+package kelompok.dua.maven.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kelompok.dua.maven.model.ClassDefinition;
+import kelompok.dua.maven.model.XtumlModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class untuk XtumlStreamingReader
+ */
+class XtumlStreamingReaderTest {
+
+  @Test
+  @DisplayName("Streaming reader menghasilkan model yang sama dengan databind")
+  void testStreamingMatchesDatabind() throws Exception {
+    Path modelPath = Paths.get("xtuml-model.json");
+    ObjectMapper mapper = new ObjectMapper();
+
+    XtumlModel expected = mapper.readValue(modelPath.toFile(), XtumlModel.class);
+    XtumlModel actual = new XtumlStreamingReader().readModel(modelPath);
+
+    assertEquals(mapper.writeValueAsString(expected), mapper.writeValueAsString(actual));
+  }
+
+  @Test
+  @DisplayName("Handler menerima class satu per satu beserta info domain")
+  void testHandlerCallbacks() throws Exception {
+    String json = """
+        {
+          "domains": [
+            { "classes": [ { "name": "A" }, { "name": "B" } ], "name": "D1", "key_letter": "D" }
+          ],
+          "system_name": "S",
+          "version": "1"
+        }
+        """;
+    List<String> events = new ArrayList<>();
+
+    new XtumlStreamingReader().read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+        new XtumlModelHandler() {
+          @Override
+          public void onClass(ClassDefinition classDef) {
+            events.add("class:" + classDef.getName());
+          }
+
+          @Override
+          public void onDomainEnd(String name, String keyLetter) {
+            events.add("domain:" + name);
+          }
+
+          @Override
+          public void onModelInfo(String systemName, String version) {
+            events.add("model:" + systemName);
+          }
+        });
+
+    assertEquals(List.of("class:A", "class:B", "domain:D1", "model:S"), events);
+  }
+
+  @Test
+  @DisplayName("Field yang tidak dikenal ditolak seperti databind")
+  void testUnknownFieldRejected() {
+    String json = """
+        { "system_name": "S", "version": "1", "domains": [ { "name": "D", "bogus": 1 } ] }
+        """;
+
+    XtumlParseException exception = assertThrows(
+        XtumlParseException.class,
+        () -> new XtumlStreamingReader().readModel(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+
+    assertTrue(exception.getMessage().contains("bogus"));
+  }
+}
@@ -0,0 +1,54 @@
+package kelompok.dua.maven.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kelompok.dua.maven.model.XtumlModel;
+import kelompok.dua.maven.parser.XtumlModelParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Test class untuk snapshot model (.xtmc)
+ */
+class ModelSnapshotTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("Snapshot menghasilkan model yang sama dengan hasil parsing")
+  void testRoundTrip() throws Exception {
+    Path input = tempDir.resolve("model.json");
+    Files.copy(Paths.get("xtuml-model.json"), input);
+    XtumlModel parsed = new XtumlModelParser().parseFromFile(input);
+
+    Path snapshotPath = ModelSnapshotWriter.snapshotPathFor(input);
+    ModelSnapshotWriter.write(parsed, input, snapshotPath);
+    XtumlModel loaded = ModelSnapshotReader.load(snapshotPath);
+
+    ObjectMapper mapper = new ObjectMapper();
+    assertEquals(tempDir.resolve("model.xtmc"), snapshotPath);
+    assertEquals(mapper.writeValueAsString(parsed), mapper.writeValueAsString(loaded));
+    assertSame(loaded.getDomains().get(0).getClasses().get(0), loaded.getDomains().get(0).getClasses().get(0));
+  }
+
+  @Test
+  @DisplayName("Snapshot dianggap basi setelah file sumber berubah")
+  void testStaleAfterSourceChange() throws Exception {
+    Path input = tempDir.resolve("model.json");
+    Files.copy(Paths.get("xtuml-model.json"), input);
+    Path snapshotPath = ModelSnapshotWriter.snapshotPathFor(input);
+    ModelSnapshotWriter.write(new XtumlModelParser().parseFromFile(input), input, snapshotPath);
+
+    assertTrue(ModelSnapshotReader.isFresh(snapshotPath, input));
+
+    Files.setLastModifiedTime(input, FileTime.fromMillis(Files.getLastModifiedTime(input).toMillis() + 5000));
+    assertFalse(ModelSnapshotReader.isFresh(snapshotPath, input));
+  }
+}
@@ -0,0 +1,36 @@
+package kelompok.dua.maven.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit test untuk FileWatcher
+ */
+public class FileWatcherTest {
+
+  @Test
+  @DisplayName("Rentetan perubahan dilaporkan sekaligus dan file yang tidak lolos filter diabaikan")
+  void testDebouncesBurstOfChanges(@TempDir Path tempDir) throws Exception {
+    Path first = tempDir.resolve("a.json");
+    Path second = tempDir.resolve("b.json");
+    try (FileWatcher watcher = new FileWatcher(List.of(tempDir), false,
+        path -> path.toString().endsWith(".json"), Duration.ofMillis(300))) {
+      Files.writeString(first, "{}");
+      Files.writeString(tempDir.resolve("notes.txt"), "ignored");
+      Files.writeString(second, "{}");
+      Files.writeString(first, "{ }");
+
+      Set<Path> changed = assertTimeoutPreemptively(Duration.ofSeconds(30), watcher::awaitChanges);
+
+      assertEquals(Set.of(first.toAbsolutePath().normalize(), second.toAbsolutePath().normalize()), changed);
+    }
+  }
+}
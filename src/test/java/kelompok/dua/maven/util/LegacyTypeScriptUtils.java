@@ -0,0 +1,83 @@
+package kelompok.dua.maven.util;
+
+/**
+ * Salinan konverter nama TypeScriptUtils versi berbasis regex, dipakai sebagai
+ * acuan kesetaraan output dan pembanding di benchmark
+ */
+final class LegacyTypeScriptUtils {
+
+  private LegacyTypeScriptUtils() {
+  }
+
+  static String toPascalCase(String input) {
+    if (input == null || input.isEmpty()) {
+      return input;
+    }
+
+    if (Character.isUpperCase(input.charAt(0)) && !input.equals(input.toUpperCase())
+        && !input.equals(input.toLowerCase())) {
+      return Character.toUpperCase(input.charAt(0)) + input.substring(1);
+    }
+
+    String[] words = input.split("[\\s_-]+");
+    StringBuilder result = new StringBuilder();
+    for (String word : words) {
+      if (word.length() > 0) {
+        result.append(Character.toUpperCase(word.charAt(0)))
+            .append(word.substring(1).toLowerCase());
+      }
+    }
+    return result.toString();
+  }
+
+  static String toCamelCase(String input) {
+    if (input == null || input.isEmpty()) {
+      return input;
+    }
+
+    String pascalCase = toPascalCase(input);
+    if (pascalCase.length() > 0) {
+      return Character.toLowerCase(pascalCase.charAt(0)) + pascalCase.substring(1);
+    }
+    return pascalCase;
+  }
+
+  static String toKebabCase(String input) {
+    if (input == null || input.isEmpty()) {
+      return input;
+    }
+
+    String result = input.replaceAll("([a-z])([A-Z])", "$1-$2");
+    result = result.replaceAll("([A-Z]+)([A-Z][a-z])", "$1-$2");
+    result = result.replaceAll("[\\s_]+", "-");
+    result = result.toLowerCase();
+    result = result.replaceAll("-+", "-");
+    result = result.replaceAll("^-+|-+$", "");
+    return result;
+  }
+
+  static boolean isReservedKeyword(String name) {
+    if (name == null) {
+      return false;
+    }
+
+    String[] keywords = {
+        "abstract", "any", "as", "asserts", "boolean", "break", "case", "catch", "class",
+        "const", "continue", "debugger", "declare", "default", "delete", "do", "else",
+        "enum", "export", "extends", "false", "finally", "for", "from", "function",
+        "get", "if", "implements", "import", "in", "instanceof", "interface", "is",
+        "keyof", "let", "module", "namespace", "never", "new", "null", "number",
+        "object", "package", "private", "protected", "public", "readonly", "require",
+        "return", "set", "static", "string", "super", "switch", "symbol", "this",
+        "throw", "true", "try", "type", "typeof", "undefined", "unique", "unknown",
+        "var", "void", "while", "with", "yield"
+    };
+
+    for (String keyword : keywords) {
+      if (keyword.equals(name.toLowerCase())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
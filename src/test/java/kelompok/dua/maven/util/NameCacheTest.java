@@ -0,0 +1,72 @@
+package kelompok.dua.maven.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit test untuk NameCache
+ */
+public class NameCacheTest {
+
+  @Test
+  @DisplayName("Konversi dihitung sekali per jenis dan cache tidak melewati batas")
+  void testHitMissAndBound() {
+    NameCache cache = new NameCache(2);
+    AtomicInteger calls = new AtomicInteger();
+
+    assertEquals("x-a", cache.get(NameCache.Kind.KEBAB_CASE, "a", s -> { calls.incrementAndGet(); return "x-" + s; }));
+    assertEquals("x-a", cache.get(NameCache.Kind.KEBAB_CASE, "a", s -> { calls.incrementAndGet(); return "x-" + s; }));
+    // Jenis konversi berbeda memakai entry berbeda
+    assertEquals("A", cache.get(NameCache.Kind.PASCAL_CASE, "a", String::toUpperCase));
+    assertEquals(1, calls.get());
+    assertEquals(1, cache.getHits());
+    assertEquals(2, cache.getMisses());
+
+    cache.get(NameCache.Kind.KEBAB_CASE, "b", s -> s);
+    cache.get(NameCache.Kind.KEBAB_CASE, "c", s -> s);
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  @DisplayName("Cache yang penuh tetap menyimpan key baru dengan mengeluarkan entry yang tidak dipakai")
+  void testEvictsWhenFull() {
+    NameCache cache = new NameCache(100);
+    for (int i = 0; i < 100; i++) {
+      cache.get(NameCache.Kind.PASCAL_CASE, "lama" + i, String::toUpperCase);
+    }
+    // Entry yang masih dipakai mendapat kesempatan kedua
+    cache.get(NameCache.Kind.PASCAL_CASE, "lama0", String::toUpperCase);
+
+    AtomicInteger calls = new AtomicInteger();
+    for (int round = 0; round < 2; round++) {
+      for (int i = 0; i < 50; i++) {
+        cache.get(NameCache.Kind.PASCAL_CASE, "baru" + i, s -> { calls.incrementAndGet(); return s.toUpperCase(); });
+      }
+    }
+    assertEquals(50, calls.get());
+    assertEquals(100, cache.size());
+    assertEquals(50, cache.getEvictions());
+
+    long misses = cache.getMisses();
+    assertEquals("LAMA0", cache.get(NameCache.Kind.PASCAL_CASE, "lama0", s -> "lain"));
+    assertEquals(misses, cache.getMisses());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getEvictions());
+  }
+
+  @Test
+  @DisplayName("Hasil TypeScriptUtils sama saat cache sudah terisi")
+  void testTypeScriptUtilsCached() {
+    assertEquals("MataKuliah", TypeScriptUtils.toPascalCase("mata_kuliah"));
+    long hits = TypeScriptUtils.getNameCache().getHits();
+    assertEquals("MataKuliah", TypeScriptUtils.toPascalCase("mata_kuliah"));
+    assertEquals("IMataKuliah", TypeScriptUtils.toInterfaceName("mata_kuliah"));
+    assertEquals("mata-kuliah", TypeScriptUtils.toKebabCase("MataKuliah"));
+    assertTrue(TypeScriptUtils.getNameCache().getHits() > hits);
+  }
+}
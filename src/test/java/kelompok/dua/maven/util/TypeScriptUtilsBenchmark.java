@@ -0,0 +1,81 @@
+package kelompok.dua.maven.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH konverter nama versi regex (legacy) dibanding versi satu-scan.
+ * Hanya dikompilasi dengan profile benchmark:
+ * mvn -Pbenchmark test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeScriptUtilsBenchmark {
+  private static final String[] NAMES = {
+      "ambilCuti", "XMLParser", "mata_kuliah", "Mata Kuliah", "ID", "tanggal-lahir",
+      "MahasiswaAktif", "nomor_induk_pegawai", "class", "Status"
+  };
+
+  @Benchmark
+  public void pascalCaseLegacy(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(LegacyTypeScriptUtils.toPascalCase(name));
+    }
+  }
+
+  @Benchmark
+  public void pascalCaseScanner(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(TypeScriptUtils.computePascalCase(name));
+    }
+  }
+
+  @Benchmark
+  public void kebabCaseLegacy(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(LegacyTypeScriptUtils.toKebabCase(name));
+    }
+  }
+
+  @Benchmark
+  public void kebabCaseScanner(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(TypeScriptUtils.computeKebabCase(name));
+    }
+  }
+
+  @Benchmark
+  public void keywordLegacy(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(LegacyTypeScriptUtils.isReservedKeyword(name));
+    }
+  }
+
+  @Benchmark
+  public void keywordPerfectHash(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(TypeScriptUtils.isReservedKeyword(name));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TypeScriptUtilsBenchmark.class.getSimpleName()).build()).run();
+  }
+}
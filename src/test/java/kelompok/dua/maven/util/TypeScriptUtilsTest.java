@@ -0,0 +1,61 @@
+package kelompok.dua.maven.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Unit test untuk TypeScriptUtils
+ */
+public class TypeScriptUtilsTest {
+  private static final String ALPHABET = "aAbBxXzZ09_- \t.İıßK";
+
+  @Test
+  @DisplayName("Konverter satu-scan menghasilkan output identik dengan versi regex")
+  void testConvertersMatchLegacy() {
+    for (String input : inputs()) {
+      assertEquals(LegacyTypeScriptUtils.toPascalCase(input), TypeScriptUtils.computePascalCase(input), input);
+      assertEquals(LegacyTypeScriptUtils.toCamelCase(input), TypeScriptUtils.computeCamelCase(input), input);
+      assertEquals(LegacyTypeScriptUtils.toKebabCase(input), TypeScriptUtils.computeKebabCase(input), input);
+      assertEquals(LegacyTypeScriptUtils.isReservedKeyword(input), TypeScriptUtils.isReservedKeyword(input), input);
+    }
+  }
+
+  @Test
+  @DisplayName("Locale Turki memakai jalur lama sehingga output tetap identik")
+  void testTurkishLocale() {
+    Locale previous = Locale.getDefault();
+    try {
+      Locale.setDefault(new Locale("tr", "TR"));
+      for (String input : List.of("ID", "IF", "MATA_KULIAH", "Ilmu Komputer", "kelas_Inti")) {
+        assertEquals(LegacyTypeScriptUtils.toPascalCase(input), TypeScriptUtils.computePascalCase(input), input);
+        assertEquals(LegacyTypeScriptUtils.toKebabCase(input), TypeScriptUtils.computeKebabCase(input), input);
+        assertEquals(LegacyTypeScriptUtils.isReservedKeyword(input), TypeScriptUtils.isReservedKeyword(input), input);
+      }
+    } finally {
+      Locale.setDefault(previous);
+    }
+  }
+
+  private static List<String> inputs() {
+    List<String> inputs = new ArrayList<>(List.of("", "ambilCuti", "XMLParser", "mata_kuliah", "Mata Kuliah",
+        "ID", "__init__", "-a--b-", "aBCd", "ABcDEf", "ABCdEf", "IF", "Class", "Keyof", "nama\u000Bdosen"));
+    Random random = new Random(42);
+    for (int i = 0; i < 20_000; i++) {
+      StringBuilder builder = new StringBuilder();
+      int length = 1 + random.nextInt(10);
+      for (int j = 0; j < length; j++) {
+        // Mayoritas ASCII agar jalur cepat teruji, sesekali karakter non-ASCII
+        int bound = random.nextInt(10) == 0 ? ALPHABET.length() : ALPHABET.length() - 4;
+        builder.append(ALPHABET.charAt(random.nextInt(bound)));
+      }
+      inputs.add(builder.toString());
+    }
+    return inputs;
+  }
+}